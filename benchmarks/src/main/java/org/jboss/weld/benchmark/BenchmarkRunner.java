@@ -0,0 +1,242 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and compares the results with a baseline. The baseline is a properties file which maps a benchmark (the
+ * benchmark method name followed by the parameters, if any) to its score. Something like:
+ * <code>
+ * org.jboss.weld.benchmark.EventBenchmark.fire[observers\=10]=1234567.0
+ * </code>
+ * <p>
+ * A result is considered a regression if it is worse than the baseline score by more than the tolerance (10% by default,
+ * configurable using the <code>weld.benchmark.tolerance</code> system property). Throughput scores are expected not to drop,
+ * time scores are expected not to grow. A benchmark without a baseline score fails the run as well, so that a benchmark cannot
+ * silently go unchecked. The process exits with status 1 if a regression is found so that a CI job fails.
+ * <p>
+ * If the <code>weld.benchmark.update</code> system property is set to <code>true</code>, the baseline scores of the benchmarks
+ * run are replaced with their results instead. The comment lines at the beginning of the file are kept. The baseline should
+ * only be updated using results measured on the CI machine.
+ */
+public class BenchmarkRunner {
+
+    private static final String UPDATE = "weld.benchmark.update";
+    private static final String TOLERANCE = "weld.benchmark.tolerance";
+    private static final double DEFAULT_TOLERANCE = 0.1;
+    private static final String DEFAULT_INCLUDE = ".*Benchmark.*";
+    // the encoding of properties files, other characters are escaped by Properties.store()
+    private static final String ENCODING = "ISO-8859-1";
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    private final File baselineFile;
+    private final double tolerance;
+
+    public BenchmarkRunner(File baselineFile, double tolerance) {
+        this.baselineFile = baselineFile;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Compares the results with the baseline.
+     *
+     * @return the descriptions of the regressions and of the benchmarks without a baseline score
+     */
+    public List<String> compare(Collection<RunResult> results) throws IOException {
+        Properties baseline = load();
+        List<String> regressions = new ArrayList<String>();
+        for (RunResult result : results) {
+            String key = getKey(result.getParams());
+            double score = result.getPrimaryResult().getScore();
+            String unit = result.getPrimaryResult().getScoreUnit();
+            String value = baseline.getProperty(key);
+            if (value == null || value.trim().length() == 0) {
+                System.out.println(key + ": " + score + " " + unit + " (no baseline)");
+                regressions.add(key + ": " + score + " " + unit + ", no baseline");
+                continue;
+            }
+            double expected = Double.parseDouble(value.trim());
+            System.out.println(key + ": " + score + " " + unit + " (baseline " + expected + ")");
+            if (isRegression(result.getParams().getMode(), score, expected)) {
+                regressions.add(key + ": " + score + " " + unit + ", baseline " + expected);
+            }
+        }
+        return regressions;
+    }
+
+    private boolean isRegression(Mode mode, double score, double expected) {
+        if (Mode.Throughput.equals(mode)) {
+            return score < expected * (1 - tolerance);
+        } else {
+            return score > expected * (1 + tolerance);
+        }
+    }
+
+    /**
+     * Replaces the baseline scores of the given benchmarks with their results. The scores of other benchmarks and the comment
+     * lines at the beginning of the baseline file are kept.
+     */
+    public void update(Collection<RunResult> results) throws IOException {
+        Properties baseline = load();
+        for (RunResult result : results) {
+            baseline.setProperty(getKey(result.getParams()), String.valueOf(result.getPrimaryResult().getScore()));
+        }
+        // let Properties escape the entries, then drop the timestamp comment it writes first
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        baseline.store(stored, null);
+        List<String> entries = new ArrayList<String>();
+        for (String line : readLines(new StringReader(stored.toString(ENCODING)))) {
+            if (!isComment(line)) {
+                entries.add(line);
+            }
+        }
+        Collections.sort(entries);
+
+        List<String> lines = new ArrayList<String>(readHeader());
+        lines.addAll(entries);
+        Writer out = new OutputStreamWriter(new FileOutputStream(baselineFile), ENCODING);
+        try {
+            for (String line : lines) {
+                out.write(line);
+                out.write(LINE_SEPARATOR);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Returns the comment and blank lines at the beginning of the baseline file.
+     */
+    private List<String> readHeader() throws IOException {
+        if (!baselineFile.exists()) {
+            return Collections.emptyList();
+        }
+        List<String> header = new ArrayList<String>();
+        Reader in = new InputStreamReader(new FileInputStream(baselineFile), ENCODING);
+        try {
+            for (String line : readLines(in)) {
+                if (!isComment(line) && line.trim().length() > 0) {
+                    break;
+                }
+                header.add(line);
+            }
+        } finally {
+            in.close();
+        }
+        return header;
+    }
+
+    private static List<String> readLines(Reader reader) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        BufferedReader in = new BufferedReader(reader);
+        String line;
+        while ((line = in.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static boolean isComment(String line) {
+        String trimmed = line.trim();
+        return trimmed.startsWith("#") || trimmed.startsWith("!");
+    }
+
+    private Properties load() throws IOException {
+        Properties baseline = new Properties();
+        if (baselineFile.exists()) {
+            InputStream in = new FileInputStream(baselineFile);
+            try {
+                baseline.load(in);
+            } finally {
+                in.close();
+            }
+        }
+        return baseline;
+    }
+
+    static String getKey(BenchmarkParams params) {
+        StringBuilder key = new StringBuilder(params.getBenchmark());
+        if (!params.getParamsKeys().isEmpty()) {
+            key.append('[');
+            boolean first = true;
+            for (String param : params.getParamsKeys()) {
+                if (!first) {
+                    key.append(',');
+                }
+                key.append(param).append('=').append(params.getParam(param));
+                first = false;
+            }
+            key.append(']');
+        }
+        return key.toString();
+    }
+
+    /**
+     * The main method called from the command line.
+     *
+     * @param args the baseline file and optionally a regular expression selecting the benchmarks to run
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        if (args.length < 1 || args.length > 2) {
+            throw new IllegalArgumentException("Usage: BenchmarkRunner <baseline file> [benchmark regexp]");
+        }
+        String include = args.length > 1 ? args[1] : DEFAULT_INCLUDE;
+        double tolerance = Double.parseDouble(System.getProperty(TOLERANCE, String.valueOf(DEFAULT_TOLERANCE)));
+        BenchmarkRunner runner = new BenchmarkRunner(new File(args[0]), tolerance);
+
+        Collection<RunResult> results = new Runner(new OptionsBuilder().include(include).build()).run();
+
+        if (Boolean.getBoolean(UPDATE)) {
+            runner.update(results);
+            return;
+        }
+        List<String> regressions = runner.compare(results);
+        if (!regressions.isEmpty()) {
+            System.out.println("Regressions found:");
+            for (String regression : regressions) {
+                System.out.println(regression);
+            }
+            System.out.println("A missing baseline score is generated on the CI machine by running the benchmarks with -D" + UPDATE + "=true");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import org.jboss.weld.benchmark.beans.ApplicationScopedBean;
+import org.jboss.weld.benchmark.beans.DependentBean;
+import org.jboss.weld.benchmark.beans.RequestScopedBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Invokes a method of a bean through its client proxy. {@link DependentBean} has no client proxy and serves as the reference.
+ */
+@State(Scope.Thread)
+public class ClientProxyBenchmark {
+
+    private ApplicationScopedBean applicationScopedBean;
+    private RequestScopedBean requestScopedBean;
+    private DependentBean dependentBean;
+
+    @Setup
+    public void setup(WeldContainerState weld, RequestContextState requestContext) {
+        applicationScopedBean = weld.getReference(ApplicationScopedBean.class);
+        requestScopedBean = weld.getReference(RequestScopedBean.class);
+        dependentBean = weld.getReference(DependentBean.class);
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return applicationScopedBean.getValue();
+    }
+
+    @Benchmark
+    public int requestScoped(RequestContextState requestContext) {
+        return requestScopedBean.getValue();
+    }
+
+    @Benchmark
+    public int dependent() {
+        return dependentBean.getValue();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.benchmark.beans.DependentRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Creates and destroys a graph of seven dependent instances.
+ */
+@State(Scope.Thread)
+public class DependentGraphBenchmark {
+
+    private BeanManager manager;
+    private Bean<?> bean;
+
+    @Setup
+    public void setup(WeldContainerState weld) {
+        manager = weld.getBeanManager();
+        bean = manager.resolve(manager.getBeans(DependentRoot.class));
+    }
+
+    @Benchmark
+    public int createAndDestroy() {
+        CreationalContext<?> ctx = manager.createCreationalContext(bean);
+        DependentRoot root = (DependentRoot) manager.getReference(bean, DependentRoot.class, ctx);
+        int size = root.size();
+        ctx.release();
+        return size;
+    }
+}
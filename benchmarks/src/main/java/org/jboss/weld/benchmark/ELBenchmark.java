@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.el.FunctionMapper;
+import javax.el.VariableMapper;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Resolves EL names using the Weld EL resolver, i.e. the name table lookup followed by obtaining the client proxy or the
+ * dependent instance.
+ * <p>
+ * {@link #resolveView()} mimics rendering a JSF view: every identifier of the view is offered to the Weld EL resolver, including
+ * the ones which are not bean names (e.g. loop variables and implicit objects resolved by other resolvers of the chain).
+ */
+@State(Scope.Thread)
+public class ELBenchmark {
+
+    private static final String NORMAL_SCOPED_NAME = "namedBean";
+    private static final String DEPENDENT_NAME = "dependentBean";
+    private static final String UNKNOWN_NAME = "unknownBean";
+    private static final String[] VIEW_NAMES = { NORMAL_SCOPED_NAME, "item", "row", "param", "item", "row",
+            NORMAL_SCOPED_NAME, "facesContext", "item", "status", "row", "view", "item", "row", "cc" };
+
+    private ELResolver resolver;
+    private ELContext context;
+
+    @Setup
+    public void setup(WeldContainerState weld) {
+        resolver = BeanManagerProxy.unwrap(weld.getBeanManager()).getELResolver();
+        context = new BenchmarkELContext(resolver);
+    }
+
+    @Benchmark
+    public Object resolveNormalScoped() {
+        return resolve(NORMAL_SCOPED_NAME);
+    }
+
+    @Benchmark
+    public Object resolveDependent() {
+        return resolve(DEPENDENT_NAME);
+    }
+
+    @Benchmark
+    public Object resolveUnknown() {
+        return resolve(UNKNOWN_NAME);
+    }
+
+    @Benchmark
+    public int resolveView() {
+        int resolved = 0;
+        for (String name : VIEW_NAMES) {
+            if (resolve(name) != null) {
+                resolved++;
+            }
+        }
+        return resolved;
+    }
+
+    private Object resolve(String name) {
+        // the same context is reused for every evaluation, as a per-request context would be
+        context.setPropertyResolved(false);
+        return resolver.getValue(context, null, name);
+    }
+
+    /**
+     * The smallest possible {@link ELContext}. The Weld EL resolver only needs the context to mark the property as resolved
+     * and to keep the creational context stack used for dependent instances.
+     */
+    private static class BenchmarkELContext extends ELContext {
+
+        private final ELResolver resolver;
+
+        BenchmarkELContext(ELResolver resolver) {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public ELResolver getELResolver() {
+            return resolver;
+        }
+
+        @Override
+        public FunctionMapper getFunctionMapper() {
+            return null;
+        }
+
+        @Override
+        public VariableMapper getVariableMapper() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.weld.benchmark.beans.ObserversLiteral;
+import org.jboss.weld.benchmark.beans.Payload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Fires an event observed by the given number of observers (see {@link ObserverExtension}).
+ */
+@State(Scope.Thread)
+public class EventBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int observers;
+
+    private Event<Payload> event;
+    private Payload payload;
+
+    @Setup
+    public void setup(WeldContainerState weld) {
+        event = weld.getContainer().event().select(Payload.class, new ObserversLiteral(observers));
+        payload = new Payload(1);
+    }
+
+    @Benchmark
+    public void fire() {
+        event.fire(payload);
+    }
+}
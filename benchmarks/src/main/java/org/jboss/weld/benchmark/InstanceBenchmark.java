@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import javax.enterprise.inject.Instance;
+
+import org.jboss.weld.benchmark.beans.ApplicationScopedBean;
+import org.jboss.weld.benchmark.beans.DependentBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Obtains bean instances using {@link Instance#get()}.
+ */
+@State(Scope.Thread)
+public class InstanceBenchmark {
+
+    private Instance<ApplicationScopedBean> applicationScopedInstance;
+    private Instance<DependentBean> dependentInstance;
+
+    @Setup
+    public void setup(WeldContainerState weld) {
+        applicationScopedInstance = weld.getContainer().instance().select(ApplicationScopedBean.class);
+        dependentInstance = weld.getContainer().instance().select(DependentBean.class);
+    }
+
+    @Benchmark
+    public ApplicationScopedBean applicationScoped() {
+        return applicationScopedInstance.get();
+    }
+
+    @Benchmark
+    public int dependent() {
+        DependentBean bean = dependentInstance.get();
+        int value = bean.getValue();
+        // dependent instances obtained from Instance need to be destroyed explicitly
+        dependentInstance.destroy(bean);
+        return value;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import org.jboss.weld.benchmark.beans.Greeter;
+import org.jboss.weld.benchmark.beans.InterceptedBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Invokes an intercepted and a decorated method. The interceptor and the decorator are enabled in beans.xml.
+ */
+@State(Scope.Thread)
+public class InterceptionBenchmark {
+
+    private static final String NAME = "Weld";
+
+    private InterceptedBean interceptedBean;
+    private Greeter greeter;
+
+    @Setup
+    public void setup(WeldContainerState weld) {
+        interceptedBean = weld.getReference(InterceptedBean.class);
+        greeter = weld.getReference(Greeter.class);
+    }
+
+    @Benchmark
+    public int intercepted() {
+        return interceptedBean.getValue();
+    }
+
+    @Benchmark
+    public String decorated() {
+        return greeter.greet(NAME);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.Reception;
+import javax.enterprise.event.TransactionPhase;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.benchmark.beans.Observers;
+import org.jboss.weld.benchmark.beans.ObserversLiteral;
+import org.jboss.weld.benchmark.beans.Payload;
+
+/**
+ * Registers groups of 1, 10 and 100 observers of {@link Payload}. Each group is selected using the {@link Observers} qualifier.
+ */
+public class ObserverExtension implements Extension {
+
+    static final int[] GROUPS = { 1, 10, 100 };
+
+    void registerObservers(@Observes AfterBeanDiscovery event) {
+        for (int group : GROUPS) {
+            for (int i = 0; i < group; i++) {
+                event.addObserverMethod(new PayloadObserver(group));
+            }
+        }
+    }
+
+    private static class PayloadObserver implements ObserverMethod<Payload> {
+
+        private final Set<Annotation> qualifiers;
+        private volatile int sum;
+
+        public PayloadObserver(int group) {
+            this.qualifiers = Collections.<Annotation>singleton(new ObserversLiteral(group));
+        }
+
+        public Class<?> getBeanClass() {
+            return ObserverExtension.class;
+        }
+
+        public Type getObservedType() {
+            return Payload.class;
+        }
+
+        public Set<Annotation> getObservedQualifiers() {
+            return qualifiers;
+        }
+
+        public Reception getReception() {
+            return Reception.ALWAYS;
+        }
+
+        public TransactionPhase getTransactionPhase() {
+            return TransactionPhase.IN_PROGRESS;
+        }
+
+        public void notify(Payload event) {
+            sum += event.getValue();
+        }
+    }
+}
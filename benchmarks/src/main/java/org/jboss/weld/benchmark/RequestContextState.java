@@ -0,0 +1,55 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Keeps the request context active on a benchmark thread. Weld SE does not activate the request context by itself.
+ */
+@State(Scope.Thread)
+public class RequestContextState {
+
+    private BoundRequestContext context;
+    private Map<String, Object> storage;
+
+    @Setup(Level.Trial)
+    public void activate(WeldContainerState weld) {
+        context = weld.getReference(BoundRequestContext.class);
+        storage = new HashMap<String, Object>();
+        context.associate(storage);
+        context.activate();
+    }
+
+    @TearDown(Level.Trial)
+    public void deactivate() {
+        try {
+            context.invalidate();
+            context.deactivate();
+        } finally {
+            context.dissociate(storage);
+        }
+    }
+}
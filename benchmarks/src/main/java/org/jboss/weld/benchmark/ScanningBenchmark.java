@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.environment.se.discovery.url.URLScanner;
+import org.jboss.weld.resources.ClassLoaderResourceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Scans a class path of many bean archives using the Weld SE {@link URLScanner}. Every archive contains
+ * <code>META-INF/beans.xml</code> and {@value #CLASSES} class file entries. If <code>indexed</code> is true, the archives
+ * also contain <code>META-INF/weld-index</code> so that their entries are not walked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScanningBenchmark {
+
+    private static final int CLASSES = 100;
+    private static final String BEANS_XML = "META-INF/beans.xml";
+    private static final String INDEX = "META-INF/weld-index";
+
+    @Param({ "200" })
+    private int jars;
+
+    @Param({ "false", "true" })
+    private boolean indexed;
+
+    private File directory;
+    private ClassLoaderResourceLoader resourceLoader;
+    private WeldBootstrap bootstrap;
+
+    @Setup(Level.Trial)
+    public void createArchives() throws IOException {
+        directory = File.createTempFile("weld-scanning-benchmark", "");
+        directory.delete();
+        directory.mkdir();
+        URL[] urls = new URL[jars];
+        for (int i = 0; i < jars; i++) {
+            File jar = new File(directory, "archive" + i + ".jar");
+            createArchive(jar, "com.acme.archive" + i);
+            urls[i] = jar.toURI().toURL();
+        }
+        // no parent, only the archives are scanned
+        resourceLoader = new ClassLoaderResourceLoader(new URLClassLoader(urls, null));
+        bootstrap = new WeldBootstrap();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteArchives() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public BeanDeploymentArchive scan() {
+        return new URLScanner(resourceLoader, bootstrap, BEANS_XML).scan();
+    }
+
+    private void createArchive(File jar, String packageName) throws IOException {
+        StringBuilder index = new StringBuilder();
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+        try {
+            out.putNextEntry(new ZipEntry(BEANS_XML));
+            out.closeEntry();
+            for (int i = 0; i < CLASSES; i++) {
+                String className = packageName + ".Bean" + i;
+                out.putNextEntry(new ZipEntry(className.replace('.', '/') + ".class"));
+                out.closeEntry();
+                index.append(className).append('\n');
+            }
+            if (indexed) {
+                out.putNextEntry(new ZipEntry(INDEX));
+                out.write(index.toString().getBytes("UTF-8"));
+                out.closeEntry();
+            }
+        } finally {
+            out.close();
+        }
+    }
+}
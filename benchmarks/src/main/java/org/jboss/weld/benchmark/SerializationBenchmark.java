@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.benchmark.beans.SessionScopedBean;
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.context.SerializableContextualInstanceImpl;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.ContextualStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Serializes and deserializes the contextual instance of a {@link SessionScopedBean} the way a session attribute is replicated,
+ * i.e. using a stream of its own. If <code>indexed</code> is true, the {@link BeanIdentifierIndex} is enabled and the compact
+ * serialized form is used.
+ */
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean indexed;
+
+    private Weld weld;
+    private SerializableContextualInstanceImpl<Bean<SessionScopedBean>, SessionScopedBean> contextualInstance;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        weld = new Weld() {
+            @Override
+            protected Deployment createDeployment(ResourceLoader resourceLoader, Bootstrap bootstrap) {
+                Deployment deployment = super.createDeployment(resourceLoader, bootstrap);
+                if (indexed) {
+                    deployment.getServices().add(BeanIdentifierIndex.class, new BeanIdentifierIndex());
+                }
+                return deployment;
+            }
+        };
+        BeanManager beanManager = weld.initialize().getBeanManager();
+        @SuppressWarnings("unchecked")
+        Bean<SessionScopedBean> bean = (Bean<SessionScopedBean>) beanManager.resolve(beanManager.getBeans(SessionScopedBean.class));
+        CreationalContext<SessionScopedBean> creationalContext = beanManager.createCreationalContext(bean);
+        contextualInstance = new SerializableContextualInstanceImpl<Bean<SessionScopedBean>, SessionScopedBean>(bean,
+                bean.create(creationalContext), creationalContext, Container.instance().services().get(ContextualStore.class));
+        serialized = serialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        weld.shutdown();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(contextualInstance);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException, ClassNotFoundException {
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized));
+        try {
+            return in.readObject();
+        } finally {
+            in.close();
+        }
+    }
+}
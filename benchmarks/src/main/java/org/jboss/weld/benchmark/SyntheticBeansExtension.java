@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmark;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.BeforeBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.benchmark.beans.SyntheticBean;
+
+/**
+ * Adds the given number of beans to the deployment. Each bean is a separate {@link AnnotatedType} of {@link SyntheticBean}
+ * with its own injection point, i.e. each is discovered, validated and resolved the same way a bean class would be.
+ */
+public class SyntheticBeansExtension implements Extension {
+
+    private final int beans;
+
+    public SyntheticBeansExtension(int beans) {
+        this.beans = beans;
+    }
+
+    void addBeans(@Observes BeforeBeanDiscovery event, BeanManager manager) {
+        AnnotatedType<SyntheticBean> type = manager.createAnnotatedType(SyntheticBean.class);
+        for (int i = 0; i < beans; i++) {
+            event.addAnnotatedType(type, SyntheticBean.class.getName() + i);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se;
+
+import java.io.File;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.bean.proxy.store.FileSystemProxyClassStore;
+import org.jboss.weld.bean.proxy.store.ProxyClassStore;
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.resources.spi.ResourceLoader;
+
+/**
+ * Pre-generates proxy classes for a Weld SE deployment. The deployment is booted with a writable
+ * {@link FileSystemProxyClassStore} so that every proxy class generated during bootstrap (intercepted subclasses, decorator
+ * proxies) is written to the given directory. In addition, a client proxy is requested for every normal-scoped bean.
+ * Something like:
+ * <code>
+ * java -cp weld-se.jar:my-app.jar org.jboss.weld.environment.se.ProxyGenerator target/weld-proxies
+ * </code>
+ * <p>
+ * The resulting directory (or a jar file created from it) is then used at runtime by setting the
+ * <code>proxyStoreLocation</code> property in <code>org.jboss.weld.proxies.properties</code>. Note that the application is
+ * started normally, i.e. the {@link org.jboss.weld.environment.se.events.ContainerInitialized} event is fired.
+ */
+public class ProxyGenerator {
+
+    private final File directory;
+
+    public ProxyGenerator(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Boots the deployment, generates the proxy classes and shuts the deployment down.
+     *
+     * @return the number of client proxies requested
+     */
+    public int generate() {
+        final ProxyClassStore store = new FileSystemProxyClassStore(directory, true);
+        Weld weld = new Weld() {
+            @Override
+            protected Deployment createDeployment(ResourceLoader resourceLoader, Bootstrap bootstrap) {
+                Deployment deployment = super.createDeployment(resourceLoader, bootstrap);
+                deployment.getServices().add(ProxyClassStore.class, store);
+                return deployment;
+            }
+        };
+        try {
+            BeanManager manager = weld.initialize().getBeanManager();
+            int count = 0;
+            for (Bean<?> bean : manager.getBeans(Object.class, AnyLiteral.INSTANCE)) {
+                if (manager.isNormalScope(bean.getScope()) && generateClientProxy(manager, bean)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    private boolean generateClientProxy(BeanManager manager, Bean<?> bean) {
+        try {
+            // obtaining a reference does not create a contextual instance of a normal-scoped bean
+            manager.getReference(bean, Object.class, manager.createCreationalContext(bean));
+            return true;
+        } catch (RuntimeException e) {
+            // the bean is not proxyable for the given type, this is reported when the bean is used
+            return false;
+        }
+    }
+
+    /**
+     * The main method called from the command line.
+     *
+     * @param args the target directory
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ProxyGenerator <target directory>");
+        }
+        new ProxyGenerator(new File(args[0])).generate();
+    }
+}
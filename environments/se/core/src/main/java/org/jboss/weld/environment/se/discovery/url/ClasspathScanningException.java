@@ -36,4 +36,14 @@ public class ClasspathScanningException extends RuntimeException {
     public ClasspathScanningException(String msg) {
         super(msg);
     }
+
+    /**
+     * Constructs an instance of <code>ClasspathScanningException</code> with the specified detail message and cause.
+     *
+     * @param msg the detail message.
+     * @param cause the cause.
+     */
+    public ClasspathScanningException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
 }
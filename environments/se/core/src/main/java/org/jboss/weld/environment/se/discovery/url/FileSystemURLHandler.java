@@ -19,8 +19,12 @@ package org.jboss.weld.environment.se.discovery.url;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -32,6 +36,10 @@ import java.util.zip.ZipFile;
 
 /**
  * This class provides file-system orientated scanning
+ * <p>
+ * If an archive contains the <code>META-INF/weld-index</code> file, the archive is not scanned. Instead, the class names
+ * listed in the file (one fully-qualified class name per line, lines starting with <code>#</code> are ignored) are used
+ * together with <code>META-INF/beans.xml</code>.
  *
  * @author Pete Muir
  * @author Marko Luksa
@@ -42,6 +50,10 @@ public class FileSystemURLHandler {
 
     private static final String CLASS_FILE_EXTENSION = ".class";
     private static final String BEANS_XML = "beans.xml";
+    private static final String META_INF_BEANS_XML = "META-INF/beans.xml";
+    private static final String INDEX = "META-INF/weld-index";
+    private static final String INDEX_CHARSET = "UTF-8";
+    private static final String INDEX_COMMENT = "#";
 
     private List<String> discoveredClasses = new ArrayList<String>();
     private List<URL> discoveredBeansXmlUrls = new ArrayList<URL>();
@@ -52,7 +64,17 @@ public class FileSystemURLHandler {
 
             File file = new File(urlPath);
             if (file.isDirectory()) {
-                handleDirectory(file, null);
+                File index = new File(file, INDEX);
+                if (index.isFile()) {
+                    log.trace("using index of directory: {}", file);
+                    handleIndex(new FileInputStream(index));
+                    File beansXml = new File(file, META_INF_BEANS_XML);
+                    if (beansXml.isFile()) {
+                        discoveredBeansXmlUrls.add(beansXml.toURI().toURL());
+                    }
+                } else {
+                    handleDirectory(file, null);
+                }
             } else {
                 handleArchiveByFile(file);
             }
@@ -67,12 +89,28 @@ public class FileSystemURLHandler {
 
             String archiveUrl = "jar:" + file.toURI().toURL().toExternalForm() + "!/";
             ZipFile zip = new ZipFile(file);
-            Enumeration<? extends ZipEntry> entries = zip.entries();
-
-            while (entries.hasMoreElements()) {
-                ZipEntry entry = entries.nextElement();
-                String name = entry.getName();
-                addToDiscovered(name, new URL(archiveUrl + name));
+            try {
+                ZipEntry index = zip.getEntry(INDEX);
+                if (index != null) {
+                    log.trace("using index of archive: {}", file);
+                    handleIndex(zip.getInputStream(index));
+                    if (zip.getEntry(META_INF_BEANS_XML) != null) {
+                        discoveredBeansXmlUrls.add(new URL(archiveUrl + META_INF_BEANS_XML));
+                    }
+                    return;
+                }
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    String name = entries.nextElement().getName();
+                    if (name.endsWith(CLASS_FILE_EXTENSION)) {
+                        // do not create a URL for every class file
+                        discoveredClasses.add(filenameToClassname(name));
+                    } else {
+                        addToDiscovered(name, new URL(archiveUrl + name));
+                    }
+                }
+            } finally {
+                zip.close();
             }
         } catch (ZipException e) {
             throw new RuntimeException("Error handling file " + file, e);
@@ -99,6 +137,20 @@ public class FileSystemURLHandler {
         }
     }
 
+    private void handleIndex(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, INDEX_CHARSET));
+        try {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String className = line.trim();
+                if (className.length() > 0 && !className.startsWith(INDEX_COMMENT)) {
+                    discoveredClasses.add(className);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
     protected void addToDiscovered(String name, URL url) {
         if (name.endsWith(CLASS_FILE_EXTENSION)) {
             discoveredClasses.add(filenameToClassname(name));
@@ -26,9 +26,22 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Scan the classloader
+ * Scan the classloader. Classpath entries are scanned in parallel, the results are merged in the order of the classpath
+ * entries.
  *
  * @author Thomas Heute
  * @author Gavin King
@@ -56,18 +69,67 @@ public class URLScanner {
     }
 
     public BeanDeploymentArchive scan() {
-        FileSystemURLHandler handler = new FileSystemURLHandler();
+        // a classpath entry may be found multiple times
+        Set<String> urlPaths = new LinkedHashSet<String>();
         for (String resourceName : resources) {
             // grab all the URLs for this resource
             for (URL url : resourceLoader.getResources(resourceName)) {
                 try {
-                    handler.handle(getUrlPath(resourceName, url));
+                    urlPaths.add(getUrlPath(resourceName, url));
                 } catch (URISyntaxException e) {
                     log.warn("could not read: " + resourceName, e);
                 }
             }
         }
-        return new ImmutableBeanDeploymentArchive("classpath", handler.getDiscoveredClasses(), bootstrap.parse(handler.getDiscoveredBeansXmlUrls(), true));
+        List<String> discoveredClasses = new ArrayList<String>();
+        List<URL> discoveredBeansXmlUrls = new ArrayList<URL>();
+        for (FileSystemURLHandler handler : handle(urlPaths)) {
+            discoveredClasses.addAll(handler.getDiscoveredClasses());
+            discoveredBeansXmlUrls.addAll(handler.getDiscoveredBeansXmlUrls());
+        }
+        return new ImmutableBeanDeploymentArchive("classpath", discoveredClasses, bootstrap.parse(discoveredBeansXmlUrls, true));
+    }
+
+    private List<FileSystemURLHandler> handle(Collection<String> urlPaths) {
+        List<FileSystemURLHandler> handlers = new ArrayList<FileSystemURLHandler>(urlPaths.size());
+        int threads = Math.min(urlPaths.size(), Runtime.getRuntime().availableProcessors());
+        if (threads <= 1) {
+            for (String urlPath : urlPaths) {
+                handlers.add(handle(urlPath));
+            }
+            return handlers;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ScannerThreadFactory());
+        try {
+            List<Future<FileSystemURLHandler>> futures = new ArrayList<Future<FileSystemURLHandler>>(urlPaths.size());
+            for (final String urlPath : urlPaths) {
+                futures.add(executor.submit(new Callable<FileSystemURLHandler>() {
+                    public FileSystemURLHandler call() {
+                        return handle(urlPath);
+                    }
+                }));
+            }
+            for (Future<FileSystemURLHandler> future : futures) {
+                handlers.add(future.get());
+            }
+            return handlers;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClasspathScanningException("Classpath scanning interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ClasspathScanningException("Error scanning the classpath", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FileSystemURLHandler handle(String urlPath) {
+        FileSystemURLHandler handler = new FileSystemURLHandler();
+        handler.handle(urlPath);
+        return handler;
     }
 
     private String getUrlPath(String resourceName, URL url) throws URISyntaxException {
@@ -112,4 +174,14 @@ public class URLScanner {
         return urlType;
     }
 
+    private static class ScannerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "weld-se-scanner-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
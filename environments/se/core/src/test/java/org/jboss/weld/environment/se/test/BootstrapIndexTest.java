@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.index.BootstrapIndex;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.test.beans.MainTestBean;
+import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.junit.Test;
+
+public class BootstrapIndexTest {
+
+    @Test
+    public void testDeploymentWithBootstrapIndex() throws IOException {
+        File file = File.createTempFile("weld-bootstrap-index", "");
+        assertTrue(file.delete());
+        file.deleteOnExit();
+
+        int beans = deploy(file);
+        assertTrue(file.isFile());
+        // the second deployment skips the classes recorded in the index
+        assertEquals(beans, deploy(file));
+    }
+
+    private int deploy(File file) {
+        final BootstrapIndex index = new BootstrapIndex(file);
+        Weld weld = new Weld() {
+            @Override
+            protected Deployment createDeployment(ResourceLoader resourceLoader, Bootstrap bootstrap) {
+                Deployment deployment = super.createDeployment(resourceLoader, bootstrap);
+                deployment.getServices().add(BootstrapIndex.class, index);
+                return deployment;
+            }
+        };
+        try {
+            BeanManager manager = weld.initialize().getBeanManager();
+            assertFalse(manager.getBeans(MainTestBean.class).isEmpty());
+            return manager.getBeans(Object.class, AnyLiteral.INSTANCE).size();
+        } finally {
+            weld.shutdown();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+
+import org.jboss.weld.environment.se.ProxyGenerator;
+import org.jboss.weld.environment.se.test.proxies.Counter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProxyGeneratorTest {
+
+    private File directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = File.createTempFile("weld-proxies", "");
+        assertTrue(directory.delete());
+    }
+
+    @After
+    public void deleteDirectory() {
+        delete(directory);
+    }
+
+    @Test
+    public void testClientProxiesGenerated() throws IOException {
+        assertTrue(new ProxyGenerator(directory).generate() > 0);
+
+        File packageDirectory = new File(directory, Counter.class.getPackage().getName().replace('.', File.separatorChar));
+        String[] classFiles = packageDirectory.list(new SuffixFilter(".class"));
+        String[] fingerprints = packageDirectory.list(new SuffixFilter(".fingerprint"));
+        assertEquals(1, classFiles.length);
+        assertEquals(1, fingerprints.length);
+        assertTrue(classFiles[0].startsWith(Counter.class.getSimpleName()));
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static class SuffixFilter implements FilenameFilter {
+
+        private final String suffix;
+
+        private SuffixFilter(String suffix) {
+            this.suffix = suffix;
+        }
+
+        public boolean accept(File dir, String name) {
+            return name.endsWith(suffix);
+        }
+    }
+}
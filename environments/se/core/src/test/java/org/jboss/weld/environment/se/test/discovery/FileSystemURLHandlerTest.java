@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.weld.environment.se.discovery.url.FileSystemURLHandler;
+import org.junit.After;
+import org.junit.Test;
+
+public class FileSystemURLHandlerTest {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final byte[] INDEX = "# generated\ncom.acme.Foo\n\n com.acme.Bar \n".getBytes();
+
+    private final List<File> files = new ArrayList<File>();
+
+    @After
+    public void deleteFiles() {
+        for (File file : files) {
+            delete(file);
+        }
+        files.clear();
+    }
+
+    @Test
+    public void testArchiveScanned() throws IOException {
+        File jar = createJar("META-INF/beans.xml", EMPTY, "com/acme/Foo.class", EMPTY, "com/acme/Baz.class", EMPTY, "com/acme/readme.txt", EMPTY);
+        FileSystemURLHandler handler = new FileSystemURLHandler();
+        handler.handle(jar.getPath());
+        assertEquals(Arrays.asList("com.acme.Foo", "com.acme.Baz"), handler.getDiscoveredClasses());
+        assertEquals(1, handler.getDiscoveredBeansXmlUrls().size());
+    }
+
+    @Test
+    public void testArchiveIndexUsed() throws IOException {
+        File jar = createJar("META-INF/beans.xml", EMPTY, "META-INF/weld-index", INDEX, "com/acme/Foo.class", EMPTY, "com/acme/Baz.class", EMPTY);
+        FileSystemURLHandler handler = new FileSystemURLHandler();
+        handler.handle(jar.getPath());
+        assertEquals(Arrays.asList("com.acme.Foo", "com.acme.Bar"), handler.getDiscoveredClasses());
+        assertEquals(1, handler.getDiscoveredBeansXmlUrls().size());
+        assertTrue(handler.getDiscoveredBeansXmlUrls().get(0).toExternalForm().endsWith("!/META-INF/beans.xml"));
+    }
+
+    @Test
+    public void testDirectoryIndexUsed() throws IOException {
+        File directory = File.createTempFile("weld-se-scanning", "");
+        assertTrue(directory.delete());
+        files.add(directory);
+        write(new File(directory, "META-INF/weld-index"), INDEX);
+        write(new File(directory, "META-INF/beans.xml"), EMPTY);
+        write(new File(directory, "com/acme/Baz.class"), EMPTY);
+        FileSystemURLHandler handler = new FileSystemURLHandler();
+        handler.handle(directory.getPath());
+        assertEquals(Arrays.asList("com.acme.Foo", "com.acme.Bar"), handler.getDiscoveredClasses());
+        assertEquals(1, handler.getDiscoveredBeansXmlUrls().size());
+    }
+
+    private File createJar(Object... entries) throws IOException {
+        File jar = File.createTempFile("weld-se-scanning", ".jar");
+        files.add(jar);
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+        try {
+            for (int i = 0; i < entries.length; i += 2) {
+                out.putNextEntry(new ZipEntry((String) entries[i]));
+                out.write((byte[]) entries[i + 1]);
+                out.closeEntry();
+            }
+        } finally {
+            out.close();
+        }
+        return jar;
+    }
+
+    private static void write(File file, byte[] content) throws IOException {
+        assertTrue(file.getParentFile().isDirectory() || file.getParentFile().mkdirs());
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -40,6 +40,7 @@ import org.jboss.weld.bean.interceptor.WeldInterceptorClassMetadata;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.DeploymentException;
 import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.proxy.SimpleInterceptionChain;
 import org.jboss.weld.interceptor.spi.metadata.ClassMetadata;
@@ -62,6 +63,8 @@ public class InterceptorImpl<T> extends ManagedBean<T> implements Interceptor<T>
 
     private final boolean serializable;
 
+    private final MethodInvokerFactory invokerFactory;
+
     public static <T> InterceptorImpl<T> of(BeanAttributes<T> attributes, EnhancedAnnotatedType<T> type, BeanManagerImpl beanManager) {
         return new InterceptorImpl<T>(attributes, type, beanManager);
     }
@@ -70,6 +73,7 @@ public class InterceptorImpl<T> extends ManagedBean<T> implements Interceptor<T>
         super(attributes, type, new StringBuilder().append(Interceptor.class.getSimpleName()).append(BEAN_ID_SEPARATOR).append(type.getName()).toString(), beanManager);
         this.interceptorMetadata = getInterceptorMetadata(type, this, beanManager);
         this.serializable = type.isSerializable();
+        this.invokerFactory = beanManager.getServices().get(MethodInvokerFactory.class);
         this.interceptorBindingTypes = Collections.unmodifiableSet(new HashSet<Annotation>(Interceptors.mergeBeanInterceptorBindings(beanManager, getEnhancedAnnotated(), getStereotypes()).values()));
 
         if (this.interceptorBindingTypes.size() == 0) {
@@ -98,7 +102,7 @@ public class InterceptorImpl<T> extends ManagedBean<T> implements Interceptor<T>
         try {
             org.jboss.weld.interceptor.spi.model.InterceptionType interceptionType = org.jboss.weld.interceptor.spi.model.InterceptionType.valueOf(type.name());
             Collection<InterceptorInvocation> invocations = new ArrayList<InterceptorInvocation>();
-            invocations.add(interceptorMetadata.getInterceptorInvocation(instance, interceptionType));
+            invocations.add(interceptorMetadata.getInterceptorInvocation(instance, interceptionType, invokerFactory));
             return new SimpleInterceptionChain(invocations).invokeNextInterceptor(ctx);
         } catch (RuntimeException e) {
             throw e;
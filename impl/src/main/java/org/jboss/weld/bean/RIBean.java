@@ -25,6 +25,7 @@ import javax.enterprise.inject.spi.PassivationCapable;
 import org.jboss.weld.bootstrap.BeanDeployerEnvironment;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.serialization.ContextualStoreImpl;
 
 /**
  * Abstract base class with functions specific to RI built-in beans
@@ -36,6 +37,7 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
     protected final BeanManagerImpl beanManager;
     private boolean initialized;
     private volatile Set<QualifierInstance> qualifiers;
+    private volatile int contextualIndex = ContextualStoreImpl.NO_INDEX;
 
     protected RIBean(BeanAttributes<T> attributes, String idSuffix, BeanManagerImpl beanManager) {
         super(attributes, idSuffix, beanManager);
@@ -46,6 +48,18 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
         return beanManager;
     }
 
+    /**
+     * Returns the dense index assigned to this bean by {@link ContextualStoreImpl} or {@link ContextualStoreImpl#NO_INDEX} if
+     * no index has been assigned yet.
+     */
+    public int getContextualIndex() {
+        return contextualIndex;
+    }
+
+    public void setContextualIndex(int contextualIndex) {
+        this.contextualIndex = contextualIndex;
+    }
+
     public abstract Class<T> getType();
 
     public Class<?> getBeanClass() {
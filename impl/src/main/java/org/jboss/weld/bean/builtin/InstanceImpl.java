@@ -37,6 +37,8 @@ import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.util.TypeLiteral;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.bean.proxy.ProxyMethodHandler;
 import org.jboss.weld.bean.proxy.ProxyObject;
 import org.jboss.weld.context.WeldCreationalContext;
@@ -49,20 +51,27 @@ import org.jboss.weld.resolution.ResolvableBuilder;
 import org.jboss.weld.util.reflection.Formats;
 import org.jboss.weld.util.reflection.Reflections;
 
+import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
 
 /**
  * Helper implementation for Instance for getting instances
+ * <p>
+ * Once the container is validated the set of beans is immutable. From that point on, the resolved beans, the target bean of
+ * {@link #get()} and the injection point used for the lookups are memoized so that repeated programmatic lookups using the
+ * same {@link Instance} object do not hit the resolvers again. Note that each {@link Instance} obtained by calling one of the
+ * <code>select()</code> methods has its own memoized state.
  *
  * @param <T>
  * @author Gavin King
  */
 @edu.umd.cs.findbugs.annotations.SuppressWarnings(value = { "SE_NO_SUITABLE_CONSTRUCTOR", "SE_BAD_FIELD" }, justification = "Uses SerializationProxy")
-public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements Instance<T>, Serializable {
+public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements WeldInstance<T>, Serializable {
 
     private static final long serialVersionUID = -376721889693284887L;
 
-    public static <I> Instance<I> of(InjectionPoint injectionPoint, CreationalContext<I> creationalContext,
+    public static <I> WeldInstance<I> of(InjectionPoint injectionPoint, CreationalContext<I> creationalContext,
             BeanManagerImpl beanManager) {
         return new InstanceImpl<I>(injectionPoint, creationalContext, beanManager);
     }
@@ -72,26 +81,78 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
         super(injectionPoint, creationalContext, beanManager);
     }
 
+    /*
+     * Memoized state. The fields are only set once the container is validated and are never serialized (see writeReplace()).
+     * Concurrent initialization is harmless as the computed values are equal.
+     */
+    private volatile Set<Bean<?>> beans;
+    private volatile Bean<?> bean;
+    private volatile InjectionPoint lookupInjectionPoint;
+
     public T get() {
-        Resolvable resolvable = new ResolvableBuilder(getType(), getBeanManager()).addQualifiers(getQualifiers())
-                .setDeclaringBean(getInjectionPoint().getBean()).create();
-        Bean<?> bean = getBeanManager().getBean(resolvable);
-        return getBeanInstance(bean);
+        return getBeanInstance(getBean());
+    }
+
+    public Handle<T> getHandle() {
+        return new InstanceHandle(getBean());
+    }
+
+    public Iterable<Handle<T>> handles() {
+        return Iterables.transform(getBeans(), new Function<Bean<?>, Handle<T>>() {
+            @Override
+            public Handle<T> apply(Bean<?> input) {
+                return new InstanceHandle(input);
+            }
+        });
+    }
+
+    private Bean<?> getBean() {
+        Bean<?> bean = this.bean;
+        if (bean == null) {
+            Resolvable resolvable = new ResolvableBuilder(getType(), getBeanManager()).addQualifiers(getQualifiers())
+                    .setDeclaringBean(getInjectionPoint().getBean()).create();
+            // throws an exception if the resolution is not successful - we do not memoize this
+            bean = getBeanManager().getBean(resolvable);
+            if (isMemoizable()) {
+                this.bean = bean;
+            }
+        }
+        return bean;
     }
 
     private T getBeanInstance(Bean<?> bean) {
-        // Generate a correct injection point for the bean, we do this by taking the original injection point and adjusting the
-        // qualifiers and type
-        InjectionPoint ip = new DynamicLookupInjectionPoint(getInjectionPoint(), getType(), getQualifiers());
+        if (getBeanManager().isNormalScope(bean.getScope())) {
+            // a client proxy is returned and no contextual instance is created, there is no need to expose the injection point
+            return Reflections.<T> cast(getBeanManager().getReference(bean, getType(), getCreationalContext()));
+        }
         CurrentInjectionPoint currentInjectionPoint = getBeanManager().getServices().get(CurrentInjectionPoint.class);
         try {
-            currentInjectionPoint.push(ip);
+            currentInjectionPoint.push(getLookupInjectionPoint());
             return Reflections.<T> cast(getBeanManager().getReference(bean, getType(), getCreationalContext()));
         } finally {
             currentInjectionPoint.pop();
         }
     }
 
+    private InjectionPoint getLookupInjectionPoint() {
+        InjectionPoint ip = this.lookupInjectionPoint;
+        if (ip == null) {
+            // Generate a correct injection point for the bean, we do this by taking the original injection point and adjusting
+            // the qualifiers and type
+            ip = new DynamicLookupInjectionPoint(getInjectionPoint(), getType(), getQualifiers());
+            this.lookupInjectionPoint = ip;
+        }
+        return ip;
+    }
+
+    /**
+     * The set of beans may still change (e.g. by specialization or alternative selection) until the container is validated.
+     */
+    private boolean isMemoizable() {
+        ContainerState state = Container.instance().getState();
+        return state == ContainerState.VALIDATED || state == ContainerState.INITIALIZED;
+    }
+
     /**
      * Gets a string representation
      *
@@ -103,7 +164,14 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
     }
 
     private Set<Bean<?>> getBeans() {
-        return getBeanManager().getBeans(getType(), getQualifiers());
+        Set<Bean<?>> beans = this.beans;
+        if (beans == null) {
+            beans = getBeanManager().getBeans(getType(), getQualifiers());
+            if (isMemoizable()) {
+                this.beans = beans;
+            }
+        }
+        return beans;
     }
 
     public Iterator<T> iterator() {
@@ -118,19 +186,19 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
         return getBeans().size() == 0;
     }
 
-    public Instance<T> select(Annotation... qualifiers) {
+    public WeldInstance<T> select(Annotation... qualifiers) {
         return selectInstance(this.getType(), qualifiers);
     }
 
-    public <U extends T> Instance<U> select(Class<U> subtype, Annotation... qualifiers) {
+    public <U extends T> WeldInstance<U> select(Class<U> subtype, Annotation... qualifiers) {
         return selectInstance(subtype, qualifiers);
     }
 
-    public <U extends T> Instance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+    public <U extends T> WeldInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
         return selectInstance(subtype.getType(), qualifiers);
     }
 
-    private <U extends T> Instance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
+    private <U extends T> WeldInstance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
         InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getInjectionPoint(), subtype, getQualifiers(),
                 newQualifiers);
         return new InstanceImpl<U>(modifiedInjectionPoint, getCreationalContext(), getBeanManager());
@@ -165,6 +233,45 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
         }
     }
 
+    final class InstanceHandle implements Handle<T> {
+
+        private final Bean<T> bean;
+        private volatile T instance;
+
+        private InstanceHandle(Bean<?> bean) {
+            this.bean = cast(bean);
+        }
+
+        @Override
+        public T get() {
+            T instance = this.instance;
+            if (instance == null) {
+                instance = getBeanInstance(bean);
+                this.instance = instance;
+            }
+            return instance;
+        }
+
+        @Override
+        public Bean<T> getBean() {
+            return bean;
+        }
+
+        @Override
+        public void destroy() {
+            T instance = this.instance;
+            if (instance != null) {
+                this.instance = null;
+                InstanceImpl.this.destroy(instance);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Handle for " + bean;
+        }
+    }
+
     // Serialization
 
     private Object writeReplace() throws ObjectStreamException {
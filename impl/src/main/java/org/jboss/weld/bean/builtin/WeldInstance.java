@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.builtin;
+
+import java.lang.annotation.Annotation;
+
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.util.TypeLiteral;
+
+/**
+ * Weld-specific extension of {@link Instance}. Every {@link Instance} object provided by Weld implements this interface.
+ * <p>
+ * A {@link Handle} pairs the resolved {@link Bean} with a contextual reference that is only obtained when first requested.
+ * Handles are useful for repeated programmatic lookups where the bean metadata is needed to decide whether a reference is
+ * needed at all, e.g. when filtering the beans by their scope or name.
+ *
+ *
+ * @param <T> the required bean type
+ */
+public interface WeldInstance<T> extends Instance<T> {
+
+    /**
+     * Obtains a handle for the bean that matches the required type and qualifiers. No contextual reference is obtained until
+     * {@link Handle#get()} is called.
+     *
+     * @return a handle for the single bean that matches the required type and qualifiers
+     * @throws javax.enterprise.inject.UnsatisfiedResolutionException if there is no bean with given type and qualifiers
+     * @throws javax.enterprise.inject.AmbiguousResolutionException if there is more than one bean given type and qualifiers
+     */
+    Handle<T> getHandle();
+
+    /**
+     * Obtains a handle for every bean that matches the required type and qualifiers.
+     *
+     * @return an iterable of handles
+     */
+    Iterable<Handle<T>> handles();
+
+    WeldInstance<T> select(Annotation... qualifiers);
+
+    <U extends T> WeldInstance<U> select(Class<U> subtype, Annotation... qualifiers);
+
+    <U extends T> WeldInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers);
+
+    /**
+     * A bean together with a lazily obtained contextual reference.
+     *
+     * @param <T> the required bean type
+     */
+    interface Handle<T> {
+
+        /**
+         * Obtains the contextual reference of the bean. The reference is obtained on the first invocation and is reused
+         * afterwards.
+         *
+         * @return the contextual reference
+         */
+        T get();
+
+        /**
+         *
+         * @return the bean metadata
+         */
+        Bean<T> getBean();
+
+        /**
+         * Destroys the contextual instance if a reference was obtained before. See also {@link Instance#destroy(Object)}.
+         */
+        void destroy();
+    }
+}
@@ -1,5 +1,6 @@
 package org.jboss.weld.bean.interceptor;
 
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
 import org.jboss.weld.interceptor.proxy.CustomInterceptorInvocation;
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.spi.metadata.ClassMetadata;
@@ -34,7 +35,7 @@ public class CustomInterceptorMetadata<T> implements InterceptorMetadata<T> {
 
     @Override
     @SuppressWarnings("unchecked")
-    public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
+    public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType, MethodInvokerFactory invokerFactory) {
         return new CustomInterceptorInvocation<T>(factory.getInterceptor(), (T) interceptorInstance, javax.enterprise.inject.spi.InterceptionType.valueOf(interceptionType.name()));
     }
 
@@ -44,7 +44,9 @@ import org.jboss.classfilewriter.code.BranchEnd;
 import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.classfilewriter.code.ExceptionHandler;
 import org.jboss.weld.Container;
+import org.jboss.weld.bean.proxy.store.ProxyClassFingerprint;
 import org.jboss.weld.bean.proxy.util.SerializableClientProxy;
+import org.jboss.weld.context.cache.ApplicationScopedInstanceCache;
 import org.jboss.weld.context.cache.RequestScopedBeanCache;
 import org.jboss.weld.security.GetDeclaredFieldAction;
 import org.jboss.weld.security.SetAccessibleAction;
@@ -68,12 +70,20 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
     private static final String CACHE_FIELD = "BEAN_INSTANCE_CACHE";
 
+    private static final String APPLICATION_SCOPED_CACHE_FIELD = "APPLICATION_SCOPED_INSTANCE_CACHE";
+
+    private static final String APPLICATION_SCOPED_CACHE_CLASS_NAME = ApplicationScopedInstanceCache.class.getName();
+
+    private static final String LAPPLICATION_SCOPED_CACHE = DescriptorUtils.classToStringRepresentation(ApplicationScopedInstanceCache.class);
+
+    private static final String LMETHOD_HANDLER = DescriptorUtils.classToStringRepresentation(MethodHandler.class);
+
     private static final String INTERCEPTION_DECORATION_CONTEXT_CLASS_NAME = InterceptionDecorationContext.class.getName();
 
     private static final String HASH_CODE_METHOD = "hashCode";
     private static final String EMPTY_PARENTHESES = "()";
     private static final String END_INTERCEPTOR_CONTEXT_METHOD_NAME = "endInterceptorContext";
-    private static final String START_INTERCEPTOR_CONTEXT_METHOD_NAME = "startInterceptorContext";
+    private static final String START_INTERCEPTOR_CONTEXT_IF_NOT_EMPTY_METHOD_NAME = "startInterceptorContextIfNotEmpty";
 
     /**
      * It is possible although very unlikely that two different beans will end up with the same proxy class
@@ -89,13 +99,13 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
     private volatile Field beanIdField;
     private volatile Field threadLocalCacheField;
+    private volatile Field applicationScopedCacheField;
 
     static {
         Set<Class<? extends Annotation>> scopes = new HashSet<Class<? extends Annotation>>();
         scopes.add(RequestScoped.class);
         scopes.add(ConversationScoped.class);
         scopes.add(SessionScoped.class);
-        scopes.add(ApplicationScoped.class);
         CACHABLE_SCOPES = Collections.unmodifiableSet(scopes);
     }
 
@@ -121,6 +131,14 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
             if(isUsingUnsafeInstantiators()) {
                 threadLocalCacheField.set(instance, new ThreadLocal());
             }
+            if (applicationScopedCacheField == null && isUsingUnsafeInstantiators() && isApplicationScoped()) {
+                final Field f = AccessController.doPrivileged(new GetDeclaredFieldAction(instance.getClass(), APPLICATION_SCOPED_CACHE_FIELD));
+                AccessController.doPrivileged(SetAccessibleAction.of(f));
+                applicationScopedCacheField = f;
+            }
+            if (isUsingUnsafeInstantiators() && isApplicationScoped()) {
+                applicationScopedCacheField.set(instance, new ApplicationScopedInstanceCache());
+            }
 
             beanIdField.set(instance, beanId);
             return instance;
@@ -150,6 +168,21 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
             } catch (DuplicateMemberException e) {
                 throw new RuntimeException(e);
             }
+        } else if (isApplicationScoped()) {
+            try {
+                proxyClassType.addField(AccessFlag.TRANSIENT | AccessFlag.PRIVATE, APPLICATION_SCOPED_CACHE_FIELD, LAPPLICATION_SCOPED_CACHE);
+                initialValueBytecode.add(new DeferredBytecode() {
+                    public void apply(final CodeAttribute codeAttribute) {
+                        codeAttribute.aload(0);
+                        codeAttribute.newInstruction(APPLICATION_SCOPED_CACHE_CLASS_NAME);
+                        codeAttribute.dup();
+                        codeAttribute.invokespecial(APPLICATION_SCOPED_CACHE_CLASS_NAME, INIT_METHOD_NAME, EMPTY_PARENTHESES + DescriptorUtils.VOID_CLASS_DESCRIPTOR);
+                        codeAttribute.putfield(proxyClassType.getName(), APPLICATION_SCOPED_CACHE_FIELD, LAPPLICATION_SCOPED_CACHE);
+                    }
+                });
+            } catch (DuplicateMemberException e) {
+                throw new RuntimeException(e);
+            }
         }
         proxyClassType.addField(AccessFlag.VOLATILE | AccessFlag.PRIVATE, BEAN_ID_FIELD, String.class);
     }
@@ -194,35 +227,20 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         }
         final CodeAttribute b = classMethod.getCodeAttribute();
 
-        // create a new interceptor invocation context whenever we invoke a method on a client proxy
+        // create a new interceptor invocation context whenever we invoke a method on a client proxy unless there is no interception
+        // context at all, in which case the first intercepted or decorated instance creates one anyway
         // we use a try-catch block in order to make sure that endInterceptorContext() is invoked regardless whether
         // the method has succeeded or not
+        final int contextStartedVariable = getFirstFreeLocalVariable(methodInfo);
+        b.invokestatic(INTERCEPTION_DECORATION_CONTEXT_CLASS_NAME, START_INTERCEPTOR_CONTEXT_IF_NOT_EMPTY_METHOD_NAME, EMPTY_PARENTHESES + DescriptorUtils.BOOLEAN_CLASS_DESCRIPTOR);
+        b.istore(contextStartedVariable);
 
         final ExceptionHandler start = b.exceptionBlockStart(Throwable.class.getName());
-        b.invokestatic(INTERCEPTION_DECORATION_CONTEXT_CLASS_NAME, START_INTERCEPTOR_CONTEXT_METHOD_NAME, EMPTY_PARENTHESES + DescriptorUtils.VOID_CLASS_DESCRIPTOR);
-
-        final Class<? extends Annotation> scope = getBean().getScope();
-
-        if (CACHABLE_SCOPES.contains(scope)) {
-            loadCachableBeanInstance(classMethod.getClassFile(), methodInfo, b);
-        } else {
-            loadBeanInstance(classMethod.getClassFile(), methodInfo, b);
-        }
-        //now we should have the target bean instance on top of the stack
-        // we need to dup it so we still have it to compare to the return value
-        b.dup();
 
-        //lets create the method invocation
-        String methodDescriptor = methodInfo.getDescriptor();
-        b.loadMethodParameters();
-        if (method.getDeclaringClass().isInterface()) {
-            b.invokeinterface(methodInfo.getDeclaringClass(), methodInfo.getName(), methodDescriptor);
-        } else {
-            b.invokevirtual(methodInfo.getDeclaringClass(), methodInfo.getName(), methodDescriptor);
-        }
+        loadBeanInstanceAndInvoke(classMethod, methodInfo, b);
 
         // end the interceptor context, everything was fine
-        b.invokestatic(INTERCEPTION_DECORATION_CONTEXT_CLASS_NAME, END_INTERCEPTOR_CONTEXT_METHOD_NAME, EMPTY_PARENTHESES + DescriptorUtils.VOID_CLASS_DESCRIPTOR);
+        endInterceptorContextIfStarted(b, contextStartedVariable);
 
         // jump over the catch block
         BranchEnd gotoEnd = b.gotoInstruction();
@@ -230,7 +248,7 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         // create catch block
         b.exceptionBlockEnd(start);
         b.exceptionHandlerStart(start);
-        b.invokestatic(INTERCEPTION_DECORATION_CONTEXT_CLASS_NAME, END_INTERCEPTOR_CONTEXT_METHOD_NAME, EMPTY_PARENTHESES + DescriptorUtils.VOID_CLASS_DESCRIPTOR);
+        endInterceptorContextIfStarted(b, contextStartedVariable);
         b.athrow();
 
         // update the correct address to jump over the catch block
@@ -263,6 +281,57 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         }
     }
 
+    /**
+     * Loads the bean instance and invokes the method on it. Leaves the result (unless the method returns void) and the bean
+     * instance on the stack.
+     */
+    private void loadBeanInstanceAndInvoke(ClassMethod classMethod, MethodInformation methodInfo, CodeAttribute b) {
+        final Method method = methodInfo.getMethod();
+        final Class<? extends Annotation> scope = getBean().getScope();
+
+        if (CACHABLE_SCOPES.contains(scope)) {
+            loadCachableBeanInstance(classMethod.getClassFile(), methodInfo, b);
+        } else if (isApplicationScoped()) {
+            loadApplicationScopedBeanInstance(classMethod.getClassFile(), methodInfo, b);
+        } else {
+            loadBeanInstance(classMethod.getClassFile(), methodInfo, b);
+        }
+        //now we should have the target bean instance on top of the stack
+        // we need to dup it so we still have it to compare to the return value
+        b.dup();
+
+        //lets create the method invocation
+        String methodDescriptor = methodInfo.getDescriptor();
+        b.loadMethodParameters();
+        if (method.getDeclaringClass().isInterface()) {
+            b.invokeinterface(methodInfo.getDeclaringClass(), methodInfo.getName(), methodDescriptor);
+        } else {
+            b.invokevirtual(methodInfo.getDeclaringClass(), methodInfo.getName(), methodDescriptor);
+        }
+    }
+
+    private static void endInterceptorContextIfStarted(CodeAttribute b, int contextStartedVariable) {
+        b.iload(contextStartedVariable);
+        final BranchEnd notStarted = b.ifeq();
+        b.invokestatic(INTERCEPTION_DECORATION_CONTEXT_CLASS_NAME, END_INTERCEPTOR_CONTEXT_METHOD_NAME, EMPTY_PARENTHESES + DescriptorUtils.VOID_CLASS_DESCRIPTOR);
+        b.branchEnd(notStarted);
+    }
+
+    /**
+     * Returns the index of the first local variable not occupied by <code>this</code> and the method parameters.
+     */
+    private static int getFirstFreeLocalVariable(MethodInformation methodInfo) {
+        int index = 1;
+        for (String parameterType : methodInfo.getParameterTypes()) {
+            if (DescriptorUtils.isWide(parameterType)) {
+                index += 2;
+            } else {
+                index++;
+            }
+        }
+        return index;
+    }
+
     /**
      * If the bean is part of a well known scope then this code caches instances in a thread local for the life of the
      * request, as a performance enhancement.
@@ -301,9 +370,35 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         b.branchEnd(loadedFromCache);
     }
 
+    /**
+     * An application-scoped bean has a single contextual instance which is always available. Therefore, a direct reference
+     * to the instance is held by the proxy and only refreshed once the contextual instance is destroyed.
+     *
+     * @see ApplicationScopedInstanceCache
+     */
+    private void loadApplicationScopedBeanInstance(ClassFile file, MethodInformation methodInfo, CodeAttribute b) {
+        b.aload(0);
+        b.getfield(file.getName(), APPLICATION_SCOPED_CACHE_FIELD, LAPPLICATION_SCOPED_CACHE);
+        b.aload(0);
+        b.aload(0);
+        b.getfield(file.getName(), METHOD_HANDLER_FIELD_NAME, LMETHOD_HANDLER);
+        b.invokevirtual(APPLICATION_SCOPED_CACHE_CLASS_NAME, "getInstance", "(" + LJAVA_LANG_OBJECT + LMETHOD_HANDLER + ")" + LJAVA_LANG_OBJECT);
+        b.checkcast(methodInfo.getDeclaringClass());
+    }
+
+    @Override
+    protected void addToFingerprint(ProxyClassFingerprint fingerprint) {
+        // the generated bytecode depends on the scope (instance caches) and on the instantiation strategy (cache fields)
+        fingerprint.add(getBean().getScope().getName()).add(isUsingUnsafeInstantiators());
+    }
+
+    private boolean isApplicationScoped() {
+        return ApplicationScoped.class.equals(getBean().getScope());
+    }
+
     private void loadBeanInstance(ClassFile file, MethodInformation methodInfo, CodeAttribute b) {
         b.aload(0);
-        b.getfield(file.getName(), "methodHandler", DescriptorUtils.classToStringRepresentation(MethodHandler.class));
+        b.getfield(file.getName(), METHOD_HANDLER_FIELD_NAME, LMETHOD_HANDLER);
         //pass null arguments to methodHandler.invoke
         b.aload(0);
         b.aconstNull();
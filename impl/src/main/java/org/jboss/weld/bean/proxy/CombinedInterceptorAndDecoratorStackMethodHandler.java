@@ -1,12 +1,8 @@
 package org.jboss.weld.bean.proxy;
 
-import static org.jboss.weld.bean.proxy.InterceptionDecorationContext.endInterceptorContext;
-import static org.jboss.weld.bean.proxy.InterceptionDecorationContext.startInterceptorContext;
-
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.security.AccessController;
-import java.util.Set;
 
 import org.jboss.weld.security.SetAccessibleAction;
 import org.jboss.weld.util.reflection.Reflections;
@@ -31,23 +27,17 @@ public class CombinedInterceptorAndDecoratorStackMethodHandler implements Method
         this.outerDecorator = outerDecorator;
     }
 
-    private Set<CombinedInterceptorAndDecoratorStackMethodHandler> getDisabledHandlers() {
-
-        return InterceptionDecorationContext.peek();
-    }
-
     public Object invoke(Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
+        InterceptionDecorationContext.Stack stack = InterceptionDecorationContext.getStack();
         boolean externalContext = false;
 
         try {
-            if (InterceptionDecorationContext.empty()) {
+            if (stack == null) {
+                stack = InterceptionDecorationContext.startInterceptorContextAndGetStack();
                 externalContext = true;
-                startInterceptorContext();
             }
-            if (!getDisabledHandlers().contains(this)) {
+            if (stack.disable(this)) {
                 try {
-
-                    getDisabledHandlers().add(this);
                     if (interceptorMethodHandler != null) {
                         if (proceed != null) {
                             return this.interceptorMethodHandler.invoke(outerDecorator != null ? outerDecorator : self, thisMethod, thisMethod, args);
@@ -63,7 +53,7 @@ public class CombinedInterceptorAndDecoratorStackMethodHandler implements Method
                         }
                     }
                 } finally {
-                    this.getDisabledHandlers().remove(this);
+                    stack.enable(this);
                 }
             }
             if (!proceed.isAccessible()) {
@@ -72,16 +62,14 @@ public class CombinedInterceptorAndDecoratorStackMethodHandler implements Method
             return Reflections.invokeAndUnwrap(self, proceed, args);
         } finally {
             if (externalContext) {
-                endInterceptorContext();
+                InterceptionDecorationContext.endInterceptorContext(stack);
             }
         }
     }
 
     public boolean isDisabledHandler() {
-        if (InterceptionDecorationContext.empty()) {
-            return false;
-        }
-        return getDisabledHandlers().contains(this);
+        InterceptionDecorationContext.Stack stack = InterceptionDecorationContext.getStack();
+        return stack != null && stack.isDisabled(this);
     }
 
     public MethodHandler getInterceptorMethodHandler() {
@@ -32,7 +32,9 @@ import javax.enterprise.inject.spi.Bean;
 import org.jboss.classfilewriter.AccessFlag;
 import org.jboss.classfilewriter.ClassFile;
 import org.jboss.classfilewriter.ClassMethod;
+import org.jboss.classfilewriter.code.BranchEnd;
 import org.jboss.classfilewriter.code.CodeAttribute;
+import org.jboss.weld.bean.proxy.store.ProxyClassFingerprint;
 import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.injection.FieldInjectionPoint;
 import org.jboss.weld.injection.ParameterInjectionPoint;
@@ -173,6 +175,15 @@ public class DecoratorProxyFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX;
     }
 
+    @Override
+    protected void addToFingerprint(ProxyClassFingerprint fingerprint) {
+        // the delegate injection point is identified by an annotation
+        fingerprint.add(delegateInjectionPoint.getMember());
+        if (delegateInjectionPoint instanceof ParameterInjectionPoint<?, ?>) {
+            fingerprint.add(((ParameterInjectionPoint<?, ?>) delegateInjectionPoint).getAnnotated().getPosition());
+        }
+    }
+
     private void createAbstractMethodCode(ClassMethod classMethod, MethodInformation method) {
         if ((delegateField != null) && (!Modifier.isPrivate(delegateField.getModifiers()))) {
             // Call the corresponding method directly on the delegate
@@ -253,6 +264,27 @@ public class DecoratorProxyFactory<T> extends ProxyFactory<T> {
         private static final String JAVA_LANG_CLASS_CLASS_NAME = "java.lang.Class";
 
         public void getDeclaredMethod(ClassMethod classMethod, String declaringClass, String methodName, String[] parameterTypes) {
+            // the target class is only known at runtime but it does not change for a given decorator proxy instance
+            // therefore, the method is looked up once and stored in a transient volatile instance field
+            final ClassFile classFile = classMethod.getClassFile();
+            final String fieldName = DefaultBytecodeMethodResolver.METHOD_FIELD_PREFIX + classFile.getFields().size();
+            classFile.addField(AccessFlag.PRIVATE | AccessFlag.TRANSIENT | AccessFlag.VOLATILE | AccessFlag.SYNTHETIC, fieldName, Method.class);
+            CodeAttribute code = classMethod.getCodeAttribute();
+            code.aload(0);
+            code.getfield(classFile.getName(), fieldName, Method.class);
+            code.dup();
+            BranchEnd resolved = code.ifnotnull();
+            code.pop();
+            pushTargetMethod(classMethod, methodName, parameterTypes);
+            // store the method and leave it on the stack
+            code.dup();
+            code.aload(0);
+            code.swap();
+            code.putfield(classFile.getName(), fieldName, Method.class);
+            code.branchEnd(resolved);
+        }
+
+        private void pushTargetMethod(ClassMethod classMethod, String methodName, String[] parameterTypes) {
             // get the correct class type to use to resolve the method
             MethodInformation methodInfo = new StaticMethodInformation("getTargetClass", new String[0], LJAVA_LANG_CLASS, TargetInstanceProxy.class.getName());
             invokeMethodHandler(classMethod, methodInfo, false, DEFAULT_METHOD_RESOLVER);
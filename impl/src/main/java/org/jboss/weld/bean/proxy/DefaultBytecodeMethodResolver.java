@@ -17,7 +17,12 @@
 
 package org.jboss.weld.bean.proxy;
 
+import java.lang.reflect.Method;
+
+import org.jboss.classfilewriter.AccessFlag;
+import org.jboss.classfilewriter.ClassFile;
 import org.jboss.classfilewriter.ClassMethod;
+import org.jboss.classfilewriter.code.BranchEnd;
 import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.weld.util.bytecode.BytecodeUtils;
 
@@ -25,15 +30,35 @@ import org.jboss.weld.util.bytecode.BytecodeUtils;
  * A {@link BytecodeMethodResolver} that looks up the method using the
  * reflection API.
  * <p/>
- * TODO: cache the result somehow
+ * The method is only looked up once. The result is stored in a private static volatile field of the generated class and the
+ * subsequent invocations only load the field. The field is volatile so that a {@link Method} stored by one thread is safely
+ * published to the other threads. As a result, the same {@link Method} object is passed to the method handler
+ * on every invocation and accessibility only needs to be set once.
  *
  * @author Stuart Douglas
  */
 public class DefaultBytecodeMethodResolver implements BytecodeMethodResolver {
 
+    static final String METHOD_FIELD_PREFIX = "weld$$$method";
 
     public void getDeclaredMethod(final ClassMethod classMethod, final String declaringClass, final String methodName, final String[] parameterTypes) {
-        final CodeAttribute code =classMethod.getCodeAttribute();
+        final CodeAttribute code = classMethod.getCodeAttribute();
+        final ClassFile classFile = classMethod.getClassFile();
+        // the number of fields only grows so the name is unique
+        final String fieldName = METHOD_FIELD_PREFIX + classFile.getFields().size();
+        classFile.addField(AccessFlag.PRIVATE | AccessFlag.STATIC | AccessFlag.VOLATILE | AccessFlag.SYNTHETIC, fieldName, Method.class);
+        code.getstatic(classFile.getName(), fieldName, Method.class);
+        code.dup();
+        BranchEnd resolved = code.ifnotnull();
+        code.pop();
+        pushDeclaredMethod(code, declaringClass, methodName, parameterTypes);
+        // concurrent initialization is harmless, every thread stores an equivalent method
+        code.dup();
+        code.putstatic(classFile.getName(), fieldName, Method.class);
+        code.branchEnd(resolved);
+    }
+
+    private static void pushDeclaredMethod(final CodeAttribute code, final String declaringClass, final String methodName, final String[] parameterTypes) {
         BytecodeUtils.pushClassType(code, declaringClass);
         // now we have the class on the stack
         code.ldc(methodName);
@@ -50,6 +75,5 @@ public class DefaultBytecodeMethodResolver implements BytecodeMethodResolver {
             code.aastore();
         }
         code.invokevirtual(Class.class.getName(), "getDeclaredMethod", "(Ljava/lang/String;[Ljava/lang/Class;)Ljava/lang/reflect/Method;");
-
     }
 }
@@ -21,8 +21,11 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.security.AccessController;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.enterprise.inject.spi.Bean;
 
@@ -32,10 +35,13 @@ import org.jboss.classfilewriter.ClassMethod;
 import org.jboss.classfilewriter.DuplicateMemberException;
 import org.jboss.classfilewriter.code.BranchEnd;
 import org.jboss.classfilewriter.code.CodeAttribute;
+import org.jboss.classfilewriter.code.TableSwitchBuilder;
 import org.jboss.weld.annotated.enhanced.MethodSignature;
 import org.jboss.weld.annotated.enhanced.jlr.MethodSignatureImpl;
+import org.jboss.weld.bean.proxy.store.ProxyClassFingerprint;
 import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.interceptor.proxy.LifecycleMixin;
+import org.jboss.weld.interceptor.proxy.SuperMethodInvoker;
 import org.jboss.weld.interceptor.util.proxy.TargetInstanceProxy;
 import org.jboss.weld.security.GetDeclaredMethodsAction;
 import org.jboss.weld.util.bytecode.Boxing;
@@ -43,7 +49,6 @@ import org.jboss.weld.util.bytecode.BytecodeUtils;
 import org.jboss.weld.util.bytecode.DescriptorUtils;
 import org.jboss.weld.util.bytecode.MethodInformation;
 import org.jboss.weld.util.bytecode.RuntimeMethodInformation;
-import org.jboss.weld.util.bytecode.StaticMethodInformation;
 
 /**
  * Factory for producing subclasses that are used by the combined interceptors and decorators stack.
@@ -56,6 +61,8 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
 
     private static final String SUPER_DELEGATE_SUFFIX = "$$super";
 
+    private static final String EMPTY_PARENTHESES = "()";
+
     private static final String COMBINED_INTERCEPTOR_AND_DECORATOR_STACK_METHOD_HANDLER_CLASS_NAME = CombinedInterceptorAndDecoratorStackMethodHandler.class.getName();
 
     private final Set<MethodSignature> enhancedMethodSignatures;
@@ -92,6 +99,12 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX;
     }
 
+    @Override
+    protected void addToFingerprint(ProxyClassFingerprint fingerprint) {
+        // the set of intercepted methods depends on interceptor bindings, not only on the structure of the class
+        fingerprint.addAll(enhancedMethodSignatures);
+    }
+
     @Override
     protected void addMethods(ClassFile proxyClassType) {
         // Add all class methods for interception
@@ -114,11 +127,10 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
                     if (!Modifier.isFinal(method.getModifiers()) && enhancedMethodSignatures.contains(methodSignature) && !finalMethods.contains(methodSignature)) {
                         try {
                             MethodInformation methodInfo = new RuntimeMethodInformation(method);
-                            MethodInformation delegatingMethodInfo = new StaticMethodInformation(method.getName() + SUPER_DELEGATE_SUFFIX, method.getParameterTypes(), method.getReturnType(), proxyClassType.getName(), Modifier.PRIVATE | (method.getModifiers() & AccessFlag.BRIDGE));
 
                             ClassMethod delegatingMethod = proxyClassType.addMethod(method.getModifiers() | AccessFlag.SYNTHETIC, method.getName() + SUPER_DELEGATE_SUFFIX, DescriptorUtils.classToStringRepresentation(method.getReturnType()), DescriptorUtils.getParameterTypes(method.getParameterTypes()));
                             delegatingMethod.addCheckedExceptions((Class<? extends Exception>[]) method.getExceptionTypes());
-                            createDelegateToSuper(delegatingMethod, delegatingMethodInfo);
+                            createDelegateToSuper(delegatingMethod, methodInfo);
 
                             ClassMethod classMethod = proxyClassType.addMethod(method);
                             addConstructedGuardToMethodBody(classMethod);
@@ -219,7 +231,7 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
         if (addProceed) {
             b.dup();
             b.checkcast(COMBINED_INTERCEPTOR_AND_DECORATOR_STACK_METHOD_HANDLER_CLASS_NAME);
-            b.invokevirtual(COMBINED_INTERCEPTOR_AND_DECORATOR_STACK_METHOD_HANDLER_CLASS_NAME, "isDisabledHandler", "()" + DescriptorUtils.BOOLEAN_CLASS_DESCRIPTOR);
+            b.invokevirtual(COMBINED_INTERCEPTOR_AND_DECORATOR_STACK_METHOD_HANDLER_CLASS_NAME, "isDisabledHandler", EMPTY_PARENTHESES + DescriptorUtils.BOOLEAN_CLASS_DESCRIPTOR);
             b.iconst(0);
             BranchEnd invokeSuperDirectly = b.ifIcmpeq();
             // now build the bytecode that invokes the super class method
@@ -305,11 +317,101 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
 
             Method getMethodHandlerMethod = ProxyObject.class.getMethod("getHandler");
             generateGetMethodHandlerBody(proxyClassType.addMethod(getMethodHandlerMethod));
+
+            addSuperMethodInvoker(proxyClassType);
        } catch (Exception e) {
             throw new WeldException(e);
         }
     }
 
+    /**
+     * Implements {@link SuperMethodInvoker} so that the superclass implementation of an intercepted method can be invoked at
+     * the end of an interceptor chain without reflection. The generated code is equivalent to:
+     * <p/>
+     * <code>
+     * switch (index) {
+     *     case 0: return foo$$super((String) parameters[0]);
+     *     ...
+     * }
+     * </code>
+     */
+    private static void addSuperMethodInvoker(ClassFile proxyClassType) {
+        final List<ClassMethod> delegates = new ArrayList<ClassMethod>();
+        for (ClassMethod method : proxyClassType.getMethods()) {
+            if (method.getName().endsWith(SUPER_DELEGATE_SUFFIX)) {
+                delegates.add(method);
+            }
+        }
+        proxyClassType.addInterface(SuperMethodInvoker.class.getName());
+
+        final ClassMethod getSignatures = proxyClassType.addMethod(AccessFlag.PUBLIC, "weld_$$_getSuperMethodSignatures", "[" + LJAVA_LANG_STRING);
+        final CodeAttribute signatures = getSignatures.getCodeAttribute();
+        signatures.iconst(delegates.size());
+        signatures.anewarray(String.class.getName());
+        for (int i = 0; i < delegates.size(); i++) {
+            ClassMethod delegate = delegates.get(i);
+            signatures.dup();
+            signatures.iconst(i);
+            signatures.ldc(delegate.getName().substring(0, delegate.getName().length() - SUPER_DELEGATE_SUFFIX.length()) + delegate.getDescriptor());
+            signatures.aastore();
+        }
+        signatures.returnInstruction();
+
+        final ClassMethod invokeSuper = proxyClassType.addMethod(AccessFlag.PUBLIC, "weld_$$_invokeSuper", LJAVA_LANG_OBJECT, DescriptorUtils.INT_CLASS_DESCRIPTOR, "[" + LJAVA_LANG_OBJECT);
+        @SuppressWarnings("unchecked")
+        final Class<? extends Exception>[] exceptions = new Class[] { Exception.class };
+        invokeSuper.addCheckedExceptions(exceptions);
+        final CodeAttribute b = invokeSuper.getCodeAttribute();
+        if (!delegates.isEmpty()) {
+            final TableSwitchBuilder builder = new TableSwitchBuilder(0, delegates.size() - 1);
+            final List<AtomicReference<BranchEnd>> cases = new ArrayList<AtomicReference<BranchEnd>>(delegates.size());
+            for (int i = 0; i < delegates.size(); i++) {
+                cases.add(builder.add());
+            }
+            b.iload(1);
+            b.tableswitch(builder);
+            for (int i = 0; i < delegates.size(); i++) {
+                b.branchEnd(cases.get(i).get());
+                invokeDelegate(b, delegates.get(i));
+            }
+            b.branchEnd(builder.getDefaultBranchEnd().get());
+        }
+        b.newInstruction(IllegalArgumentException.class.getName());
+        b.dup();
+        b.invokespecial(IllegalArgumentException.class.getName(), INIT_METHOD_NAME, EMPTY_PARENTHESES + DescriptorUtils.VOID_CLASS_DESCRIPTOR);
+        b.athrow();
+    }
+
+    private static void invokeDelegate(CodeAttribute b, ClassMethod delegate) {
+        b.aload(0);
+        final String[] parameterTypes = delegate.getParameters();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            b.aload(2);
+            b.iconst(i);
+            b.aaload();
+            if (DescriptorUtils.isPrimitive(parameterTypes[i])) {
+                Boxing.unbox(b, parameterTypes[i]);
+            } else {
+                b.checkcast(getCastType(parameterTypes[i]));
+            }
+        }
+        b.invokevirtual(delegate.getClassFile().getName(), delegate.getName(), delegate.getDescriptor());
+        final String returnType = delegate.getReturnType();
+        if (returnType.equals(DescriptorUtils.VOID_CLASS_DESCRIPTOR)) {
+            b.aconstNull();
+        } else {
+            Boxing.boxIfNessesary(b, returnType);
+        }
+        b.returnInstruction();
+    }
+
+    private static String getCastType(String descriptor) {
+        if (descriptor.startsWith("[")) {
+            return descriptor;
+        }
+        return descriptor.substring(1, descriptor.length() - 1);
+    }
+
     private static void generateGetMethodHandlerBody(ClassMethod method) {
         final CodeAttribute b = method.getCodeAttribute();
         b.aload(0);
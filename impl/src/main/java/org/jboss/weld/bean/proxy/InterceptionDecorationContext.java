@@ -17,11 +17,7 @@
 
 package org.jboss.weld.bean.proxy;
 
-import java.util.ArrayList;
 import java.util.EmptyStackException;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 
 /**
  * A class that holds the interception (and decoration) contexts which are currently in progress.
@@ -33,70 +29,160 @@ import java.util.Set;
  * <p/>
  * Classes may create new interception contexts as necessary (e.g. allowing client proxies to create new interception
  * contexts in order to make circular references interceptable multiple times).
+ * <p/>
+ * All the interception contexts of a thread are kept in a single array-based {@link Stack} where a <code>null</code> element
+ * marks the beginning of an interception context. Since method handlers are disabled and enabled in a strictly nested
+ * manner, no allocation is required for entering or leaving an interception context once the stack exists.
+ * <p/>
+ * The stack of a thread is removed from the thread-local variable as soon as all its interception contexts end, so that no
+ * reference to Weld classes is left in a thread-local map of a pooled thread once the invocation is over.
  *
  * @author Marius Bogoevici
  */
 public class InterceptionDecorationContext {
-    private static ThreadLocal<List<Set<CombinedInterceptorAndDecoratorStackMethodHandler>>> interceptionContexts = new ThreadLocal<List<Set<CombinedInterceptorAndDecoratorStackMethodHandler>>>();
+    private static final ThreadLocal<Stack> interceptionContexts = new ThreadLocal<Stack>();
 
     private InterceptionDecorationContext() {
     }
 
-    private static Set<CombinedInterceptorAndDecoratorStackMethodHandler> pop() {
-        List<Set<CombinedInterceptorAndDecoratorStackMethodHandler>> stack = interceptionContexts.get();
-        if (stack == null) {
-            throw new EmptyStackException();
-        } else {
-            try {
-                return stack.remove(stack.size() - 1);
-            } finally {
-                if (stack.isEmpty()) {
-                    interceptionContexts.remove();
-                }
-            }
-        }
+    /**
+     * Returns the stack of interception contexts of the current thread or null if there is no interception context.
+     */
+    static Stack getStack() {
+        return interceptionContexts.get();
     }
 
-    private static Set<CombinedInterceptorAndDecoratorStackMethodHandler> push(Set<CombinedInterceptorAndDecoratorStackMethodHandler> item) {
-        List<Set<CombinedInterceptorAndDecoratorStackMethodHandler>> stack = interceptionContexts.get();
+    /**
+     * Starts a new interception context and returns the stack of interception contexts of the current thread.
+     */
+    static Stack startInterceptorContextAndGetStack() {
+        Stack stack = interceptionContexts.get();
         if (stack == null) {
-            stack = new ArrayList<Set<CombinedInterceptorAndDecoratorStackMethodHandler>>();
+            stack = new Stack();
             interceptionContexts.set(stack);
         }
-        stack.add(item);
-        return item;
+        stack.startContext();
+        return stack;
     }
 
-    public static Set<CombinedInterceptorAndDecoratorStackMethodHandler> peek() {
-        List<Set<CombinedInterceptorAndDecoratorStackMethodHandler>> stack = interceptionContexts.get();
+    public static boolean empty() {
+        return getStack() == null;
+    }
+
+    public static void endInterceptorContext() {
+        Stack stack = interceptionContexts.get();
         if (stack == null) {
             throw new EmptyStackException();
-        } else {
-            int last = stack.size() - 1;
-            Set<CombinedInterceptorAndDecoratorStackMethodHandler> result = stack.get(last);
-            if (result == null) {
-                result = new HashSet<CombinedInterceptorAndDecoratorStackMethodHandler>();
-                stack.set(last, result);
-            }
-            return result;
         }
+        endInterceptorContext(stack);
     }
 
-    public static boolean empty() {
-        List<Set<CombinedInterceptorAndDecoratorStackMethodHandler>> stack = interceptionContexts.get();
-        if (stack == null) {
-            return true;
-        } else {
-            return stack.isEmpty();
+    /**
+     * Ends the current interception context of the given stack, which is the stack of the current thread. The stack is removed
+     * once it becomes empty.
+     */
+    static void endInterceptorContext(Stack stack) {
+        stack.endContext();
+        if (stack.isEmpty()) {
+            interceptionContexts.remove();
         }
     }
 
+    public static void startInterceptorContext() {
+        startInterceptorContextAndGetStack();
+    }
 
-    public static void endInterceptorContext() {
-        pop();
+    /**
+     * Starts a new interception context if there is an interception context in progress already. If there is none, a new
+     * context is not needed as the first intercepted or decorated instance starts one.
+     *
+     * @return true if a new interception context was started, false otherwise
+     */
+    public static boolean startInterceptorContextIfNotEmpty() {
+        Stack stack = getStack();
+        if (stack == null) {
+            return false;
+        }
+        stack.startContext();
+        return true;
     }
 
-    public static void startInterceptorContext() {
-        push(null);
+    static class Stack {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private CombinedInterceptorAndDecoratorStackMethodHandler[] elements = new CombinedInterceptorAndDecoratorStackMethodHandler[INITIAL_CAPACITY];
+
+        private int size;
+
+        private void push(CombinedInterceptorAndDecoratorStackMethodHandler element) {
+            if (size == elements.length) {
+                CombinedInterceptorAndDecoratorStackMethodHandler[] newElements = new CombinedInterceptorAndDecoratorStackMethodHandler[size * 2];
+                System.arraycopy(elements, 0, newElements, 0, size);
+                elements = newElements;
+            }
+            elements[size++] = element;
+        }
+
+        private void startContext() {
+            push(null);
+        }
+
+        void endContext() {
+            while (size > 0) {
+                CombinedInterceptorAndDecoratorStackMethodHandler element = elements[--size];
+                elements[size] = null;
+                if (element == null) {
+                    return;
+                }
+            }
+            throw new EmptyStackException();
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Indicates whether the given method handler is disabled in the current interception context.
+         */
+        boolean isDisabled(CombinedInterceptorAndDecoratorStackMethodHandler handler) {
+            for (int i = size - 1; i >= 0; i--) {
+                CombinedInterceptorAndDecoratorStackMethodHandler element = elements[i];
+                if (element == null) {
+                    return false;
+                }
+                if (element == handler) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Disables the given method handler in the current interception context.
+         *
+         * @return true if the handler was not disabled before, false otherwise
+         */
+        boolean disable(CombinedInterceptorAndDecoratorStackMethodHandler handler) {
+            if (isDisabled(handler)) {
+                return false;
+            }
+            push(handler);
+            return true;
+        }
+
+        /**
+         * Enables a method handler previously disabled using {@link #disable(CombinedInterceptorAndDecoratorStackMethodHandler)}.
+         */
+        void enable(CombinedInterceptorAndDecoratorStackMethodHandler handler) {
+            for (int i = size - 1; i >= 0 && elements[i] != null; i--) {
+                if (elements[i] == handler) {
+                    System.arraycopy(elements, i + 1, elements, i, size - i - 1);
+                    elements[--size] = null;
+                    return;
+                }
+            }
+        }
     }
 }
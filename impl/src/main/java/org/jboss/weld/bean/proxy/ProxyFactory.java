@@ -48,6 +48,8 @@ import org.jboss.classfilewriter.DuplicateMemberException;
 import org.jboss.classfilewriter.code.BranchEnd;
 import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.weld.Container;
+import org.jboss.weld.bean.proxy.store.ProxyClassFingerprint;
+import org.jboss.weld.bean.proxy.store.ProxyClassStore;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.interceptor.proxy.LifecycleMixin;
@@ -67,6 +69,7 @@ import org.jboss.weld.util.bytecode.DescriptorUtils;
 import org.jboss.weld.util.bytecode.MethodInformation;
 import org.jboss.weld.util.bytecode.RuntimeMethodInformation;
 import org.jboss.weld.util.collections.ArraySet;
+import org.jboss.weld.util.reflection.Formats;
 import org.jboss.weld.util.reflection.Reflections;
 import org.jboss.weld.util.reflection.instantiation.InstantiatorFactory;
 import org.slf4j.cal10n.LocLogger;
@@ -87,6 +90,12 @@ public class ProxyFactory<T> {
     // Default proxy class name suffix
     public static final String PROXY_SUFFIX = "$Proxy$";
     public static final String DEFAULT_PROXY_PACKAGE = "org.jboss.weld.proxies";
+    /**
+     * The version of the generated proxy bytecode layout, shared by all the proxy factories. It is part of the fingerprint
+     * of stored proxy classes and must be incremented whenever the generated bytecode changes (e.g. a new field or a new
+     * call into the Weld runtime), so that proxy classes generated by a previous version are not reused.
+     */
+    private static final int PROXY_FORMAT_VERSION = 4;
 
     private final Class<?> beanType;
     private final Set<Class<?>> additionalInterfaces = new LinkedHashSet<Class<?>>();
@@ -394,6 +403,31 @@ public class ProxyFactory<T> {
         // Remove special interfaces from main set (deserialization scenario)
         additionalInterfaces.removeAll(specialInterfaces);
 
+        // TODO: change the ProxyServices SPI to allow the container to figure out
+        // which PD to use
+        ProtectionDomain domain = proxiedBeanType.getProtectionDomain();
+        if (proxiedBeanType.getPackage() == null || proxiedBeanType.equals(Object.class)) {
+            domain = ProxyFactory.class.getProtectionDomain();
+        }
+
+        // try to use a pre-generated proxy class first
+        ProxyClassStore store = Container.instance().services().get(ProxyClassStore.class);
+        String fingerprint = null;
+        if (store != null) {
+            fingerprint = getFingerprint(proxyClassName, specialInterfaces);
+            byte[] bytecode = store.load(proxyClassName, fingerprint);
+            if (bytecode != null) {
+                try {
+                    Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassName, bytecode, classLoader, domain));
+                    log.trace("Loaded Proxy class {} from {}", proxyClass, store);
+                    return proxyClass;
+                } catch (RuntimeException e) {
+                    // e.g. a corrupted class file
+                    log.debug("Unable to define stored proxy class {}, generating it again", proxyClassName);
+                }
+            }
+        }
+
         ClassFile proxyClassType = null;
         if (getBeanType().isInterface()) {
             proxyClassType = new ClassFile(proxyClassName, Object.class.getName());
@@ -415,19 +449,41 @@ public class ProxyFactory<T> {
         for (Class<?> specialInterface : specialInterfaces) {
             proxyClassType.addInterface(specialInterface.getName());
         }
-        // TODO: change the ProxyServices SPI to allow the container to figure out
-        // which PD to use
 
-
-        ProtectionDomain domain = proxiedBeanType.getProtectionDomain();
-        if (proxiedBeanType.getPackage() == null || proxiedBeanType.equals(Object.class)) {
-            domain = ProxyFactory.class.getProtectionDomain();
-        }
-        Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassType, classLoader, domain));
+        byte[] bytecode = proxyClassType.toBytecode();
+        Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassName, bytecode, classLoader, domain));
         log.trace("Created Proxy class of type {} supporting interfaces {}", proxyClass, Arrays.toString(proxyClass.getInterfaces()));
+        if (store != null) {
+            store.store(proxyClassName, fingerprint, bytecode);
+        }
         return proxyClass;
     }
 
+    private String getFingerprint(String proxyClassName, Set<Class<?>> specialInterfaces) {
+        ProxyClassFingerprint fingerprint = new ProxyClassFingerprint();
+        fingerprint.add(proxyClassName).add(Formats.version(ProxyFactory.class.getPackage())).add(PROXY_FORMAT_VERSION)
+                .add(getClass().getName());
+        fingerprint.addType(getBeanType());
+        for (Class<?> additionalInterface : additionalInterfaces) {
+            fingerprint.addType(additionalInterface);
+        }
+        for (Class<?> specialInterface : specialInterfaces) {
+            fingerprint.addType(specialInterface);
+        }
+        addToFingerprint(fingerprint);
+        return fingerprint.getValue();
+    }
+
+    /**
+     * Subclasses which generate bytecode based on additional information (besides the proxied type and the additional
+     * interfaces) need to add this information to the fingerprint of the proxy class. Otherwise, a stale pre-generated
+     * proxy class could be used.
+     *
+     * @param fingerprint the fingerprint of the proxy class
+     */
+    protected void addToFingerprint(ProxyClassFingerprint fingerprint) {
+    }
+
     /**
      * Adds a constructor for the proxy for each constructor declared by the base
      * bean type.
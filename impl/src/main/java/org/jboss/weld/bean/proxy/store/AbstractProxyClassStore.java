@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy.store;
+
+import static org.jboss.weld.logging.Category.BEAN;
+import static org.jboss.weld.logging.LoggerFactory.loggerFactory;
+import static org.jboss.weld.logging.messages.BeanMessage.PROXY_CLASS_STORE_READ_FAILED;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.slf4j.cal10n.LocLogger;
+import org.slf4j.ext.XLogger;
+import org.slf4j.ext.XLogger.Level;
+
+/**
+ * Common functionality of {@link ProxyClassStore} implementations. A proxy class is stored as two entries: the class file
+ * itself (e.g. <code>org/acme/Foo$Proxy$_$$_WeldClientProxy.class</code>) and its fingerprint (e.g.
+ * <code>org/acme/Foo$Proxy$_$$_WeldClientProxy.fingerprint</code>).
+ */
+public abstract class AbstractProxyClassStore implements ProxyClassStore {
+
+    protected static final String CLASS_FILE_SUFFIX = ".class";
+    protected static final String FINGERPRINT_SUFFIX = ".fingerprint";
+    protected static final Charset FINGERPRINT_CHARSET = Charset.forName("UTF-8");
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final LocLogger log = loggerFactory().getLogger(BEAN);
+    private static final XLogger xLog = loggerFactory().getXLogger(BEAN);
+
+    public byte[] load(String className, String fingerprint) {
+        String path = getPath(className);
+        try {
+            byte[] storedFingerprint = read(path + FINGERPRINT_SUFFIX);
+            if (storedFingerprint == null) {
+                return null;
+            }
+            if (!fingerprint.equals(new String(storedFingerprint, FINGERPRINT_CHARSET))) {
+                log.debug("Stored proxy class {} is stale", className);
+                return null;
+            }
+            return read(path + CLASS_FILE_SUFFIX);
+        } catch (IOException e) {
+            log.warn(PROXY_CLASS_STORE_READ_FAILED, className, this);
+            xLog.throwing(Level.DEBUG, e);
+            return null;
+        }
+    }
+
+    /**
+     * Opens an entry of the store.
+     *
+     * @param path the path of the entry
+     * @return the input stream or null if there is no such entry
+     */
+    protected abstract InputStream open(String path) throws IOException;
+
+    protected static String getPath(String className) {
+        return className.replace('.', '/');
+    }
+
+    private byte[] read(String path) throws IOException {
+        InputStream in = open(path);
+        if (in == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+}
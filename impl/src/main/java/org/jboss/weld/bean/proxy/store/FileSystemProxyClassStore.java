@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy.store;
+
+import static org.jboss.weld.logging.Category.BEAN;
+import static org.jboss.weld.logging.LoggerFactory.loggerFactory;
+import static org.jboss.weld.logging.messages.BeanMessage.PROXY_CLASS_STORE_WRITE_FAILED;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.slf4j.cal10n.LocLogger;
+import org.slf4j.ext.XLogger;
+import org.slf4j.ext.XLogger.Level;
+
+/**
+ * {@link ProxyClassStore} backed by a directory. The directory uses the same layout as a class path entry and can be
+ * packaged as a jar file afterwards (see {@link JarProxyClassStore}).
+ * <p>
+ * Entries are written to a temporary file first and then renamed. The fingerprint is written last so that a partially written
+ * proxy class is never considered valid.
+ */
+public class FileSystemProxyClassStore extends AbstractProxyClassStore {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final LocLogger log = loggerFactory().getLogger(BEAN);
+    private static final XLogger xLog = loggerFactory().getXLogger(BEAN);
+
+    private final File directory;
+    private final boolean writable;
+
+    public FileSystemProxyClassStore(File directory, boolean writable) {
+        this.directory = directory;
+        this.writable = writable;
+    }
+
+    @Override
+    protected InputStream open(String path) throws IOException {
+        File file = new File(directory, path);
+        if (!file.isFile()) {
+            return null;
+        }
+        return new FileInputStream(file);
+    }
+
+    public void store(String className, String fingerprint, byte[] bytecode) {
+        if (!writable) {
+            return;
+        }
+        String path = getPath(className);
+        try {
+            write(path + CLASS_FILE_SUFFIX, bytecode);
+            write(path + FINGERPRINT_SUFFIX, fingerprint.getBytes(FINGERPRINT_CHARSET));
+        } catch (IOException e) {
+            log.warn(PROXY_CLASS_STORE_WRITE_FAILED, className, this);
+            xLog.throwing(Level.DEBUG, e);
+        }
+    }
+
+    private void write(String path, byte[] data) throws IOException {
+        File file = new File(directory, path);
+        File parent = file.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+            throw new IOException("Unable to create directory " + parent);
+        }
+        File temp = File.createTempFile(file.getName(), TEMP_SUFFIX, parent);
+        try {
+            OutputStream out = new FileOutputStream(temp);
+            try {
+                out.write(data);
+            } finally {
+                out.close();
+            }
+            // renameTo() does not replace an existing file on some platforms
+            if (!temp.renameTo(file) && !(file.delete() && temp.renameTo(file))) {
+                throw new IOException("Unable to write " + file);
+            }
+        } finally {
+            if (temp.exists() && !temp.delete()) {
+                temp.deleteOnExit();
+            }
+        }
+    }
+
+    public void cleanup() {
+    }
+
+    @Override
+    public String toString() {
+        return "FileSystemProxyClassStore [directory=" + directory + ", writable=" + writable + "]";
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.jboss.weld.exceptions.DeploymentException;
+
+/**
+ * Read-only {@link ProxyClassStore} backed by a jar file, typically a packaged {@link FileSystemProxyClassStore} directory.
+ */
+public class JarProxyClassStore extends AbstractProxyClassStore {
+
+    private final File file;
+    private final ZipFile jar;
+
+    public JarProxyClassStore(File file) {
+        this.file = file;
+        try {
+            this.jar = new ZipFile(file);
+        } catch (IOException e) {
+            throw new DeploymentException(e);
+        }
+    }
+
+    @Override
+    protected InputStream open(String path) throws IOException {
+        ZipEntry entry = jar.getEntry(path);
+        if (entry == null) {
+            return null;
+        }
+        return jar.getInputStream(entry);
+    }
+
+    public void store(String className, String fingerprint, byte[] bytecode) {
+        // read-only
+    }
+
+    public void cleanup() {
+        try {
+            jar.close();
+        } catch (IOException ignored) {
+            // nothing to do
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JarProxyClassStore [file=" + file + "]";
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy.store;
+
+import java.io.UnsupportedEncodingException;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.security.GetDeclaredConstructorsAction;
+import org.jboss.weld.security.GetDeclaredFieldsAction;
+import org.jboss.weld.security.GetDeclaredMethodsAction;
+
+/**
+ * Builds a fingerprint of the inputs of proxy class generation. The fingerprint covers the structure (declared methods,
+ * constructors and fields) of the proxied type and of the additional interfaces including their supertypes, as well as any
+ * other value added by the proxy factory. If any of these changes, the fingerprint changes too and a stored proxy class is
+ * considered stale.
+ */
+public class ProxyClassFingerprint {
+
+    private static final String ALGORITHM = "SHA-1";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int HIGH_BITS = 4;
+    private static final int LOW_BITS_MASK = 0xF;
+
+    private static final Comparator<Object> TO_STRING_COMPARATOR = new Comparator<Object>() {
+        public int compare(Object o1, Object o2) {
+            return o1.toString().compareTo(o2.toString());
+        }
+    };
+
+    private final StringBuilder builder;
+    private final Set<Class<?>> processedTypes;
+
+    public ProxyClassFingerprint() {
+        this.builder = new StringBuilder();
+        this.processedTypes = new HashSet<Class<?>>();
+    }
+
+    /**
+     * Adds an arbitrary value to the fingerprint.
+     */
+    public ProxyClassFingerprint add(Object value) {
+        builder.append(value).append('\n');
+        return this;
+    }
+
+    /**
+     * Adds the values to the fingerprint in a stable order, i.e. the iteration order of the given values does not matter.
+     */
+    public ProxyClassFingerprint addAll(Iterable<?> values) {
+        Set<String> sorted = new TreeSet<String>();
+        for (Object value : values) {
+            sorted.add(String.valueOf(value));
+        }
+        for (String value : sorted) {
+            add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the structure of the given type, its superclasses and all the implemented interfaces to the fingerprint.
+     */
+    public ProxyClassFingerprint addType(Class<?> type) {
+        if (type == null || type == Object.class || !processedTypes.add(type)) {
+            return this;
+        }
+        add(type.getName()).add(type.getModifiers());
+        addMembers(AccessController.doPrivileged(new GetDeclaredMethodsAction(type)));
+        addMembers(AccessController.doPrivileged(new GetDeclaredConstructorsAction(type)));
+        addMembers(AccessController.doPrivileged(new GetDeclaredFieldsAction(type)));
+        addType(type.getSuperclass());
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            addType(interfaceType);
+        }
+        return this;
+    }
+
+    private void addMembers(Object[] members) {
+        // reflection does not guarantee any particular order of members
+        Object[] sorted = members.clone();
+        Arrays.sort(sorted, TO_STRING_COMPARATOR);
+        for (Object member : sorted) {
+            add(member);
+        }
+    }
+
+    /**
+     * Returns the fingerprint as a hexadecimal digest.
+     */
+    public String getValue() {
+        try {
+            byte[] digest = MessageDigest.getInstance(ALGORITHM).digest(builder.toString().getBytes("UTF-8"));
+            char[] result = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                result[2 * i] = HEX[(digest[i] >> HIGH_BITS) & LOW_BITS_MASK];
+                result[2 * i + 1] = HEX[digest[i] & LOW_BITS_MASK];
+            }
+            return new String(result);
+        } catch (NoSuchAlgorithmException e) {
+            throw new WeldException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new WeldException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
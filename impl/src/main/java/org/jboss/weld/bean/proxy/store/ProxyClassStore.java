@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy.store;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Persistent store of generated proxy classes. Proxy classes are stored along with a fingerprint of everything their
+ * bytecode depends on (see {@link ProxyClassFingerprint}). A stored proxy class is only used if its fingerprint matches,
+ * otherwise it is considered stale and the proxy class is generated again.
+ */
+public interface ProxyClassStore extends Service {
+
+    /**
+     * Loads the bytecode of a proxy class.
+     *
+     * @param className the name of the proxy class
+     * @param fingerprint the expected fingerprint
+     * @return the bytecode or null if the proxy class is not stored or is stale
+     */
+    byte[] load(String className, String fingerprint);
+
+    /**
+     * Stores the bytecode of a proxy class. The operation is a no-op if the store is read-only.
+     *
+     * @param className the name of the proxy class
+     * @param fingerprint the fingerprint of the proxy class
+     * @param bytecode the bytecode
+     */
+    void store(String className, String fingerprint, byte[] bytecode);
+}
@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Properties;
+
+import org.jboss.weld.exceptions.DeploymentException;
+import org.jboss.weld.logging.messages.BootstrapMessage;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoadingException;
+
+/**
+ * Creates a {@link ProxyClassStore} based on the <code>org.jboss.weld.proxies.properties</code> configuration file. The
+ * following properties are recognized:
+ * <ul>
+ * <li><code>proxyStoreLocation</code> - a directory or a jar file holding pre-generated proxy classes</li>
+ * <li><code>proxyStoreWritable</code> - whether newly generated proxy classes should be written to the directory (the default
+ * value is <code>true</code>, jar files are always read-only)</li>
+ * </ul>
+ */
+public class ProxyClassStoreFactory {
+
+    private static final String CONFIGURATION_FILE = "org.jboss.weld.proxies.properties";
+    private static final String LOCATION = "proxyStoreLocation";
+    private static final String WRITABLE = "proxyStoreWritable";
+    private static final String JAR_SUFFIX = ".jar";
+
+    private ProxyClassStoreFactory() {
+    }
+
+    /**
+     *
+     * @param loader the resource loader used to find the configuration file
+     * @return the configured store or null if no store is configured
+     */
+    public static ProxyClassStore create(ResourceLoader loader) {
+        URL configuration = loader.getResource(CONFIGURATION_FILE);
+        if (configuration == null) {
+            return null;
+        }
+        Properties properties = loadProperties(configuration);
+        String location = properties.getProperty(LOCATION);
+        if (location == null || location.trim().length() == 0) {
+            return null;
+        }
+        boolean writable = Boolean.valueOf(properties.getProperty(WRITABLE, Boolean.TRUE.toString()));
+        return create(new File(location.trim()), writable);
+    }
+
+    /**
+     *
+     * @param location a directory or a jar file
+     * @param writable whether newly generated proxy classes should be stored (ignored for jar files)
+     * @return a new store
+     */
+    public static ProxyClassStore create(File location, boolean writable) {
+        if (location.isFile()) {
+            if (location.getName().endsWith(JAR_SUFFIX)) {
+                return new JarProxyClassStore(location);
+            }
+            throw new DeploymentException(BootstrapMessage.INVALID_PROPERTY_VALUE, LOCATION, location);
+        }
+        return new FileSystemProxyClassStore(location, writable);
+    }
+
+    private static Properties loadProperties(URL url) {
+        Properties properties = new Properties();
+        try {
+            InputStream in = url.openStream();
+            try {
+                properties.load(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new ResourceLoadingException(e);
+        }
+        return properties;
+    }
+}
@@ -23,13 +23,16 @@ import static org.jboss.weld.util.cache.LoadingCacheUtils.getCacheValue;
 import static org.slf4j.ext.XLogger.Level.DEBUG;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Priority;
 import javax.decorator.Decorator;
+import javax.enterprise.inject.Vetoed;
 import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.Extension;
@@ -49,6 +52,8 @@ import org.jboss.weld.bean.interceptor.InterceptorBindingsAdapter;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.bootstrap.enablement.GlobalEnablementBuilder;
 import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeImpl;
+import org.jboss.weld.bootstrap.index.ClassFileIndex;
+import org.jboss.weld.bootstrap.index.ClassFileInfo;
 import org.jboss.weld.ejb.EjbDescriptors;
 import org.jboss.weld.ejb.InternalEjbDescriptor;
 import org.jboss.weld.ejb.spi.EjbServices;
@@ -78,12 +83,17 @@ import com.google.common.cache.LoadingCache;
  */
 public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment> {
 
+    private static final String VETOED_ANNOTATION_NAME = Vetoed.class.getName();
+
     private transient LocLogger log = loggerFactory().getLogger(Category.CLASS_LOADING);
     private transient XLogger xlog = loggerFactory().getXLogger(Category.CLASS_LOADING);
 
     private final ResourceLoader resourceLoader;
     private final SlimAnnotatedTypeStore annotatedTypeStore;
     private final GlobalEnablementBuilder globalEnablementBuilder;
+    private final ClassFileIndex classFileIndex;
+    // classes which could not be loaded, e.g. because of a missing dependency
+    private final Set<String> unloadableClasses;
 
     public BeanDeployer(BeanManagerImpl manager, EjbDescriptors ejbDescriptors, ServiceRegistry services) {
         this(manager, ejbDescriptors, services, BeanDeployerEnvironmentFactory.newEnvironment(ejbDescriptors, manager));
@@ -94,9 +104,14 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         this.resourceLoader = manager.getServices().get(ResourceLoader.class);
         this.annotatedTypeStore = manager.getServices().get(SlimAnnotatedTypeStore.class);
         this.globalEnablementBuilder = manager.getServices().get(GlobalEnablementBuilder.class);
+        this.classFileIndex = manager.getServices().get(ClassFileIndex.class);
+        this.unloadableClasses = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
     }
 
     public BeanDeployer addClass(String className) {
+        if (isExcludedWithoutLoading(className)) {
+            return this;
+        }
         Class<?> clazz = loadClass(className);
         if (clazz != null) {
             SlimAnnotatedType<?> type = loadAnnotatedType(clazz);
@@ -107,12 +122,30 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         return this;
     }
 
+    /**
+     * Annotation types and vetoed types are never turned into annotated types. If the class file is available, this can be
+     * determined without loading the class. The class file is only parsed if it is going to be parsed anyway to find the
+     * annotations required by a {@link javax.enterprise.inject.spi.ProcessAnnotatedType} observer, otherwise parsing it would
+     * only add to the cost of loading the class.
+     */
+    private boolean isExcludedWithoutLoading(String className) {
+        if (classFileIndex == null || !containerLifecycleEvents.isProcessAnnotatedTypeWithRequiredAnnotationsObserved()) {
+            return false;
+        }
+        ClassFileInfo info = classFileIndex.getClassFileInfo(className, resourceLoader);
+        if (info == null) {
+            return false;
+        }
+        return info.isAnnotation() || classFileIndex.isAnnotationPresentOnClassOrPackage(info, VETOED_ANNOTATION_NAME, resourceLoader);
+    }
+
     private Class<?> loadClass(String className) {
         try {
             return resourceLoader.classForName(className);
         } catch (ResourceLoadingException e) {
             log.info(IGNORING_CLASS_DUE_TO_LOADING_ERROR, className, Formats.getNameOfMissingClassLoaderDependency(e));
             xlog.catching(DEBUG, e);
+            unloadableClasses.add(className);
             return null;
         }
     }
@@ -125,6 +158,7 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
             } catch (ResourceLoadingException e) {
                 log.info(IGNORING_CLASS_DUE_TO_LOADING_ERROR, clazz.getName(), Formats.getNameOfMissingClassLoaderDependency(e));
                 xlog.catching(DEBUG, e);
+                unloadableClasses.add(clazz.getName());
             }
         }
         return null;
@@ -156,6 +190,14 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         return this;
     }
 
+    /**
+     * Returns the names of the classes which were ignored because they could not be loaded. A missing dependency may become
+     * available later without the class itself changing.
+     */
+    public Set<String> getUnloadableClasses() {
+        return Collections.unmodifiableSet(unloadableClasses);
+    }
+
     public BeanDeployer addClasses(Iterable<String> classes) {
         for (String className : classes) {
             addClass(className);
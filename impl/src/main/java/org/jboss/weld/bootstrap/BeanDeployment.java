@@ -28,9 +28,14 @@ import static org.jboss.weld.logging.messages.BootstrapMessage.ENABLED_INTERCEPT
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.enterprise.context.spi.Context;
 
+import org.jboss.weld.bean.AbstractClassBean;
+import org.jboss.weld.bean.DecoratorImpl;
+import org.jboss.weld.bean.InterceptorImpl;
 import org.jboss.weld.bean.builtin.BeanManagerBean;
 import org.jboss.weld.bean.builtin.BeanManagerImplBean;
 import org.jboss.weld.bean.builtin.BeanMetadataBean;
@@ -54,6 +59,8 @@ import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.bootstrap.api.helpers.SimpleServiceRegistry;
 import org.jboss.weld.bootstrap.enablement.GlobalEnablementBuilder;
 import org.jboss.weld.bootstrap.enablement.ModuleEnablement;
+import org.jboss.weld.bootstrap.events.ContainerLifecycleEvents;
+import org.jboss.weld.bootstrap.index.BootstrapIndex;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
 import org.jboss.weld.bootstrap.spi.BootstrapConfiguration;
@@ -61,6 +68,7 @@ import org.jboss.weld.bootstrap.spi.Filter;
 import org.jboss.weld.bootstrap.spi.Metadata;
 import org.jboss.weld.ejb.EJBApiAbstraction;
 import org.jboss.weld.ejb.EjbDescriptors;
+import org.jboss.weld.ejb.InternalEjbDescriptor;
 import org.jboss.weld.ejb.spi.EjbServices;
 import org.jboss.weld.injection.producer.InjectionTargetService;
 import org.jboss.weld.interceptor.builder.InterceptorsApiAbstraction;
@@ -85,6 +93,8 @@ import org.slf4j.cal10n.LocLogger;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterables;
 
 /**
  * @author Pete Muir
@@ -99,6 +109,9 @@ public class BeanDeployment {
     private final BeanManagerImpl beanManager;
     private final BeanDeployer beanDeployer;
     private final Collection<ContextHolder<? extends Context>> contexts;
+    // classes of this archive and their checksum, only set if the bootstrap index is used
+    private Collection<String> indexedClasses;
+    private String indexChecksum;
 
     public BeanDeployment(BeanDeploymentArchive beanDeploymentArchive, BeanManagerImpl deploymentManager, ServiceRegistry deploymentServices, Collection<ContextHolder<? extends Context>> contexts) {
         this(beanDeploymentArchive, deploymentManager, deploymentServices, contexts, false);
@@ -210,7 +223,47 @@ public class BeanDeployment {
     }
 
     public void createClasses() {
-        beanDeployer.addClasses(loadClasses());
+        Iterable<String> classes = loadClasses();
+        BootstrapIndex bootstrapIndex = beanManager.getServices().get(BootstrapIndex.class);
+        if (bootstrapIndex != null && !beanManager.getServices().get(ContainerLifecycleEvents.class).isProcessAnnotatedTypeObserved()) {
+            indexedClasses = new ArrayList<String>();
+            Iterables.addAll(indexedClasses, classes);
+            indexChecksum = bootstrapIndex.computeChecksum(indexedClasses, beanDeployer.getResourceLoader());
+            Set<String> skippedClasses = bootstrapIndex.getSkippedClasses(beanDeploymentArchive.getId(), indexChecksum);
+            if (!skippedClasses.isEmpty()) {
+                log.debug("Skipping {} classes of {} known not to define a bean", skippedClasses.size(), beanDeploymentArchive.getId());
+                classes = filter(indexedClasses, Predicates.not(Predicates.in(skippedClasses)));
+            }
+        }
+        beanDeployer.addClasses(classes);
+    }
+
+    /**
+     * Records the classes of this archive which did not turn into a bean in the {@link BootstrapIndex}.
+     */
+    private void updateBootstrapIndex() {
+        if (indexChecksum == null) {
+            return;
+        }
+        BeanDeployerEnvironment environment = beanDeployer.getEnvironment();
+        Set<String> skippedClasses = new HashSet<String>(indexedClasses);
+        for (AbstractClassBean<?> bean : environment.getClassBeans()) {
+            skippedClasses.remove(bean.getBeanClass().getName());
+        }
+        for (DecoratorImpl<?> decorator : environment.getDecorators()) {
+            skippedClasses.remove(decorator.getBeanClass().getName());
+        }
+        for (InterceptorImpl<?> interceptor : environment.getInterceptors()) {
+            skippedClasses.remove(interceptor.getBeanClass().getName());
+        }
+        for (InternalEjbDescriptor<?> descriptor : environment.getEjbDescriptors()) {
+            skippedClasses.remove(descriptor.getBeanClass().getName());
+        }
+        // loading may succeed next time, e.g. once a missing dependency is added to the deployment
+        skippedClasses.removeAll(beanDeployer.getUnloadableClasses());
+        beanManager.getServices().get(BootstrapIndex.class).putSkippedClasses(beanDeploymentArchive.getId(), indexChecksum, skippedClasses);
+        indexedClasses = null;
+        indexChecksum = null;
     }
 
     /**
@@ -262,6 +315,7 @@ public class BeanDeployment {
 
         // TODO Register the context beans
         beanDeployer.createClassBeans();
+        updateBootstrapIndex();
 
     }
 
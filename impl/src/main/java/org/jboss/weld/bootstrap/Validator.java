@@ -131,6 +131,7 @@ import org.jboss.weld.exceptions.DeploymentException;
 import org.jboss.weld.exceptions.InconsistentSpecializationException;
 import org.jboss.weld.exceptions.UnproxyableResolutionException;
 import org.jboss.weld.exceptions.UnserializableDependencyException;
+import org.jboss.weld.injection.InjectionPlan;
 import org.jboss.weld.injection.producer.AbstractMemberProducer;
 import org.jboss.weld.interceptor.reader.ClassMetadataInterceptorFactory;
 import org.jboss.weld.interceptor.spi.metadata.ClassMetadata;
@@ -428,6 +429,7 @@ public class Validator implements Service {
             if (bean != null && Beans.isPassivatingScope(bean, beanManager)) {
                 validateInjectionPointPassivationCapable(ij, resolvedBean, beanManager);
             }
+            InjectionPlan.initialize(ij, resolvedBean, beanManager);
         }
     }
 
@@ -43,6 +43,7 @@ import javax.enterprise.context.Dependent;
 import javax.enterprise.context.RequestScoped;
 import javax.enterprise.context.SessionScoped;
 import javax.enterprise.context.spi.Context;
+import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.CDI;
 import javax.enterprise.inject.spi.Decorator;
@@ -60,6 +61,8 @@ import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.builtin.BeanManagerBean;
 import org.jboss.weld.bean.builtin.BeanManagerImplBean;
 import org.jboss.weld.bean.builtin.ContextBean;
+import org.jboss.weld.bean.proxy.store.ProxyClassStore;
+import org.jboss.weld.bean.proxy.store.ProxyClassStoreFactory;
 import org.jboss.weld.bean.proxy.util.SimpleProxyServices;
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.bootstrap.api.CDI11Bootstrap;
@@ -75,9 +78,12 @@ import org.jboss.weld.bootstrap.events.AfterDeploymentValidationImpl;
 import org.jboss.weld.bootstrap.events.AfterTypeDiscoveryImpl;
 import org.jboss.weld.bootstrap.events.BeforeBeanDiscoveryImpl;
 import org.jboss.weld.bootstrap.events.BeforeShutdownImpl;
+import org.jboss.weld.bootstrap.events.ClassFileAnnotationDiscovery;
 import org.jboss.weld.bootstrap.events.ContainerLifecycleEventPreloader;
 import org.jboss.weld.bootstrap.events.ContainerLifecycleEvents;
-import org.jboss.weld.bootstrap.events.SimpleAnnotationDiscovery;
+import org.jboss.weld.bootstrap.index.BootstrapIndex;
+import org.jboss.weld.bootstrap.index.BootstrapIndexFactory;
+import org.jboss.weld.bootstrap.index.ClassFileIndex;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.bootstrap.spi.BootstrapConfiguration;
@@ -96,6 +102,8 @@ import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.context.bound.BoundRequestContextImpl;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.context.bound.BoundSessionContextImpl;
+import org.jboss.weld.context.cache.SharedContextGeneration;
+import org.jboss.weld.context.conversation.ConversationTimerWheel;
 import org.jboss.weld.context.ejb.EjbLiteral;
 import org.jboss.weld.context.ejb.EjbRequestContext;
 import org.jboss.weld.context.ejb.EjbRequestContextImpl;
@@ -120,6 +128,7 @@ import org.jboss.weld.exceptions.IllegalStateException;
 import org.jboss.weld.executor.ExecutorServicesFactory;
 import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.injection.SLSBInvocationInjectionPoint;
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
 import org.jboss.weld.injection.producer.InjectionTargetService;
 import org.jboss.weld.logging.messages.VersionMessage;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -138,6 +147,8 @@ import org.jboss.weld.resources.WeldClassLoaderResourceLoader;
 import org.jboss.weld.resources.spi.AnnotationDiscovery;
 import org.jboss.weld.resources.spi.ResourceLoader;
 import org.jboss.weld.resources.spi.ScheduledExecutorServiceFactory;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.BeanIdentifierIndexFactory;
 import org.jboss.weld.serialization.ContextualStoreImpl;
 import org.jboss.weld.serialization.spi.ContextualStore;
 import org.jboss.weld.serialization.spi.ProxyServices;
@@ -310,9 +321,30 @@ public class WeldBootstrap implements CDI11Bootstrap {
             if (!registry.contains(ScheduledExecutorServiceFactory.class)) {
                 registry.add(ScheduledExecutorServiceFactory.class, new SingleThreadScheduledExecutorServiceFactory());
             }
+            if (!registry.contains(ConversationTimerWheel.class)) {
+                registry.add(ConversationTimerWheel.class, new ConversationTimerWheel(registry.get(ScheduledExecutorServiceFactory.class)));
+            }
             if (!registry.contains(ProxyServices.class)) {
                 registry.add(ProxyServices.class, new SimpleProxyServices());
             }
+            if (!registry.contains(ProxyClassStore.class)) {
+                ProxyClassStore proxyClassStore = ProxyClassStoreFactory.create(DefaultResourceLoader.INSTANCE);
+                if (proxyClassStore != null) {
+                    registry.add(ProxyClassStore.class, proxyClassStore);
+                }
+            }
+            if (!registry.contains(BootstrapIndex.class)) {
+                BootstrapIndex bootstrapIndex = BootstrapIndexFactory.create(DefaultResourceLoader.INSTANCE);
+                if (bootstrapIndex != null) {
+                    registry.add(BootstrapIndex.class, bootstrapIndex);
+                }
+            }
+            if (!registry.contains(BeanIdentifierIndex.class)) {
+                BeanIdentifierIndex beanIdentifierIndex = BeanIdentifierIndexFactory.create(DefaultResourceLoader.INSTANCE);
+                if (beanIdentifierIndex != null) {
+                    registry.add(BeanIdentifierIndex.class, beanIdentifierIndex);
+                }
+            }
             if (!registry.contains(BootstrapConfiguration.class)) {
                 registry.add(BootstrapConfiguration.class, new FileBasedBootstrapConfiguration(DefaultResourceLoader.INSTANCE));
             }
@@ -353,6 +385,9 @@ public class WeldBootstrap implements CDI11Bootstrap {
             deploymentServices.add(SpecializationAndEnablementRegistry.class, registry.get(SpecializationAndEnablementRegistry.class));
             deploymentServices.add(ReflectionCache.class, registry.get(ReflectionCache.class));
             deploymentServices.add(GlobalEnablementBuilder.class, registry.get(GlobalEnablementBuilder.class));
+            if (registry.contains(BootstrapIndex.class)) {
+                deploymentServices.add(BootstrapIndex.class, registry.get(BootstrapIndex.class));
+            }
 
             this.environment = environment;
             this.deploymentManager = BeanManagerImpl.newRootManager("deployment", deploymentServices);
@@ -390,10 +425,12 @@ public class WeldBootstrap implements CDI11Bootstrap {
         services.add(MemberTransformer.class, new MemberTransformer(services.get(ClassTransformer.class)));
         services.add(MetaAnnotationStore.class, new MetaAnnotationStore(services.get(ClassTransformer.class)));
         services.add(ContextualStore.class, new ContextualStoreImpl());
+        services.add(SharedContextGeneration.class, new SharedContextGeneration());
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
         services.add(SLSBInvocationInjectionPoint.class, new SLSBInvocationInjectionPoint());
         services.add(CurrentEventMetadata.class, new CurrentEventMetadata());
         services.add(SpecializationAndEnablementRegistry.class, new SpecializationAndEnablementRegistry());
+        services.add(MethodInvokerFactory.class, new MethodInvokerFactory(services.get(ProxyServices.class)));
 
         GlobalObserverNotifierService observerNotificationService = new GlobalObserverNotifierService(services);
         services.add(GlobalObserverNotifierService.class, observerNotificationService);
@@ -406,8 +443,10 @@ public class WeldBootstrap implements CDI11Bootstrap {
             services.add(ExecutorServices.class, executor);
         }
 
+        ClassFileIndex classFileIndex = new ClassFileIndex();
+        services.add(ClassFileIndex.class, classFileIndex);
         if (!services.contains(AnnotationDiscovery.class)) {
-            services.add(AnnotationDiscovery.class, new SimpleAnnotationDiscovery(services.get(ReflectionCache.class)));
+            services.add(AnnotationDiscovery.class, new ClassFileAnnotationDiscovery(classFileIndex, services.get(ReflectionCache.class)));
         }
 
         /*
@@ -544,22 +583,45 @@ public class WeldBootstrap implements CDI11Bootstrap {
         return this;
     }
 
+    private void buildBeanIdentifierIndex() {
+        List<Contextual<?>> contextuals = new ArrayList<Contextual<?>>();
+        for (BeanDeployment beanDeployment : beanDeployments.values()) {
+            BeanManagerImpl beanManager = beanDeployment.getBeanManager();
+            contextuals.addAll(beanManager.getBeans());
+            contextuals.addAll(beanManager.getDecorators());
+            contextuals.addAll(beanManager.getInterceptors());
+        }
+        Container.instance().services().get(BeanIdentifierIndex.class).build(contextuals);
+    }
+
     public Bootstrap endInitialization() {
         // TODO rebuild the manager accessibility graph if the bdas have changed
         synchronized (this) {
             // Register the managers so external requests can handle them
+            BootstrapIndex bootstrapIndex = deploymentManager.getServices().get(BootstrapIndex.class);
+            if (bootstrapIndex != null) {
+                bootstrapIndex.store();
+            }
+            if (Container.instance().services().contains(BeanIdentifierIndex.class)) {
+                buildBeanIdentifierIndex();
+            }
             // clear the TypeSafeResolvers, so data that is only used at startup
             // is not kept around using up memory
             deploymentManager.getBeanResolver().clear();
             deploymentManager.getAccessibleLenientObserverNotifier().clear();
             deploymentManager.getGlobalStrictObserverNotifier().clear();
             deploymentManager.getGlobalLenientObserverNotifier().clear();
+            // observer methods can no longer be added
+            deploymentManager.getAccessibleLenientObserverNotifier().freeze();
+            deploymentManager.getGlobalStrictObserverNotifier().freeze();
+            deploymentManager.getGlobalLenientObserverNotifier().freeze();
             deploymentManager.getDecoratorResolver().clear();
             deploymentManager.getServices().cleanupAfterBoot();
             for (Entry<BeanDeploymentArchive, BeanDeployment> entry : beanDeployments.entrySet()) {
                 BeanManagerImpl beanManager = entry.getValue().getBeanManager();
                 beanManager.getBeanResolver().clear();
                 beanManager.getAccessibleLenientObserverNotifier().clear();
+                beanManager.getAccessibleLenientObserverNotifier().freeze();
                 beanManager.getDecoratorResolver().clear();
                 beanManager.getInterceptorMetadataReader().cleanAfterBoot();
                 beanManager.getServices().cleanupAfterBoot();
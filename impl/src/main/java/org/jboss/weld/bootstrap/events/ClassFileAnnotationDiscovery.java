@@ -0,0 +1,142 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.events;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.weld.bootstrap.index.ClassFileIndex;
+import org.jboss.weld.bootstrap.index.ClassFileInfo;
+import org.jboss.weld.resources.ReflectionCache;
+import org.jboss.weld.resources.spi.AnnotationDiscovery;
+
+/**
+ * Implementation of {@link AnnotationDiscovery} which answers the query by reading class files using {@link ClassFileIndex}
+ * instead of reflecting upon members of the class and its superclasses. This avoids loading every type used in member
+ * signatures. Like {@link SimpleAnnotationDiscovery}, which is used as a fallback if a class file of the type hierarchy is not
+ * available, it considers the annotations of the class including the {@link Inherited} ones declared by superclasses, the
+ * annotations of members and parameters, and one level of meta-annotations. Only runtime-visible annotations are considered.
+ */
+public class ClassFileAnnotationDiscovery implements AnnotationDiscovery {
+
+    private static final String OBJECT_CLASS_NAME = Object.class.getName();
+    private static final String INHERITED_ANNOTATION_NAME = Inherited.class.getName();
+
+    private final ClassFileIndex index;
+    private final ReflectionCache cache;
+    private final AnnotationDiscovery fallback;
+
+    public ClassFileAnnotationDiscovery(ClassFileIndex index, ReflectionCache cache) {
+        this.index = index;
+        this.cache = cache;
+        this.fallback = new SimpleAnnotationDiscovery(cache);
+    }
+
+    @Override
+    public boolean containsAnnotation(Class<?> javaClass, Class<? extends Annotation> requiredAnnotation) {
+        ClassLoader classLoader = javaClass.getClassLoader();
+        List<ClassFileInfo> hierarchy = getHierarchy(javaClass, classLoader);
+        if (hierarchy == null) {
+            return fallback.containsAnnotation(javaClass, requiredAnnotation);
+        }
+        String requiredAnnotationName = requiredAnnotation.getName();
+        boolean inherited = requiredAnnotation.isAnnotationPresent(Inherited.class);
+        for (int i = 0; i < hierarchy.size(); i++) {
+            ClassFileInfo info = hierarchy.get(i);
+            // class level annotations, including the inherited ones of superclasses as Class.getAnnotations() does
+            if (i == 0 || inherited) {
+                if (containsAnnotation(info.getClassAnnotations(), requiredAnnotationName, classLoader, true)) {
+                    return true;
+                }
+            } else if (containsAnnotation(getInheritedAnnotations(info, classLoader), requiredAnnotationName, classLoader, true)) {
+                return true;
+            }
+            // fields, constructors, methods and their parameters
+            if (containsAnnotation(info.getMemberAnnotations(), requiredAnnotationName, classLoader, true)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the class files of the given class and its superclasses, excluding {@link Object}, or null if any of them is not
+     * available.
+     */
+    private List<ClassFileInfo> getHierarchy(Class<?> javaClass, ClassLoader classLoader) {
+        List<ClassFileInfo> hierarchy = new ArrayList<ClassFileInfo>();
+        String className = javaClass.getName();
+        while (className != null && !OBJECT_CLASS_NAME.equals(className)) {
+            ClassFileInfo info = index.getClassFileInfo(className, classLoader);
+            if (info == null) {
+                return null;
+            }
+            hierarchy.add(info);
+            className = info.getSuperclassName();
+        }
+        return hierarchy;
+    }
+
+    private List<String> getInheritedAnnotations(ClassFileInfo info, ClassLoader classLoader) {
+        List<String> inheritedAnnotations = new ArrayList<String>();
+        for (String annotation : info.getClassAnnotations()) {
+            if (isMetaAnnotationPresent(annotation, INHERITED_ANNOTATION_NAME, classLoader)) {
+                inheritedAnnotations.add(annotation);
+            }
+        }
+        return inheritedAnnotations;
+    }
+
+    private boolean containsAnnotation(Iterable<String> annotations, String requiredAnnotationName, ClassLoader classLoader, boolean checkMetaAnnotations) {
+        for (String annotation : annotations) {
+            if (requiredAnnotationName.equals(annotation)) {
+                return true;
+            }
+            if (checkMetaAnnotations && isMetaAnnotationPresent(annotation, requiredAnnotationName, classLoader)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isMetaAnnotationPresent(String annotation, String requiredAnnotationName, ClassLoader classLoader) {
+        ClassFileInfo info = index.getClassFileInfo(annotation, classLoader);
+        if (info != null) {
+            return info.getClassAnnotations().contains(requiredAnnotationName);
+        }
+        // the class file of the annotation type is not available, load the annotation type
+        try {
+            Class<?> annotationType = Class.forName(annotation, false, classLoader);
+            for (Annotation metaAnnotation : cache.getAnnotations(annotationType)) {
+                if (requiredAnnotationName.equals(metaAnnotation.annotationType().getName())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (ClassNotFoundException e) {
+            // annotations whose type is not available are ignored by reflection as well
+            return false;
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        fallback.cleanup();
+    }
+}
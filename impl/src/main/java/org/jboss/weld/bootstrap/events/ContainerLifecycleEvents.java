@@ -59,6 +59,7 @@ public class ContainerLifecycleEvents extends AbstractBootstrapService {
     private boolean processInjectionTargetObserved;
     private boolean processProducerObserved;
     private boolean processObserverMethodObserved;
+    private boolean processAnnotatedTypeWithRequiredAnnotationsObserved;
     private final AnnotationDiscovery discovery;
 
     private final ContainerLifecycleEventPreloader preloader;
@@ -71,6 +72,9 @@ public class ContainerLifecycleEvents extends AbstractBootstrapService {
     public void processObserverMethod(ObserverMethod<?> observer) {
         if (observer instanceof ExtensionObserverMethodImpl<?, ?>) {
             processObserverMethodType(observer.getObservedType());
+            if (!((ExtensionObserverMethodImpl<?, ?>) observer).getRequiredTypeAnnotations().isEmpty()) {
+                processAnnotatedTypeWithRequiredAnnotationsObserved = true;
+            }
         }
     }
 
@@ -110,6 +114,14 @@ public class ContainerLifecycleEvents extends AbstractBootstrapService {
         return processAnnotatedTypeObserved;
     }
 
+    /**
+     * Indicates whether there is a {@link ProcessAnnotatedType} observer method using
+     * {@link javax.enterprise.inject.spi.WithAnnotations}. Only then is the {@link AnnotationDiscovery} used.
+     */
+    public boolean isProcessAnnotatedTypeWithRequiredAnnotationsObserved() {
+        return processAnnotatedTypeWithRequiredAnnotationsObserved;
+    }
+
     public boolean isProcessBeanObserved() {
         return processBeanObserved;
     }
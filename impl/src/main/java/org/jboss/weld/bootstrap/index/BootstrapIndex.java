@@ -0,0 +1,371 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.index;
+
+import static org.jboss.weld.logging.Category.BOOTSTRAP;
+import static org.jboss.weld.logging.LoggerFactory.loggerFactory;
+import static org.jboss.weld.logging.messages.BootstrapMessage.BOOTSTRAP_INDEX_READ_FAILED;
+import static org.jboss.weld.logging.messages.BootstrapMessage.BOOTSTRAP_INDEX_WRITE_FAILED;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.bootstrap.api.BootstrapService;
+import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.util.reflection.Formats;
+import org.slf4j.cal10n.LocLogger;
+import org.slf4j.ext.XLogger;
+import org.slf4j.ext.XLogger.Level;
+
+/**
+ * Persistent index of bootstrap metadata. For each bean archive, the index remembers the classes which did not turn into a
+ * managed bean, decorator, interceptor or session bean when the archive was last deployed. This includes interfaces,
+ * annotations, vetoed classes and classes without an appropriate constructor. On the next bootstrap these classes are neither
+ * loaded nor reflected upon as long as the archive did not change.
+ * <p>
+ * An archive is identified by its id and a checksum computed from the names of its classes and from the size and the last
+ * modification time of their class files (see {@link #computeChecksum(Iterable, ResourceLoader)}). Any change of an archive
+ * therefore invalidates its entry. Classes which could not be loaded are never recorded, as a missing dependency may be added
+ * to the deployment without the archive itself changing. The index is only used if no extension observes {@link javax.enterprise.inject.spi.ProcessAnnotatedType} as
+ * extensions are allowed to turn an arbitrary type into a bean. Note that the skipped types are not available via
+ * {@link javax.enterprise.inject.spi.AfterTypeDiscovery} and
+ * {@link javax.enterprise.inject.spi.AfterBeanDiscovery} lookup methods.
+ *
+ * @see BootstrapIndexFactory
+ */
+public class BootstrapIndex implements BootstrapService {
+
+    private static final LocLogger log = loggerFactory().getLogger(BOOTSTRAP);
+    private static final XLogger xLog = loggerFactory().getXLogger(BOOTSTRAP);
+
+    private static final int FORMAT_VERSION = 2;
+    private static final String ALGORITHM = "SHA-1";
+    private static final String CHARSET = "UTF-8";
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int HEX_RADIX = 16;
+    private static final int BUFFER_SIZE = 8192;
+    private static final String FILE_PROTOCOL = "file";
+    private static final String JAR_PROTOCOL = "jar";
+    private static final String JAR_SEPARATOR = "!/";
+    private static final String SEPARATOR = ":";
+
+    private final File file;
+    private final Map<String, ArchiveEntry> entries;
+    private volatile boolean modified;
+
+    public BootstrapIndex(File file) {
+        this.file = file;
+        this.entries = new ConcurrentHashMap<String, ArchiveEntry>();
+        if (file.isFile()) {
+            load();
+        }
+    }
+
+    /**
+     * Computes the checksum of a bean archive consisting of the given classes. The iteration order of the class names does not
+     * matter.
+     * <p>
+     * The bytecode of the classes is not read as that would cost as much as loading the classes. Instead, the checksum covers
+     * the size and the last modification time of each class file or, for classes packaged in a JAR file, of the JAR file. The
+     * bytecode is only read as a fallback if the class file is provided by a URL handler which does not report the last
+     * modification time.
+     *
+     * @param classNames the classes of the archive
+     * @param loader the resource loader used to find the class files
+     * @return the checksum
+     */
+    public String computeChecksum(Iterable<String> classNames, ResourceLoader loader) {
+        MessageDigest digest = newDigest();
+        update(digest, Formats.version(BootstrapIndex.class.getPackage()));
+        // JAR files are only added once, after the classes
+        Set<File> jarFiles = new TreeSet<File>();
+        for (String className : new TreeSet<String>(toSet(classNames))) {
+            update(digest, className);
+            URL resource = loader.getResource(className.replace('.', '/') + CLASS_FILE_SUFFIX);
+            if (resource == null) {
+                continue;
+            }
+            try {
+                File jarFile = getJarFile(resource);
+                if (jarFile != null) {
+                    jarFiles.add(jarFile);
+                } else if (FILE_PROTOCOL.equals(resource.getProtocol())) {
+                    update(digest, toFile(resource));
+                } else {
+                    update(digest, resource);
+                }
+            } catch (IOException e) {
+                // unreadable classes are only identified by their name
+                xLog.throwing(Level.DEBUG, e);
+            }
+        }
+        for (File jarFile : jarFiles) {
+            update(digest, jarFile);
+        }
+        return new BigInteger(1, digest.digest()).toString(HEX_RADIX);
+    }
+
+    /**
+     * Returns the classes of the given archive that do not need to be processed.
+     *
+     * @param archiveId the id of the bean archive
+     * @param checksum the current checksum of the archive
+     * @return the classes to skip or an empty set if the archive is not indexed or has changed since
+     */
+    public Set<String> getSkippedClasses(String archiveId, String checksum) {
+        ArchiveEntry entry = entries.get(archiveId);
+        if (entry == null || !entry.checksum.equals(checksum)) {
+            log.debug("Bootstrap index entry for {} is missing or stale", archiveId);
+            return Collections.emptySet();
+        }
+        return entry.skippedClasses;
+    }
+
+    /**
+     * Records the classes of the given archive that do not need to be processed next time.
+     *
+     * @param archiveId the id of the bean archive
+     * @param checksum the current checksum of the archive
+     * @param skippedClasses the classes to skip
+     */
+    public void putSkippedClasses(String archiveId, String checksum, Set<String> skippedClasses) {
+        ArchiveEntry entry = new ArchiveEntry(checksum, Collections.unmodifiableSet(new HashSet<String>(skippedClasses)));
+        if (!entry.equals(entries.put(archiveId, entry))) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Writes the index to its file if it has been modified since it was loaded.
+     */
+    public synchronized void store() {
+        if (!modified) {
+            return;
+        }
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+                throw new IOException("Unable to create directory " + parent);
+            }
+            File temp = File.createTempFile(file.getName(), TEMP_SUFFIX, parent);
+            try {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+                try {
+                    write(out);
+                } finally {
+                    out.close();
+                }
+                // renameTo() does not replace an existing file on some platforms
+                if (!temp.renameTo(file) && !(file.delete() && temp.renameTo(file))) {
+                    throw new IOException("Unable to write " + file);
+                }
+            } finally {
+                if (temp.exists() && !temp.delete()) {
+                    temp.deleteOnExit();
+                }
+            }
+            modified = false;
+        } catch (IOException e) {
+            log.warn(BOOTSTRAP_INDEX_WRITE_FAILED, file);
+            xLog.throwing(Level.DEBUG, e);
+        }
+    }
+
+    private void load() {
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            try {
+                read(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            // start with an empty index, the file is going to be overwritten
+            entries.clear();
+            log.warn(BOOTSTRAP_INDEX_READ_FAILED, file);
+            xLog.throwing(Level.DEBUG, e);
+        }
+    }
+
+    private void read(DataInputStream in) throws IOException {
+        if (in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported bootstrap index format");
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            String archiveId = in.readUTF();
+            String checksum = in.readUTF();
+            Set<String> skippedClasses = new HashSet<String>();
+            for (int j = in.readInt(); j > 0; j--) {
+                skippedClasses.add(in.readUTF());
+            }
+            entries.put(archiveId, new ArchiveEntry(checksum, Collections.unmodifiableSet(skippedClasses)));
+        }
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+        // take a snapshot so that the number of entries matches the entries written
+        Map<String, ArchiveEntry> snapshot = new HashMap<String, ArchiveEntry>(entries);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(snapshot.size());
+        for (Map.Entry<String, ArchiveEntry> entry : snapshot.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue().checksum);
+            out.writeInt(entry.getValue().skippedClasses.size());
+            for (String className : entry.getValue().skippedClasses) {
+                out.writeUTF(className);
+            }
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new WeldException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        try {
+            digest.update(value.getBytes(CHARSET));
+        } catch (UnsupportedEncodingException e) {
+            throw new WeldException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, File file) {
+        update(digest, file.getPath() + SEPARATOR + file.length() + SEPARATOR + file.lastModified());
+    }
+
+    private static void update(MessageDigest digest, URL resource) throws IOException {
+        URLConnection connection = resource.openConnection();
+        long lastModified = connection.getLastModified();
+        if (lastModified != 0L) {
+            update(digest, lastModified + SEPARATOR + connection.getContentLength());
+            return;
+        }
+        InputStream in = connection.getInputStream();
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Returns the local JAR file the given resource is packaged in or null if the resource is not packaged in a local JAR
+     * file.
+     */
+    private static File getJarFile(URL resource) throws IOException {
+        if (!JAR_PROTOCOL.equals(resource.getProtocol())) {
+            return null;
+        }
+        String path = resource.getPath();
+        int separator = path.indexOf(JAR_SEPARATOR);
+        if (separator == -1) {
+            return null;
+        }
+        URL jarUrl = new URL(path.substring(0, separator));
+        if (!FILE_PROTOCOL.equals(jarUrl.getProtocol())) {
+            return null;
+        }
+        return toFile(jarUrl);
+    }
+
+    private static File toFile(URL url) {
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException e) {
+            // the URL is not properly escaped
+            return new File(url.getPath());
+        } catch (IllegalArgumentException e) {
+            return new File(url.getPath());
+        }
+    }
+
+    private static Set<String> toSet(Iterable<String> values) {
+        Set<String> result = new HashSet<String>();
+        for (String value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    public void cleanupAfterBoot() {
+        entries.clear();
+    }
+
+    public void cleanup() {
+        entries.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "BootstrapIndex [file=" + file + "]";
+    }
+
+    private static class ArchiveEntry {
+
+        private final String checksum;
+        private final Set<String> skippedClasses;
+
+        private ArchiveEntry(String checksum, Set<String> skippedClasses) {
+            this.checksum = checksum;
+            this.skippedClasses = skippedClasses;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof ArchiveEntry) {
+                ArchiveEntry that = (ArchiveEntry) obj;
+                return checksum.equals(that.checksum) && skippedClasses.equals(that.skippedClasses);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return checksum.hashCode();
+        }
+    }
+}
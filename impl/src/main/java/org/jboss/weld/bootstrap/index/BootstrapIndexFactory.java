@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Properties;
+
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoadingException;
+
+/**
+ * Creates a {@link BootstrapIndex} based on the <code>org.jboss.weld.bootstrap-index.properties</code> configuration file.
+ * The following properties are recognized:
+ * <ul>
+ * <li><code>bootstrapIndexLocation</code> - the file holding the index, the file is created if it does not exist</li>
+ * </ul>
+ */
+public class BootstrapIndexFactory {
+
+    private static final String CONFIGURATION_FILE = "org.jboss.weld.bootstrap-index.properties";
+    private static final String LOCATION = "bootstrapIndexLocation";
+
+    private BootstrapIndexFactory() {
+    }
+
+    /**
+     *
+     * @param loader the resource loader used to find the configuration file
+     * @return the configured index or null if no index is configured
+     */
+    public static BootstrapIndex create(ResourceLoader loader) {
+        URL configuration = loader.getResource(CONFIGURATION_FILE);
+        if (configuration == null) {
+            return null;
+        }
+        Properties properties = loadProperties(configuration);
+        String location = properties.getProperty(LOCATION);
+        if (location == null || location.trim().length() == 0) {
+            return null;
+        }
+        return new BootstrapIndex(new File(location.trim()));
+    }
+
+    private static Properties loadProperties(URL url) {
+        Properties properties = new Properties();
+        try {
+            InputStream in = url.openStream();
+            try {
+                properties.load(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new ResourceLoadingException(e);
+        }
+        return properties;
+    }
+}
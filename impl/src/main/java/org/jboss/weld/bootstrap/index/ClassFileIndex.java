@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.index;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.weld.bootstrap.api.BootstrapService;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoadingException;
+
+/**
+ * Index of {@link ClassFileInfo}s. A class file is parsed the first time information about the class is requested. This allows
+ * questions such as "is this an annotation type" or "does this type or any of its members carry annotation X" to be answered
+ * without loading the class and reflecting upon its members, which would in turn load every type used in member signatures.
+ * <p>
+ * Classes are identified by their names together with the class loader (or resource loader) used to locate the class file, as
+ * different bean archives may contain different classes with the same name. If the class file cannot be found or parsed,
+ * null is returned and the caller is expected to fall back to reflection. The index is only kept during bootstrap.
+ */
+public class ClassFileIndex implements BootstrapService {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String PACKAGE_INFO = ".package-info";
+
+    // marks classes whose class file is not available
+    private static final ClassFileInfo NOT_AVAILABLE = new ClassFileInfo(null, null, 0, null, null);
+
+    private final ConcurrentMap<Key, ClassFileInfo> classes = new ConcurrentHashMap<Key, ClassFileInfo>();
+
+    /**
+     * @param className the name of the class
+     * @param resourceLoader the resource loader used to locate the class file
+     * @return the information about the class or null if the class file is not available
+     */
+    public ClassFileInfo getClassFileInfo(String className, ResourceLoader resourceLoader) {
+        Key key = new Key(resourceLoader, className);
+        ClassFileInfo info = classes.get(key);
+        if (info == null) {
+            URL url;
+            try {
+                url = resourceLoader.getResource(getClassFileName(className));
+            } catch (ResourceLoadingException e) {
+                url = null;
+            }
+            info = putIfAbsent(key, url);
+        }
+        return info == NOT_AVAILABLE ? null : info;
+    }
+
+    /**
+     * @param className the name of the class
+     * @param classLoader the class loader used to locate the class file, may be null for the bootstrap class loader
+     * @return the information about the class or null if the class file is not available
+     */
+    public ClassFileInfo getClassFileInfo(String className, ClassLoader classLoader) {
+        Key key = new Key(classLoader, className);
+        ClassFileInfo info = classes.get(key);
+        if (info == null) {
+            String classFileName = getClassFileName(className);
+            URL url = classLoader == null ? ClassLoader.getSystemResource(classFileName) : classLoader.getResource(classFileName);
+            info = putIfAbsent(key, url);
+        }
+        return info == NOT_AVAILABLE ? null : info;
+    }
+
+    /**
+     * Determines whether the given type is annotated with the given annotation, either directly or on the package level.
+     *
+     * @return true if the annotation is present on the class or in its package-info
+     */
+    public boolean isAnnotationPresentOnClassOrPackage(ClassFileInfo info, String annotationName, ResourceLoader resourceLoader) {
+        if (info.getClassAnnotations().contains(annotationName)) {
+            return true;
+        }
+        String className = info.getClassName();
+        int lastDot = className.lastIndexOf('.');
+        if (lastDot < 0) {
+            // default package
+            return false;
+        }
+        ClassFileInfo packageInfo = getClassFileInfo(className.substring(0, lastDot) + PACKAGE_INFO, resourceLoader);
+        // a package without package-info carries no annotations
+        return packageInfo != null && packageInfo.getClassAnnotations().contains(annotationName);
+    }
+
+    private ClassFileInfo putIfAbsent(Key key, URL url) {
+        ClassFileInfo info = url == null ? NOT_AVAILABLE : parse(url);
+        ClassFileInfo previous = classes.putIfAbsent(key, info);
+        return previous == null ? info : previous;
+    }
+
+    private static ClassFileInfo parse(URL url) {
+        try {
+            InputStream in = url.openStream();
+            try {
+                return ClassFileParser.parse(new DataInputStream(new BufferedInputStream(in)));
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            return NOT_AVAILABLE;
+        }
+    }
+
+    private static String getClassFileName(String className) {
+        return className.replace('.', '/') + CLASS_FILE_SUFFIX;
+    }
+
+    public int size() {
+        return classes.size();
+    }
+
+    public void cleanupAfterBoot() {
+        classes.clear();
+    }
+
+    public void cleanup() {
+        classes.clear();
+    }
+
+    /**
+     * Identifies a class by its name and the loader used to locate its class file. Loaders are compared by identity.
+     */
+    private static final class Key {
+
+        private final Object loader;
+        private final String className;
+        private final int hashCode;
+
+        private Key(Object loader, String className) {
+            this.loader = loader;
+            this.className = className;
+            this.hashCode = System.identityHashCode(loader) ^ className.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key that = (Key) obj;
+                return loader == that.loader && className.equals(that.className);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.index;
+
+import java.util.Set;
+
+/**
+ * Information about a class obtained by parsing its class file. No {@link Class} is loaded in order to obtain the information.
+ * Annotations are represented by the fully qualified names of their types. Only runtime-visible annotations are recorded.
+ *
+ * @see ClassFileIndex
+ */
+public class ClassFileInfo {
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private final String className;
+    private final String superclassName;
+    private final int accessFlags;
+    private final Set<String> classAnnotations;
+    private final Set<String> memberAnnotations;
+
+    ClassFileInfo(String className, String superclassName, int accessFlags, Set<String> classAnnotations, Set<String> memberAnnotations) {
+        this.className = className;
+        this.superclassName = superclassName;
+        this.accessFlags = accessFlags;
+        this.classAnnotations = classAnnotations;
+        this.memberAnnotations = memberAnnotations;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the name of the superclass or null if this is {@link Object}
+     */
+    public String getSuperclassName() {
+        return superclassName;
+    }
+
+    public boolean isInterface() {
+        return (accessFlags & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (accessFlags & ACC_ANNOTATION) != 0;
+    }
+
+    /**
+     * @return annotations declared on the class itself
+     */
+    public Set<String> getClassAnnotations() {
+        return classAnnotations;
+    }
+
+    /**
+     * @return annotations declared on fields, public constructors, methods and parameters of constructors and methods of the
+     *         class. This matches the members {@link org.jboss.weld.bootstrap.events.SimpleAnnotationDiscovery} inspects.
+     */
+    public Set<String> getMemberAnnotations() {
+        return memberAnnotations;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassFileInfo [className=" + className + ", classAnnotations=" + classAnnotations + ", memberAnnotations=" + memberAnnotations + "]";
+    }
+}
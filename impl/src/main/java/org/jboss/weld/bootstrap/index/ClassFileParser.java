@@ -0,0 +1,266 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.index;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A minimal class file parser. Only the constant pool, the class and superclass names, the access flags and the
+ * RuntimeVisibleAnnotations and RuntimeVisibleParameterAnnotations attributes of the class and its members are read. Everything
+ * else is skipped.
+ */
+class ClassFileParser {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private static final int METHOD_HANDLE_SIZE = 3;
+    private static final int WIDE_CONSTANT_SIZE = 8;
+
+    private static final int ACC_PUBLIC = 0x0001;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final String RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS = "RuntimeVisibleParameterAnnotations";
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final String STATIC_INITIALIZER_NAME = "<clinit>";
+
+    private final DataInputStream in;
+    private String[] strings;
+    private int[] classNameIndexes;
+
+    private ClassFileParser(DataInputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Parses the given class file.
+     *
+     * @param in the class file
+     * @return the information about the class
+     * @throws IOException if the stream cannot be read or does not contain a valid class file
+     */
+    static ClassFileInfo parse(DataInputStream in) throws IOException {
+        return new ClassFileParser(in).parse();
+    }
+
+    private ClassFileInfo parse() throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // minor and major version
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+        readConstantPool();
+
+        int accessFlags = in.readUnsignedShort();
+        String className = getClassName(in.readUnsignedShort());
+        int superclassIndex = in.readUnsignedShort();
+        String superclassName = superclassIndex == 0 ? null : getClassName(superclassIndex);
+        int interfaces = in.readUnsignedShort();
+        for (int i = 0; i < interfaces; i++) {
+            in.readUnsignedShort();
+        }
+
+        Set<String> memberAnnotations = new HashSet<String>();
+        // fields
+        int fields = in.readUnsignedShort();
+        for (int i = 0; i < fields; i++) {
+            readMember(memberAnnotations, true);
+        }
+        // methods and constructors
+        int methods = in.readUnsignedShort();
+        for (int i = 0; i < methods; i++) {
+            readMember(memberAnnotations, false);
+        }
+        Set<String> classAnnotations = new HashSet<String>();
+        readAttributes(classAnnotations);
+        return new ClassFileInfo(className, superclassName, accessFlags, immutable(classAnnotations), immutable(memberAnnotations));
+    }
+
+    private void readConstantPool() throws IOException {
+        int count = in.readUnsignedShort();
+        strings = new String[count];
+        classNameIndexes = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    strings[i] = in.readUTF();
+                    break;
+                case CONSTANT_CLASS:
+                    classNameIndexes[i] = in.readUnsignedShort();
+                    break;
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    in.readUnsignedShort();
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skip(METHOD_HANDLE_SIZE);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    in.readInt();
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    skip(WIDE_CONSTANT_SIZE);
+                    // takes two entries of the constant pool
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+    }
+
+    private void readMember(Set<String> annotations, boolean field) throws IOException {
+        int accessFlags = in.readUnsignedShort();
+        String name = strings[in.readUnsignedShort()];
+        // descriptor
+        in.readUnsignedShort();
+        boolean inspected;
+        if (field) {
+            inspected = true;
+        } else if (CONSTRUCTOR_NAME.equals(name)) {
+            // only public constructors are taken into account
+            inspected = (accessFlags & ACC_PUBLIC) != 0;
+        } else {
+            inspected = !STATIC_INITIALIZER_NAME.equals(name);
+        }
+        readAttributes(inspected ? annotations : null);
+    }
+
+    /**
+     * Reads attributes and adds the annotations found to the given set. Annotations are ignored if the set is null.
+     */
+    private void readAttributes(Set<String> annotations) throws IOException {
+        int attributes = in.readUnsignedShort();
+        for (int i = 0; i < attributes; i++) {
+            String name = strings[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (annotations != null && RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                readAnnotations(annotations);
+            } else if (annotations != null && RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS.equals(name)) {
+                int parameters = in.readUnsignedByte();
+                for (int j = 0; j < parameters; j++) {
+                    readAnnotations(annotations);
+                }
+            } else {
+                skip(length);
+            }
+        }
+    }
+
+    private void readAnnotations(Set<String> annotations) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            annotations.add(readAnnotation());
+        }
+    }
+
+    private String readAnnotation() throws IOException {
+        String type = getTypeName(strings[in.readUnsignedShort()]);
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            // element name
+            in.readUnsignedShort();
+            skipElementValue();
+        }
+        return type;
+    }
+
+    private void skipElementValue() throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                // enum type and constant name
+                in.readUnsignedShort();
+                in.readUnsignedShort();
+                break;
+            case '@':
+                readAnnotation();
+                break;
+            case '[':
+                int values = in.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue();
+                }
+                break;
+            default:
+                // constant value or class
+                in.readUnsignedShort();
+        }
+    }
+
+    private void skip(int bytes) throws IOException {
+        int remaining = bytes;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of class file");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private String getClassName(int index) {
+        return strings[classNameIndexes[index]].replace('/', '.');
+    }
+
+    /**
+     * Converts a field descriptor such as <code>Ljavax/inject/Inject;</code> to a class name.
+     */
+    private static String getTypeName(String descriptor) {
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.').intern();
+    }
+
+    private static Set<String> immutable(Set<String> set) {
+        if (set.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(set);
+    }
+}
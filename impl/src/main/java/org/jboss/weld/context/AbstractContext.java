@@ -29,13 +29,16 @@ import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.context.beanstore.BeanStore;
+import org.jboss.weld.context.beanstore.IndexedBeanStore;
 import org.jboss.weld.context.beanstore.LockedBean;
 import org.jboss.weld.context.cache.RequestScopedBeanCache;
 import org.jboss.weld.exceptions.IllegalArgumentException;
 import org.jboss.weld.exceptions.IllegalStateException;
+import org.jboss.weld.serialization.ContextualStoreImpl;
 import org.jboss.weld.serialization.spi.ContextualStore;
 import org.slf4j.cal10n.LocLogger;
 
@@ -74,7 +77,6 @@ public abstract class AbstractContext implements AlterableContext {
      * @throws ContextNotActiveException if the context is not active
      * @see javax.enterprise.context.spi.Context#get(BaseBean, boolean)
      */
-    @SuppressWarnings(value = "UL_UNRELEASED_LOCK", justification = "False positive from FindBugs")
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
         if (!isActive()) {
             throw new ContextNotActiveException();
@@ -86,33 +88,62 @@ public abstract class AbstractContext implements AlterableContext {
         if (contextual == null) {
             throw new IllegalArgumentException(CONTEXTUAL_IS_NULL);
         }
+        final int index = getIndex(contextual, beanStore);
+        if (index != ContextualStoreImpl.NO_INDEX) {
+            // fast path - the instance is addressed by the contextual index and no String id needs to be computed
+            ContextualInstance<T> beanInstance = ((IndexedBeanStore) beanStore).get(index);
+            if (beanInstance != null) {
+                return beanInstance.getInstance();
+            } else if (creationalContext != null) {
+                return createInstance(contextual, creationalContext, beanStore, getId(contextual), index);
+            } else {
+                return null;
+            }
+        }
         String id = getId(contextual);
         ContextualInstance<T> beanInstance = beanStore.get(id);
         if (beanInstance != null) {
             return beanInstance.getInstance();
         } else if (creationalContext != null) {
-            LockedBean lock = null;
-            try {
-                if (multithreaded) {
-                    lock = beanStore.lock(id);
-                    beanInstance = beanStore.get(id);
-                    if (beanInstance != null) {
-                        return beanInstance.getInstance();
-                    }
+            return createInstance(contextual, creationalContext, beanStore, id, index);
+        } else {
+            return null;
+        }
+    }
+
+    @SuppressWarnings(value = "UL_UNRELEASED_LOCK", justification = "False positive from FindBugs")
+    private <T> T createInstance(Contextual<T> contextual, CreationalContext<T> creationalContext, BeanStore beanStore, String id, int index) {
+        LockedBean lock = null;
+        try {
+            if (multithreaded) {
+                lock = beanStore.lock(id);
+                ContextualInstance<T> beanInstance = getContextualInstance(beanStore, id, index);
+                if (beanInstance != null) {
+                    return beanInstance.getInstance();
                 }
-                T instance = contextual.create(creationalContext);
-                if (instance != null) {
-                    beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, serviceRegistry.get(ContextualStore.class));
+            }
+            T instance = contextual.create(creationalContext);
+            if (instance != null) {
+                ContextualInstance<T> beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, serviceRegistry.get(ContextualStore.class));
+                if (index == ContextualStoreImpl.NO_INDEX) {
                     beanStore.put(id, beanInstance);
+                } else {
+                    ((IndexedBeanStore) beanStore).put(index, id, beanInstance);
                 }
-                return instance;
-            } finally {
-                if (lock != null) {
-                    lock.unlock();
-                }
             }
+            return instance;
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static <T> ContextualInstance<T> getContextualInstance(BeanStore beanStore, String id, int index) {
+        if (index == ContextualStoreImpl.NO_INDEX) {
+            return beanStore.get(id);
         } else {
-            return null;
+            return ((IndexedBeanStore) beanStore).get(index);
         }
     }
 
@@ -131,8 +162,14 @@ public abstract class AbstractContext implements AlterableContext {
         if (getBeanStore() == null) {
             throw new IllegalStateException(NO_BEAN_STORE_AVAILABLE, this);
         }
-        String id = getId(contextual);
-        ContextualInstance<?> beanInstance = getBeanStore().remove(id);
+        final BeanStore beanStore = getBeanStore();
+        final int index = getIndex(contextual, beanStore);
+        ContextualInstance<?> beanInstance;
+        if (index == ContextualStoreImpl.NO_INDEX) {
+            beanInstance = beanStore.remove(getId(contextual));
+        } else {
+            beanInstance = ((IndexedBeanStore) beanStore).remove(index);
+        }
         if (beanInstance != null) {
             RequestScopedBeanCache.invalidate();
             destroyContextualInstance(beanInstance);
@@ -186,6 +223,21 @@ public abstract class AbstractContext implements AlterableContext {
         return serviceRegistry.get(ContextualStore.class).putIfAbsent(contextual);
     }
 
+    /**
+     * Returns the index of the given contextual if the bean store supports index-based lookup and the contextual has been
+     * assigned an index. Otherwise, {@link ContextualStoreImpl#NO_INDEX} is returned. Indexes are assigned per scope and are
+     * therefore only used for contextuals of the scope of this context.
+     */
+    private int getIndex(Contextual<?> contextual, BeanStore beanStore) {
+        if (beanStore instanceof IndexedBeanStore && contextual instanceof RIBean<?>) {
+            RIBean<?> bean = (RIBean<?>) contextual;
+            if (bean.getScope() == getScope()) {
+                return bean.getContextualIndex();
+            }
+        }
+        return ContextualStoreImpl.NO_INDEX;
+    }
+
     protected ServiceRegistry getServiceRegistry() {
         return serviceRegistry;
     }
@@ -32,6 +32,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -39,11 +40,14 @@ import javax.enterprise.context.ConversationScoped;
 import javax.enterprise.inject.Instance;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.context.beanstore.AttributeBeanStore;
 import org.jboss.weld.context.beanstore.BoundBeanStore;
 import org.jboss.weld.context.beanstore.ConversationNamingScheme;
 import org.jboss.weld.context.beanstore.NamingScheme;
 import org.jboss.weld.context.conversation.ConversationIdGenerator;
 import org.jboss.weld.context.conversation.ConversationImpl;
+import org.jboss.weld.context.conversation.ConversationTimerWheel;
+import org.jboss.weld.context.conversation.ExpiredConversationQueue;
 import org.jboss.weld.literal.DestroyedLiteral;
 import org.jboss.weld.logging.messages.ConversationMessage;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -61,6 +65,8 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     private static final String CURRENT_CONVERSATION_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".currentConversation";
     public static final String CONVERSATIONS_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".conversations";
+    public static final String EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".expiredConversations";
+    private static final String CLEANUP_REQUIRED_ATTRIBUTE_NAME = ConversationContext.class.getName() + ".cleanupRequired";
 
     private static final long DEFAULT_TIMEOUT = 10 * 60 * 1000L;
     private static final long CONCURRENT_ACCESS_TIMEOUT = 1000L;
@@ -77,6 +83,8 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     private final BeanManagerImpl manager;
 
+    private final ConversationTimerWheel timerWheel;
+
     public AbstractConversationContext() {
         super(true);
         this.parameterName = new AtomicReference<String>(PARAMETER_NAME);
@@ -85,6 +93,8 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         this.associated = new ThreadLocal<R>();
         this.manager = Container.instance().deploymentManager();
         this.conversationContexts = manager.instance().select(ConversationContext.class);
+        // may be null, in which case all the conversations are checked for expiration on every request
+        this.timerWheel = Container.instance().services().get(ConversationTimerWheel.class);
     }
 
     public String getParameterName() {
@@ -145,6 +155,14 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 setRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, true));
             }
 
+            if (getSessionAttribute(request, EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME, false) == null) {
+                ExpiredConversationQueue expiredConversations = new ExpiredConversationQueue();
+                setRequestAttribute(request, EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME, expiredConversations);
+                setSessionAttribute(request, EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME, expiredConversations, false);
+            } else {
+                setRequestAttribute(request, EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME, getSessionAttribute(request, EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME, true));
+            }
+
             return true;
         } else {
             return false;
@@ -164,6 +182,9 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 if (getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, false) == null) {
                     setSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, getRequestAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME), false);
                 }
+                if (getSessionAttribute(request, EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME, false) == null) {
+                    setSessionAttribute(request, EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME, getRequestAttribute(request, EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME), false);
+                }
                 this.associated.set(null);
                 return true;
             } finally {
@@ -190,7 +211,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     }
 
     protected void associateRequest(String cid) {
-        ManagedConversation conversation = getConversation(cid);
+        ManagedConversation conversation = getConversationMap().get(cid);
         setRequestAttribute(getRequest(), CURRENT_CONVERSATION_ATTRIBUTE_NAME, conversation);
 
         NamingScheme namingScheme = new ConversationNamingScheme(ConversationContext.class.getName(), cid);
@@ -205,11 +226,14 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
             }
             // Activate the context
             super.setActive(true);
+            if (timerWheel != null) {
+                scheduleRestoredConversations();
+            }
 
             // Attach the conversation
             // WELD-1315 Don't try to restore the long-running conversation if cid param is empty
             if (cid != null && !cid.isEmpty()) {
-                ManagedConversation conversation = getConversation(cid);
+                ManagedConversation conversation = getConversationMap().get(cid);
                 if (conversation != null && !isExpired(conversation)) {
                     boolean lock = conversation.lock(getConcurrentAccessTimeout());
                     if (lock) {
@@ -242,11 +266,22 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
             }
 
             if (getCurrentConversation().isTransient()) {
+                if (getBeanStore().isAttached()) {
+                    // a long-running conversation was ended during this request
+                    setCleanupRequired();
+                    if (timerWheel != null) {
+                        timerWheel.cancel(getCurrentConversation());
+                    }
+                }
                 destroy();
             } else {
                 try {
                     // Update the conversation timestamp
                     getCurrentConversation().touch();
+                    if (timerWheel != null) {
+                        ManagedConversation conversation = getCurrentConversation();
+                        timerWheel.schedule(conversation, conversation.getId(), conversation.getLastUsed() + conversation.getTimeout(), getExpiredConversationIds());
+                    }
                     if (!getBeanStore().isAttached()) {
                         /*
                         * This was a transient conversation at the beginning of the
@@ -268,13 +303,16 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 }
             }
             setBeanStore(null);
-            // Clean up any expired conversations
-            Iterator<Entry<String, ManagedConversation>> entryIterator = getConversationMap().entrySet().iterator();
-            while (entryIterator.hasNext()) {
-                Entry<String, ManagedConversation> entry = entryIterator.next();
-                if (entry.getValue().isTransient()) {
-                    destroyConversation(getSessionFromRequest(getRequest(), false), entry.getKey());
-                    entryIterator.remove();
+            // Clean up any ended conversations
+            if (timerWheel == null || getRequestAttribute(getRequest(), CLEANUP_REQUIRED_ATTRIBUTE_NAME) != null) {
+                removeRequestAttribute(getRequest(), CLEANUP_REQUIRED_ATTRIBUTE_NAME);
+                Iterator<Entry<String, ManagedConversation>> entryIterator = getConversationMap().entrySet().iterator();
+                while (entryIterator.hasNext()) {
+                    Entry<String, ManagedConversation> entry = entryIterator.next();
+                    if (entry.getValue().isTransient()) {
+                        destroyConversation(getSessionFromRequest(getRequest(), false), entry.getKey());
+                        entryIterator.remove();
+                    }
                 }
             }
             // deactivate the context
@@ -286,12 +324,44 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     @Override
     public void invalidate() {
-        for (ManagedConversation conversation : getConversations()) {
-            if (conversation != getCurrentConversation()) {
+        if (timerWheel == null) {
+            for (ManagedConversation conversation : getConversationMap().values()) {
+                endIfExpired(conversation);
+            }
+        } else {
+            // only the conversations reported by the timer wheel need to be checked
+            Queue<String> expiredConversationIds = getExpiredConversationIds();
+            String id;
+            while ((id = expiredConversationIds.poll()) != null) {
+                ManagedConversation conversation = getConversationMap().get(id);
+                if (conversation != null) {
+                    endIfExpired(conversation);
+                }
+            }
+        }
+    }
+
+    /**
+     * The conversations of a session restored from its serialized form (e.g. after failover or passivation) are not known to
+     * the timer wheel of this container. The conversations need to be scheduled again, otherwise they would never expire.
+     */
+    private void scheduleRestoredConversations() {
+        ExpiredConversationQueue expiredConversationIds = getExpiredConversationIds();
+        if (expiredConversationIds.markScheduled()) {
+            for (ManagedConversation conversation : getConversationMap().values()) {
                 if (!conversation.isTransient()) {
-                    if (isExpired(conversation)) {
-                        conversation.end();
-                    }
+                    timerWheel.schedule(conversation, conversation.getId(), conversation.getLastUsed() + conversation.getTimeout(), expiredConversationIds);
+                }
+            }
+        }
+    }
+
+    private void endIfExpired(ManagedConversation conversation) {
+        if (conversation != getCurrentConversation()) {
+            if (!conversation.isTransient()) {
+                if (isExpired(conversation)) {
+                    conversation.end();
+                    setCleanupRequired();
                 }
             }
         }
@@ -302,6 +372,10 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         // if it is, we need to re-attach the bean store once the other conversations are destroyed
         BoundBeanStore beanStore = getBeanStore();
         if (beanStore != null) {
+            // the current conversation is destroyed at the end of the request once the session is no longer available
+            if (beanStore instanceof AttributeBeanStore) {
+                ((AttributeBeanStore) beanStore).loadAll();
+            }
             beanStore.detach();
         }
 
@@ -313,6 +387,9 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 setActive(true);
 
                 for (ManagedConversation conversation : conversations.values()) {
+                    if (timerWheel != null) {
+                        timerWheel.cancel(conversation);
+                    }
                     String id = conversation.getId();
                     if (!conversation.isTransient()) {
                         // the currently associated conversation will be destroyed at the end of the current request
@@ -371,11 +448,32 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     }
 
     public ManagedConversation getConversation(String id) {
-        return getConversationMap().get(id);
+        ManagedConversation conversation = getConversationMap().get(id);
+        // the caller may end the conversation
+        setCleanupRequired();
+        return conversation;
     }
 
     public Collection<ManagedConversation> getConversations() {
-        return getConversationMap().values();
+        Collection<ManagedConversation> conversations = getConversationMap().values();
+        // the caller may end any of the conversations
+        setCleanupRequired();
+        return conversations;
+    }
+
+    /**
+     * Marks the conversation map to be checked for ended conversations at the end of the current request.
+     */
+    private void setCleanupRequired() {
+        setRequestAttribute(getRequest(), CLEANUP_REQUIRED_ATTRIBUTE_NAME, Boolean.TRUE);
+    }
+
+    private ExpiredConversationQueue getExpiredConversationIds() {
+        checkIsAssociated();
+        if (!(getRequestAttribute(getRequest(), EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME) instanceof ExpiredConversationQueue)) {
+            throw new IllegalStateException(UNABLE_TO_LOAD_CURRENT_CONVERSATION);
+        }
+        return cast(getRequestAttribute(getRequest(), EXPIRED_CONVERSATIONS_ATTRIBUTE_NAME));
     }
 
     private void checkIsAssociated() {
@@ -22,20 +22,27 @@
  */
 package org.jboss.weld.context;
 
+import javax.enterprise.context.spi.Contextual;
+
 import org.jboss.weld.context.beanstore.BeanStore;
 import org.jboss.weld.context.beanstore.ConcurrentHashMapBeanStore;
+import org.jboss.weld.context.beanstore.IndexedBeanStore;
+import org.jboss.weld.context.cache.SharedContextGeneration;
+import org.jboss.weld.serialization.spi.ContextualStore;
 
 public abstract class AbstractSharedContext extends AbstractContext {
 
     // The beans
     private final BeanStore beanStore;
+    private final SharedContextGeneration generation;
 
     /**
      * Constructor
      */
     protected AbstractSharedContext() {
         super(true);
-        this.beanStore = new ConcurrentHashMapBeanStore();
+        this.beanStore = IndexedBeanStore.of(new ConcurrentHashMapBeanStore(), getServiceRegistry().get(ContextualStore.class));
+        this.generation = getServiceRegistry().get(SharedContextGeneration.class);
     }
 
     /**
@@ -56,6 +63,13 @@ public abstract class AbstractSharedContext extends AbstractContext {
         destroy();
     }
 
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        super.destroy(contextual);
+        // client proxies may hold a direct reference to the destroyed instance
+        invalidateCachedInstances();
+    }
+
     @Override
     protected void destroy() {
         super.destroy();
@@ -66,6 +80,13 @@ public abstract class AbstractSharedContext extends AbstractContext {
     public void cleanup() {
         super.cleanup();
         beanStore.clear();
+        invalidateCachedInstances();
+    }
+
+    private void invalidateCachedInstances() {
+        if (generation != null) {
+            generation.invalidate();
+        }
     }
 
     @Override
@@ -37,6 +37,10 @@ import org.jboss.weld.util.reflection.Reflections;
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
 /**
+ * The {@link CreationalContext} implementation. The store of dependent instances is only allocated once the first dependent
+ * instance is registered. Most of the dependent instances do not need to be tracked at all (see
+ * {@link org.jboss.weld.context.unbound.DependentContextImpl}) so that for most of the contexts the store is never allocated.
+ *
  * @author Pete Muir
  * @author Ales Justin
  * @author Jozef Hartinger
@@ -50,9 +54,10 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     @SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Not needed after initial creation")
     private final transient Contextual<T> contextual;
 
-    private final List<ContextualInstance<?>> dependentInstances;
-
-    private final List<ContextualInstance<?>> parentDependentInstances;
+    /*
+     * Allocated lazily. Guarded by this.
+     */
+    private volatile List<ContextualInstance<?>> dependentInstances;
 
     private final CreationalContextImpl<?> parentCreationalContext;
 
@@ -63,16 +68,14 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private transient List<AroundConstructCallback<T>> aroundConstructCallbacks;
 
     public CreationalContextImpl(Contextual<T> contextual) {
-        this(contextual, null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        this(contextual, null, null);
     }
 
     private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances,
-            List<ContextualInstance<?>> parentDependentInstancesStore, CreationalContextImpl<?> parentCreationalContext) {
+            CreationalContextImpl<?> parentCreationalContext) {
         this.incompleteInstances = incompleteInstances;
         this.contextual = contextual;
         // this is direct ref by intention - to track dependencies hierarchy
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = parentDependentInstancesStore;
         this.parentCreationalContext = parentCreationalContext;
         this.constructorInterceptionSuppressed = false;
     }
@@ -86,7 +89,7 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
 
     public <S> CreationalContextImpl<S> getCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances, dependentInstances, this);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances, this);
     }
 
     public <S> S getIncompleteInstance(Contextual<S> bean) {
@@ -98,7 +101,24 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public void addDependentInstance(ContextualInstance<?> contextualInstance) {
-        parentDependentInstances.add(contextualInstance);
+        // a dependent instance of the root context has no parent to be destroyed with
+        if (parentCreationalContext != null) {
+            parentCreationalContext.getOrCreateDependentInstances().add(contextualInstance);
+        }
+    }
+
+    private List<ContextualInstance<?>> getOrCreateDependentInstances() {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            synchronized (this) {
+                dependentInstances = this.dependentInstances;
+                if (dependentInstances == null) {
+                    dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
+                    this.dependentInstances = dependentInstances;
+                }
+            }
+        }
+        return dependentInstances;
     }
 
     public void release() {
@@ -107,10 +127,13 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
     // should not be public
     public void release(Contextual<T> contextual, T instance) {
-        for (ContextualInstance<?> dependentInstance : dependentInstances) {
-            // do not destroy contextual again, since it's just being destroyed
-            if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
-                destroy(dependentInstance);
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances != null) {
+            for (ContextualInstance<?> dependentInstance : dependentInstances) {
+                // do not destroy contextual again, since it's just being destroyed
+                if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
+                    destroy(dependentInstance);
+                }
             }
         }
         if (resourceReferences != null) {
@@ -135,11 +158,19 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * Returns an unmodifiable list of dependent instances.
      */
     public List<ContextualInstance<?>> getDependentInstances() {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return Collections.emptyList();
+        }
         return Collections.unmodifiableList(dependentInstances);
     }
 
     // Serialization
     protected Object writeReplace() throws ObjectStreamException {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return this;
+        }
         for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext(); ) {
             ContextualInstance<?> instance = iterator.next();
             if (!(instance.getInstance() instanceof Serializable)) {
@@ -185,6 +216,10 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * @return true if the instance was destroyed, false otherwise
      */
     public boolean destroyDependentInstance(T instance) {
+        List<ContextualInstance<?>> dependentInstances = this.dependentInstances;
+        if (dependentInstances == null) {
+            return false;
+        }
         for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
             ContextualInstance<?> contextualInstance = iterator.next();
             if (contextualInstance.getInstance().equals(instance)) {
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.ContextualStore;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * The compact serialized form of a {@link SerializableContextualInstanceImpl}, only used if the {@link BeanIdentifierIndex} is
+ * enabled:
+ * <ul>
+ * <li>the contextual is represented by its code in the {@link BeanIdentifierIndex} (plus the checksum of the index) instead of
+ * its identifier</li>
+ * <li>a {@link CreationalContextImpl} with no dependent instances is not serialized at all and is recreated on deserialization</li>
+ * </ul>
+ * The index is required for deserialization. If it is not available or was built for a different deployment, deserialization
+ * fails with an {@link InvalidObjectException}.
+ *
+ *
+ * @param <I> the instance type
+ */
+class IndexedContextualInstance<I> implements Externalizable {
+
+    private static final long serialVersionUID = 7525474355391578658L;
+
+    private static final byte CREATIONAL_CONTEXT_NULL = 0;
+    private static final byte CREATIONAL_CONTEXT_EMPTY = 1;
+    private static final byte CREATIONAL_CONTEXT_SERIALIZED = 2;
+
+    private static final String UNABLE_TO_RESTORE = "Unable to restore contextual with index ";
+
+    private int checksum;
+    private int code;
+    private I instance;
+    private CreationalContext<I> creationalContext;
+
+    // set during deserialization
+    private transient String identifier;
+    private transient boolean emptyCreationalContext;
+
+    IndexedContextualInstance(int checksum, int code, I instance, CreationalContext<I> creationalContext) {
+        this.checksum = checksum;
+        this.code = code;
+        this.instance = instance;
+        this.creationalContext = creationalContext;
+    }
+
+    /**
+     * Only used by deserialization.
+     */
+    public IndexedContextualInstance() {
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(checksum);
+        out.writeInt(code);
+        out.writeObject(instance);
+        if (creationalContext == null) {
+            out.writeByte(CREATIONAL_CONTEXT_NULL);
+        } else if (isEmpty(creationalContext)) {
+            out.writeByte(CREATIONAL_CONTEXT_EMPTY);
+        } else {
+            out.writeByte(CREATIONAL_CONTEXT_SERIALIZED);
+            out.writeObject(creationalContext);
+        }
+    }
+
+    /**
+     * A root {@link CreationalContextImpl} with no dependent instances does not hold any state worth serializing.
+     */
+    private static boolean isEmpty(CreationalContext<?> creationalContext) {
+        if (creationalContext.getClass().equals(CreationalContextImpl.class)) {
+            CreationalContextImpl<?> creationalContextImpl = (CreationalContextImpl<?>) creationalContext;
+            return creationalContextImpl.getParentCreationalContext() == null && creationalContextImpl.getDependentInstances().isEmpty();
+        }
+        return false;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        this.checksum = in.readInt();
+        this.code = in.readInt();
+        if (!Container.available() || !Container.instance().services().contains(BeanIdentifierIndex.class)) {
+            throw new InvalidObjectException(UNABLE_TO_RESTORE + code + " - the bean identifier index is not enabled");
+        }
+        try {
+            this.identifier = Container.instance().services().get(BeanIdentifierIndex.class).getIdentifier(code, checksum);
+        } catch (IllegalStateException e) {
+            throw invalidObject(e.getMessage(), e);
+        }
+        this.instance = Reflections.cast(in.readObject());
+        byte creationalContextFormat = in.readByte();
+        if (creationalContextFormat == CREATIONAL_CONTEXT_SERIALIZED) {
+            this.creationalContext = Reflections.cast(in.readObject());
+        } else {
+            this.emptyCreationalContext = creationalContextFormat == CREATIONAL_CONTEXT_EMPTY;
+        }
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        ContextualStore contextualStore = Container.instance().services().get(ContextualStore.class);
+        Contextual<I> contextual = contextualStore.<Contextual<I>, I> getContextual(identifier);
+        if (contextual == null) {
+            throw invalidObject("Error restoring serialized contextual with id " + identifier, null);
+        }
+        if (emptyCreationalContext) {
+            creationalContext = new CreationalContextImpl<I>(contextual);
+        }
+        return new SerializableContextualInstanceImpl<Contextual<I>, I>(contextual, instance, creationalContext, contextualStore);
+    }
+
+    private static InvalidObjectException invalidObject(String message, Throwable cause) {
+        InvalidObjectException exception = new InvalidObjectException(message);
+        exception.initCause(cause);
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "Bean: index " + code + "; Instance: " + instance + "; CreationalContext: " + creationalContext;
+    }
+}
@@ -16,13 +16,26 @@
  */
 package org.jboss.weld.context;
 
-import org.jboss.weld.serialization.spi.ContextualStore;
-import org.jboss.weld.serialization.spi.helpers.SerializableContextual;
-import org.jboss.weld.serialization.spi.helpers.SerializableContextualInstance;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
 
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.PassivationCapable;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.ContextualStore;
+import org.jboss.weld.serialization.spi.helpers.SerializableContextual;
+import org.jboss.weld.serialization.spi.helpers.SerializableContextualInstance;
+
+/**
+ * A serializable contextual instance. If the {@link BeanIdentifierIndex} is enabled, the instance is replaced with its compact
+ * form (see {@link IndexedContextualInstance}) during serialization. Otherwise, the default serialized form is used.
+ *
+ * @param <C> the contextual type
+ * @param <I> the instance type
+ */
 public class SerializableContextualInstanceImpl<C extends Contextual<I>, I> implements SerializableContextualInstance<C, I> {
 
     private static final long serialVersionUID = -6366271037267396256L;
@@ -55,6 +68,21 @@ public class SerializableContextualInstanceImpl<C extends Contextual<I>, I> impl
         return creationalContext;
     }
 
+    private Object writeReplace() throws ObjectStreamException {
+        if (!Container.available() || !Container.instance().services().contains(BeanIdentifierIndex.class)) {
+            return this;
+        }
+        // a contextual which is serializable itself may not be known to the receiving container
+        if (contextual instanceof PassivationCapable && !(contextual.get() instanceof Serializable)) {
+            BeanIdentifierIndex index = Container.instance().services().get(BeanIdentifierIndex.class);
+            int code = index.getIndex(((PassivationCapable) contextual).getId());
+            if (code != BeanIdentifierIndex.NO_INDEX) {
+                return new IndexedContextualInstance<I>(index.getChecksum(), code, instance, creationalContext);
+            }
+        }
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Bean: " + contextual + "; Instance: " + instance + "; CreationalContext: " + creationalContext;
@@ -17,7 +17,9 @@
 package org.jboss.weld.context.beanstore;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
 
 import org.jboss.weld.context.api.ContextualInstance;
 import org.slf4j.cal10n.LocLogger;
@@ -42,6 +44,19 @@ import static org.jboss.weld.logging.messages.ContextMessage.UPDATING_STORE_WITH
  * </p>
  * <p/>
  * <p>
+ * Only instances which were put into the bean store while detached are written
+ * to the underlying store when the bean store is reattached. Instances that were
+ * already written through, or that were loaded from the underlying store, are
+ * not written again. This avoids redundant writes which a clustered container
+ * would otherwise replicate even though nothing changed.
+ * </p>
+ * <p/>
+ * <p>
+ * Instances held by the underlying store are loaded lazily, i.e. when they are
+ * first accessed.
+ * </p>
+ * <p/>
+ * <p>
  * This construct is not thread safe.
  * </p>
  *
@@ -56,11 +71,18 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
     private final HashMapBeanStore beanStore;
     private final NamingScheme namingScheme;
 
+    // ids of instances put into the bean store while detached
+    private final Set<String> dirtyIds;
+    // ids of instances held by the underlying store which have not been loaded yet
+    private final Set<String> unloadedIds;
+
     private boolean attached;
 
     public AttributeBeanStore(NamingScheme namingScheme) {
         this.namingScheme = namingScheme;
         this.beanStore = new HashMapBeanStore();
+        this.dirtyIds = new HashSet<String>();
+        this.unloadedIds = new HashSet<String>();
     }
 
     /**
@@ -91,24 +113,25 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
     public boolean attach() {
         if (!attached) {
             attached = true;
-            // beanStore is authoritative, so copy everything to the backing store
-            for (String id : beanStore) {
+            // beanStore is authoritative, so copy everything modified while detached to the backing store
+            for (String id : dirtyIds) {
                 ContextualInstance<?> instance = beanStore.get(id);
-                String prefixedId = getNamingScheme().prefix(id);
-                log.trace(UPDATING_STORE_WITH_CONTEXTUAL_UNDER_ID, instance, id);
-                setAttribute(prefixedId, instance);
+                if (instance != null) {
+                    String prefixedId = getNamingScheme().prefix(id);
+                    log.trace(UPDATING_STORE_WITH_CONTEXTUAL_UNDER_ID, instance, id);
+                    setAttribute(prefixedId, instance);
+                }
             }
+            dirtyIds.clear();
 
             /*
-            * Additionally copy anything not in the bean store but in the session
-            * into the bean store
+            * Additionally register anything not in the bean store but in the session
+            * so that it is loaded into the bean store once accessed
             */
             for (String prefixedId : getPrefixedAttributeNames()) {
                 String id = getNamingScheme().deprefix(prefixedId);
                 if (!beanStore.contains(id)) {
-                    ContextualInstance<?> instance = (ContextualInstance<?>) getAttribute(prefixedId);
-                    beanStore.put(id, instance);
-                    log.trace(ADDING_DETACHED_CONTEXTUAL_UNDER_ID, instance, id);
+                    unloadedIds.add(id);
                 }
             }
             return true;
@@ -122,22 +145,57 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
     }
 
     public <T> ContextualInstance<T> get(String id) {
+        if (unloadedIds.contains(id)) {
+            load(id);
+        }
         ContextualInstance<T> instance = beanStore.get(id);
         log.trace(CONTEXTUAL_INSTANCE_FOUND, id, instance, this);
         return instance;
     }
 
+    private void load(String id) {
+        unloadedIds.remove(id);
+        ContextualInstance<?> instance = (ContextualInstance<?>) getAttribute(getNamingScheme().prefix(id));
+        if (instance != null) {
+            beanStore.put(id, instance);
+            log.trace(ADDING_DETACHED_CONTEXTUAL_UNDER_ID, instance, id);
+        }
+    }
+
+    /**
+     * Loads all the instances held by the underlying store which have not been
+     * accessed yet. This must be called before the underlying store becomes
+     * unavailable (e.g. before the session is invalidated) if all the instances
+     * are going to be destroyed afterwards.
+     */
+    public void loadAll() {
+        if (!unloadedIds.isEmpty()) {
+            for (String id : new HashSet<String>(unloadedIds)) {
+                load(id);
+            }
+        }
+    }
+
     public <T> void put(String id, ContextualInstance<T> instance) {
         beanStore.put(id, instance); // moved due to WELD-892
+        unloadedIds.remove(id);
         if (isAttached()) {
             String prefixedId = namingScheme.prefix(id);
             setAttribute(prefixedId, instance);
         }
+        // the bean store may have been detached while writing the attribute, e.g. if the session could not be created
+        if (!isAttached()) {
+            dirtyIds.add(id);
+        }
         log.trace(CONTEXTUAL_INSTANCE_ADDED, instance.getContextual(), id, this);
     }
 
     @Override
     public <T> ContextualInstance<T> remove(String id) {
+        if (unloadedIds.contains(id)) {
+            load(id);
+        }
+        dirtyIds.remove(id);
         ContextualInstance<T> instance = beanStore.remove(id);
         if (instance != null) {
             if (isAttached()) {
@@ -159,6 +217,7 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
             it.remove();
             log.trace(CONTEXTUAL_INSTANCE_REMOVED, id, this);
         }
+        dirtyIds.clear();
         log.trace(CONTEXT_CLEARED, this);
     }
 
@@ -171,6 +230,8 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
     }
 
     public Iterator<String> iterator() {
+        // the iterator is used for destroying all the instances - load them first
+        loadAll();
         return beanStore.iterator();
     }
 
@@ -0,0 +1,213 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.beanstore;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.ContextualStoreImpl;
+import org.jboss.weld.serialization.spi.ContextualStore;
+
+/**
+ * A {@link BeanStore} which stores instances of indexed contextuals (see {@link ContextualStoreImpl#getIndex(javax.enterprise.context.spi.Contextual)})
+ * in an array addressed by the contextual index. Instances of contextuals without an index are stored in the delegate bean
+ * store using their String id.
+ * <p>
+ * Lookups by index are lock-free. Modifications of the array are guarded by the bean store monitor. This is not a problem
+ * since instances are only added when they are created. Since contextuals are indexed per scope, the array is only as long as
+ * the highest index of a contextual of the given scope which has an instance in the store. It is not allocated until the first
+ * indexed instance is added and then grows in chunks.
+ */
+public class IndexedBeanStore implements BeanStore {
+
+    private static final int CHUNK_SIZE = 8;
+    private static final AtomicReferenceArray<Entry> EMPTY = new AtomicReferenceArray<Entry>(0);
+
+    /**
+     * Wraps the given bean store in an {@link IndexedBeanStore} if contextuals are indexed by the given {@link ContextualStore}.
+     * An integrator-provided {@link ContextualStore} does not assign indexes. The bean store is returned as is in that case.
+     */
+    public static BeanStore of(BeanStore delegate, ContextualStore contextualStore) {
+        if (contextualStore instanceof ContextualStoreImpl) {
+            return new IndexedBeanStore(delegate, (ContextualStoreImpl) contextualStore);
+        }
+        return delegate;
+    }
+
+    private final BeanStore delegate;
+    private final ContextualStoreImpl contextualStore;
+    private volatile AtomicReferenceArray<Entry> entries;
+    private int size;
+
+    public IndexedBeanStore(BeanStore delegate, ContextualStoreImpl contextualStore) {
+        this.delegate = delegate;
+        this.contextualStore = contextualStore;
+        this.entries = EMPTY;
+    }
+
+    /**
+     * Gets an instance of an indexed contextual from the store
+     *
+     * @param index the index of the contextual
+     * @return the instance or null if not found
+     */
+    public <T> ContextualInstance<T> get(int index) {
+        final AtomicReferenceArray<Entry> entries = this.entries;
+        if (index < entries.length()) {
+            Entry entry = entries.get(index);
+            if (entry != null) {
+                return cast(entry.instance);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds an instance of an indexed contextual to the store
+     *
+     * @param index the index of the contextual
+     * @param id the id of the contextual
+     * @param contextualInstance the contextual instance
+     */
+    public synchronized <T> void put(int index, String id, ContextualInstance<T> contextualInstance) {
+        AtomicReferenceArray<Entry> entries = this.entries;
+        if (index >= entries.length()) {
+            // round up to the next chunk
+            AtomicReferenceArray<Entry> newEntries = new AtomicReferenceArray<Entry>((index / CHUNK_SIZE + 1) * CHUNK_SIZE);
+            for (int i = 0; i < entries.length(); i++) {
+                newEntries.set(i, entries.get(i));
+            }
+            this.entries = entries = newEntries;
+        }
+        if (entries.getAndSet(index, new Entry(id, contextualInstance)) == null) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes an instance of an indexed contextual from the store
+     *
+     * @param index the index of the contextual
+     * @return the removed instance or null if there was no instance
+     */
+    public synchronized <T> ContextualInstance<T> remove(int index) {
+        final AtomicReferenceArray<Entry> entries = this.entries;
+        if (index < entries.length()) {
+            Entry entry = entries.getAndSet(index, null);
+            if (entry != null) {
+                size--;
+                return cast(entry.instance);
+            }
+        }
+        return null;
+    }
+
+    public <T> ContextualInstance<T> get(String id) {
+        ContextualInstance<T> instance = delegate.get(id);
+        if (instance == null) {
+            int index = indexOf(id);
+            if (index >= 0) {
+                return get(index);
+            }
+        }
+        return instance;
+    }
+
+    public boolean contains(String id) {
+        return delegate.contains(id) || indexOf(id) >= 0;
+    }
+
+    public synchronized void clear() {
+        this.entries = EMPTY;
+        this.size = 0;
+        delegate.clear();
+    }
+
+    public Iterator<String> iterator() {
+        // the ids are copied so that the bean store can be modified while iterating
+        final AtomicReferenceArray<Entry> entries = this.entries;
+        List<String> ids = new ArrayList<String>();
+        for (int i = 0; i < entries.length(); i++) {
+            Entry entry = entries.get(i);
+            if (entry != null) {
+                ids.add(entry.id);
+            }
+        }
+        for (String id : delegate) {
+            ids.add(id);
+        }
+        return ids.iterator();
+    }
+
+    public <T> void put(String id, ContextualInstance<T> contextualInstance) {
+        delegate.put(id, contextualInstance);
+    }
+
+    public LockedBean lock(String id) {
+        return delegate.lock(id);
+    }
+
+    public <T> ContextualInstance<T> remove(String id) {
+        ContextualInstance<T> instance = delegate.remove(id);
+        if (instance == null) {
+            int index = indexOf(id);
+            if (index >= 0) {
+                return remove(index);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the index under which the instance of the contextual with the given id is stored or -1 if there is no such
+     * instance.
+     */
+    private int indexOf(String id) {
+        int index = contextualStore.getIndex(id);
+        if (index != ContextualStoreImpl.NO_INDEX) {
+            final AtomicReferenceArray<Entry> entries = this.entries;
+            if (index < entries.length()) {
+                Entry entry = entries.get(index);
+                if (entry != null && entry.id.equals(id)) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "holding " + size + " indexed instances, " + delegate;
+    }
+
+    private static class Entry {
+
+        private final String id;
+        private final ContextualInstance<?> instance;
+
+        private Entry(String id, ContextualInstance<?> instance) {
+            this.id = id;
+            this.instance = instance;
+        }
+    }
+}
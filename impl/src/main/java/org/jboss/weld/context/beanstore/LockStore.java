@@ -18,12 +18,17 @@
 package org.jboss.weld.context.beanstore;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Helper class for bean store creation locking.
+ * <p>
+ * Locks are reference-counted and held in a {@link ConcurrentHashMap} so that threads creating instances of different beans
+ * do not contend on a shared monitor. A lock is removed from the map once the last thread holding (or waiting for) it releases
+ * it.
  *
  * @author Stuart Douglas
  * @author Marko Luksa
@@ -32,45 +37,75 @@ public class LockStore implements Serializable {
 
     private static final long serialVersionUID = -698649566870070414L;
 
-    private transient volatile Map<String, ReferenceCountedLock> locks = new HashMap<String, ReferenceCountedLock>();
+    private transient volatile ConcurrentMap<String, ReferenceCountedLock> locks = new ConcurrentHashMap<String, ReferenceCountedLock>();
 
     public LockedBean lock(String id) {
+        final ConcurrentMap<String, ReferenceCountedLock> locks = getLocks();
         ReferenceCountedLock refLock;
-        synchronized (this) {
-            if(locks == null) {
-                locks = new HashMap<String, ReferenceCountedLock>();
-            }
+        for (;;) {
             refLock = locks.get(id);
-            if (refLock != null) {
-                refLock.count++;
-            } else {
-                refLock = new ReferenceCountedLock(id);
-                locks.put(id, refLock);
+            if (refLock == null) {
+                ReferenceCountedLock newLock = new ReferenceCountedLock(id);
+                refLock = locks.putIfAbsent(id, newLock);
+                if (refLock == null) {
+                    // the new lock is already referenced by this thread
+                    refLock = newLock;
+                    break;
+                }
             }
+            if (refLock.retain()) {
+                break;
+            }
+            // the lock is being released by the last thread referencing it, help with the removal and retry
+            locks.remove(id, refLock);
         }
         refLock.lock.lock();
         return refLock;
     }
 
+    private ConcurrentMap<String, ReferenceCountedLock> getLocks() {
+        ConcurrentMap<String, ReferenceCountedLock> locks = this.locks;
+        if (locks == null) {
+            // the map is not serialized
+            synchronized (this) {
+                locks = this.locks;
+                if (locks == null) {
+                    this.locks = locks = new ConcurrentHashMap<String, ReferenceCountedLock>();
+                }
+            }
+        }
+        return locks;
+    }
+
     private class ReferenceCountedLock implements LockedBean {
         private final String key;
-        int count = 1;
+        private final AtomicInteger count = new AtomicInteger(1);
         final ReentrantLock lock = new ReentrantLock();
 
         private ReferenceCountedLock(final String key) {
             this.key = key;
         }
 
-        public void unlock() {
-            synchronized (LockStore.this) {
-                lock.unlock();
-                --count;
-                if (count == 0) {
-                    locks.remove(key);
+        /**
+         * Increments the reference count unless the lock has already been released by all the threads referencing it.
+         */
+        private boolean retain() {
+            for (;;) {
+                int current = count.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (count.compareAndSet(current, current + 1)) {
+                    return true;
                 }
             }
         }
-    }
-
 
+        public void unlock() {
+            lock.unlock();
+            if (count.decrementAndGet() == 0) {
+                getLocks().remove(key, this);
+            }
+        }
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.cache;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.bean.proxy.MethodHandler;
+
+/**
+ * Holds a direct reference to the contextual instance of an application-scoped bean within a client proxy. Since the
+ * application context is always active and an application-scoped bean has a single contextual instance, the instance
+ * obtained on the first invocation can be reused by all subsequent invocations on the same proxy, regardless of the thread.
+ * <p>
+ * Cached references are invalidated lazily using the generation counter of the container (see
+ * {@link SharedContextGeneration}). The counter is incremented whenever a contextual instance is removed from a shared context (e.g. using {@link javax.enterprise.context.spi.AlterableContext#destroy(javax.enterprise.context.spi.Contextual)}
+ * or when the context is destroyed). A reference is only used if it was obtained in the current generation.
+ */
+public class ApplicationScopedInstanceCache {
+
+    private final SharedContextGeneration generation;
+
+    private volatile CachedInstance cached;
+
+    /**
+     * Creates a cache bound to the generation counter of the current container. Invoked by the constructor of a client proxy.
+     */
+    public ApplicationScopedInstanceCache() {
+        this.generation = Container.instance().services().get(SharedContextGeneration.class);
+    }
+
+    /**
+     * Returns the cached contextual instance or obtains a new one from the given method handler if there is no valid cached
+     * reference.
+     *
+     * @param proxy the client proxy
+     * @param methodHandler the method handler of the client proxy
+     * @return the contextual instance
+     */
+    public Object getInstance(Object proxy, MethodHandler methodHandler) throws Throwable {
+        final CachedInstance cached = this.cached;
+        // the generation needs to be read before the instance is obtained so that concurrent invalidation is not missed
+        final int generation = this.generation.get();
+        if (cached != null && cached.generation == generation) {
+            return cached.instance;
+        }
+        final Object instance = methodHandler.invoke(proxy, null, null, null);
+        this.cached = new CachedInstance(instance, generation);
+        return instance;
+    }
+
+    private static class CachedInstance {
+
+        private final Object instance;
+        private final int generation;
+
+        private CachedInstance(Object instance, int generation) {
+            this.instance = instance;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * The generation of the contextual instances held by the shared contexts of a container. The generation is incremented
+ * whenever a contextual instance is removed from a shared context, which invalidates the references cached by the
+ * {@link ApplicationScopedInstanceCache}s of the container. Other containers running in the same JVM are not affected.
+ */
+public class SharedContextGeneration implements Service {
+
+    private final AtomicInteger generation = new AtomicInteger();
+
+    public int get() {
+        return generation.get();
+    }
+
+    /**
+     * Invalidates all the references cached by the {@link ApplicationScopedInstanceCache}s of the container.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    public void cleanup() {
+    }
+}
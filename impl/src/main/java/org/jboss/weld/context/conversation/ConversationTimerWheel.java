@@ -0,0 +1,268 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.conversation;
+
+import static org.jboss.weld.logging.Category.CONVERSATION;
+import static org.jboss.weld.logging.LoggerFactory.loggerFactory;
+import static org.jboss.weld.logging.messages.ConversationMessage.CONVERSATION_EXPIRATION_FAILED;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.context.ManagedConversation;
+import org.jboss.weld.resources.spi.ScheduledExecutorServiceFactory;
+import org.slf4j.cal10n.LocLogger;
+import org.slf4j.ext.XLogger;
+import org.slf4j.ext.XLogger.Level;
+
+/**
+ * Tracks the expiration of long-running conversations using a hashed timer wheel. The wheel is advanced periodically by a
+ * task scheduled using the {@link ScheduledExecutorServiceFactory}. The task is only scheduled once the first conversation is
+ * tracked.
+ * <p>
+ * The wheel does not touch the conversations themselves as the conversation context is not active in the thread that
+ * advances the wheel. Instead, the id of an expired conversation is added to the queue provided when the conversation was
+ * scheduled. The queue is bound to the HTTP session (or its equivalent) and is drained by the conversation context when a
+ * request associated with the session is processed. As a result, a request only needs to deal with the current conversation
+ * and with the conversations that actually expired.
+ * <p>
+ * The expiration time of a conversation is updated every time the conversation is used. The entry is not moved within the
+ * wheel when that happens. Instead, an entry which has not expired yet is moved to the right bucket once the wheel reaches it.
+ */
+public class ConversationTimerWheel implements Service {
+
+    private static final LocLogger log = loggerFactory().getLogger(CONVERSATION);
+    private static final XLogger xLog = loggerFactory().getXLogger(CONVERSATION);
+
+    /**
+     * The duration of a single tick in milliseconds
+     */
+    public static final long DEFAULT_TICK_DURATION = 1000L;
+
+    /**
+     * The number of buckets. Must be a power of two.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final ScheduledExecutorServiceFactory executorServiceFactory;
+    private final long tickDuration;
+    private final int mask;
+    private final Set<Timeout>[] wheel;
+    private final ConcurrentMap<ManagedConversation, Timeout> timeouts;
+    private final AtomicLong expiredConversations;
+
+    /*
+     * The next tick to process. Only modified by the thread that advances the wheel, before the bucket of the previous tick is
+     * processed.
+     */
+    private volatile long nextTick;
+    private ScheduledFuture<?> task;
+
+    public ConversationTimerWheel(ScheduledExecutorServiceFactory executorServiceFactory) {
+        this(executorServiceFactory, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ConversationTimerWheel(ScheduledExecutorServiceFactory executorServiceFactory, long tickDuration, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.executorServiceFactory = executorServiceFactory;
+        this.tickDuration = tickDuration;
+        this.mask = wheelSize - 1;
+        this.wheel = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = Collections.newSetFromMap(new ConcurrentHashMap<Timeout, Boolean>());
+        }
+        this.timeouts = new ConcurrentHashMap<ManagedConversation, Timeout>();
+        this.expiredConversations = new AtomicLong();
+        this.nextTick = getTick(System.currentTimeMillis());
+    }
+
+    /**
+     * Starts tracking the given conversation or updates the expiration time of a conversation that is already tracked.
+     *
+     * @param conversation the long-running conversation
+     * @param id the conversation id
+     * @param expirationTime the time (in milliseconds) at which the conversation expires
+     * @param expiredConversationIds the queue the conversation id is added to once the conversation expires
+     */
+    public void schedule(ManagedConversation conversation, String id, long expirationTime, Queue<String> expiredConversationIds) {
+        Timeout timeout = timeouts.get(conversation);
+        if (timeout != null && timeout.id.equals(id)) {
+            long previousExpirationTime = timeout.expirationTime;
+            timeout.expirationTime = expirationTime;
+            if (expirationTime < previousExpirationTime) {
+                // the timeout is also kept in the original bucket, it is only reported once though
+                add(timeout);
+            }
+            return;
+        }
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+        timeout = new Timeout(conversation, id, expirationTime, expiredConversationIds);
+        timeouts.put(conversation, timeout);
+        add(timeout);
+        startIfNecessary();
+    }
+
+    /**
+     * Stops tracking the given conversation.
+     */
+    public void cancel(ManagedConversation conversation) {
+        Timeout timeout = timeouts.remove(conversation);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    /**
+     * @return the number of long-running conversations currently tracked
+     */
+    public int getLiveConversationCount() {
+        return timeouts.size();
+    }
+
+    /**
+     * @return the number of conversations that expired since the wheel was created
+     */
+    public long getExpiredConversationCount() {
+        return expiredConversations.get();
+    }
+
+    /**
+     * Processes all the buckets up to the current time. This method is invoked periodically and is not supposed to be called
+     * concurrently.
+     */
+    public void advance() {
+        long now = System.currentTimeMillis();
+        long currentTick = getTick(now);
+        // do not process a single bucket more than once per invocation
+        for (long tick = Math.max(nextTick, currentTick - mask); tick <= currentTick; tick++) {
+            // the tick is published before its bucket is processed, see add(Timeout)
+            nextTick = tick + 1;
+            processBucket(tick, now);
+        }
+    }
+
+    private void processBucket(long tick, long now) {
+        Set<Timeout> bucket = wheel[(int) (tick & mask)];
+        for (Iterator<Timeout> iterator = bucket.iterator(); iterator.hasNext();) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.expirationTime <= now) {
+                iterator.remove();
+                if (timeouts.remove(timeout.conversation, timeout)) {
+                    expiredConversations.incrementAndGet();
+                    timeout.expiredConversationIds.add(timeout.id);
+                }
+            } else {
+                Set<Timeout> target = getBucket(timeout.expirationTime);
+                if (target != bucket) {
+                    iterator.remove();
+                    target.add(timeout);
+                }
+            }
+        }
+    }
+
+    private Set<Timeout> getBucket(long expirationTime) {
+        return wheel[(int) (getTick(expirationTime, nextTick) & mask)];
+    }
+
+    /**
+     * Adds a timeout to the wheel from a thread other than the one which advances the wheel. If the wheel reaches the bucket
+     * while the timeout is being added, the bucket may have been processed without the timeout and would not be processed
+     * again before a full rotation of the wheel. The wheel publishes the tick before processing its bucket, so the timeout is
+     * added again to a later bucket if the tick read after adding the timeout is beyond the bucket. A timeout present in
+     * multiple buckets is only reported once.
+     */
+    private void add(Timeout timeout) {
+        long tick = getTick(timeout.expirationTime, nextTick);
+        wheel[(int) (tick & mask)].add(timeout);
+        long currentNextTick = nextTick;
+        while (currentNextTick > tick) {
+            tick = getTick(timeout.expirationTime, currentNextTick);
+            wheel[(int) (tick & mask)].add(timeout);
+            currentNextTick = nextTick;
+        }
+    }
+
+    private long getTick(long expirationTime, long firstTick) {
+        // a timeout which should have already expired is processed with the next tick
+        return Math.max(getTick(expirationTime), firstTick);
+    }
+
+    private long getTick(long time) {
+        return time / tickDuration;
+    }
+
+    private synchronized void startIfNecessary() {
+        if (task == null) {
+            task = executorServiceFactory.get().scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        advance();
+                    } catch (RuntimeException e) {
+                        // do not let the exception cancel subsequent executions
+                        log.warn(CONVERSATION_EXPIRATION_FAILED);
+                        xLog.throwing(Level.DEBUG, e);
+                    }
+                }
+            }, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void cleanup() {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+        timeouts.clear();
+        for (Set<Timeout> bucket : wheel) {
+            bucket.clear();
+        }
+    }
+
+    private static class Timeout {
+
+        private final ManagedConversation conversation;
+        private final String id;
+        private final Queue<String> expiredConversationIds;
+        private volatile long expirationTime;
+        private volatile boolean cancelled;
+
+        private Timeout(ManagedConversation conversation, String id, long expirationTime, Queue<String> expiredConversationIds) {
+            this.conversation = conversation;
+            this.id = id;
+            this.expirationTime = expirationTime;
+            this.expiredConversationIds = expiredConversationIds;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.conversation;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Holds the ids of the conversations of a session that were reported as expired by the {@link ConversationTimerWheel}. The
+ * queue is stored in the HTTP session (or its equivalent).
+ * <p>
+ * The queue also remembers whether the conversations of the session are tracked by the timer wheel of the running
+ * container. The flag is transient, so a queue restored from a serialized session (e.g. after failover or passivation)
+ * indicates that the conversations of the session need to be scheduled again.
+ */
+public class ExpiredConversationQueue extends ConcurrentLinkedQueue<String> {
+
+    private static final long serialVersionUID = -3424843245683813237L;
+
+    private transient volatile boolean scheduled;
+
+    public ExpiredConversationQueue() {
+        // a new session does not have any conversations yet
+        this.scheduled = true;
+    }
+
+    /**
+     * Marks the conversations of the session as scheduled.
+     *
+     * @return true if the conversations of the session were not scheduled before, false otherwise
+     */
+    public boolean markScheduled() {
+        if (scheduled) {
+            return false;
+        }
+        scheduled = true;
+        return true;
+    }
+}
@@ -9,6 +9,7 @@ import javax.servlet.http.HttpSession;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.context.AbstractBoundContext;
+import org.jboss.weld.context.beanstore.AttributeBeanStore;
 import org.jboss.weld.context.beanstore.NamingScheme;
 import org.jboss.weld.context.beanstore.SimpleNamingScheme;
 import org.jboss.weld.context.beanstore.http.EagerSessionBeanStore;
@@ -51,6 +52,10 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
             }
         } else {
             // We are in a request, invalidate it
+            // the instances are destroyed at the end of the request once the session is no longer available - load them now
+            if (getBeanStore() instanceof AttributeBeanStore) {
+                ((AttributeBeanStore) getBeanStore()).loadAll();
+            }
             invalidate();
             getConversationContext().destroy(session);
             return false;
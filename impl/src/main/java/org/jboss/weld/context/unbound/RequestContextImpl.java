@@ -3,14 +3,19 @@ package org.jboss.weld.context.unbound;
 import org.jboss.weld.context.AbstractUnboundContext;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.beanstore.HashMapBeanStore;
+import org.jboss.weld.context.beanstore.IndexedBeanStore;
+import org.jboss.weld.serialization.spi.ContextualStore;
 
 import javax.enterprise.context.RequestScoped;
 import java.lang.annotation.Annotation;
 
 public class RequestContextImpl extends AbstractUnboundContext implements RequestContext {
 
+    private final ContextualStore contextualStore;
+
     public RequestContextImpl() {
         super(false);
+        this.contextualStore = getServiceRegistry().get(ContextualStore.class);
     }
 
     public Class<? extends Annotation> getScope() {
@@ -19,7 +24,7 @@ public class RequestContextImpl extends AbstractUnboundContext implements Reques
 
     public void activate() {
         // Attach bean store (this context is unbound, so this can simply be thread-scoped
-        setBeanStore(new HashMapBeanStore());
+        setBeanStore(IndexedBeanStore.of(new HashMapBeanStore(), contextualStore));
         super.activate();
     }
 
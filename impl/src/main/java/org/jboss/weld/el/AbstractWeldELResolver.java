@@ -104,45 +104,62 @@ public abstract class AbstractWeldELResolver extends ELResolver {
     }
 
     private Object lookup(BeanManagerImpl beanManager, ELContext context, String name) {
-        final Bean<?> bean = beanManager.resolve(beanManager.getBeans(name));
+        Bean<?> bean = null;
+        ELNameTable.Entry entry = null;
+        final ELNameTable nameTable = beanManager.getELNameTable();
+        if (nameTable != null) {
+            entry = nameTable.get(name);
+            if (entry == null) {
+                // not a bean name
+                return null;
+            }
+            bean = entry.getBean();
+        }
         if (bean == null) {
-            return null;
+            entry = null;
+            bean = beanManager.resolve(beanManager.getBeans(name));
+            if (bean == null) {
+                return null;
+            }
         }
         Class<? extends Annotation> scope = bean.getScope();
         if (!scope.equals(Dependent.class)) {
             ClientProxyProvider cpp = beanManager.getClientProxyProvider();
             if (cpp != null) {
-                Object value = cpp.getClientProxy(bean);
+                Object value = (entry == null) ? cpp.getClientProxy(bean) : entry.getClientProxy(cpp);
                 if (value != null) {
                     return value;
                 }
             }
             return beanManager.getReference(bean, null, beanManager.createCreationalContext(bean), false);
         } else {
-            // Need to use a "special" creationalContext that can make sure that we do share dependent instances referenced by the EL Expression
-            final ELCreationalContextStack stack = ELCreationalContextStack.getCreationalContextStore(context);
-            boolean release = stack.isEmpty(); // indicates whether we should cleanup after lookup or not
-            if (release) {
-                stack.push(new CreationalContextCallable());
+            return lookupDependent(context, bean);
+        }
+    }
+
+    private Object lookupDependent(ELContext context, Bean<?> bean) {
+        // Need to use a "special" creationalContext that can make sure that we do share dependent instances referenced by the EL Expression
+        final ELCreationalContextStack stack = ELCreationalContextStack.getCreationalContextStore(context);
+        boolean release = stack.isEmpty(); // indicates whether we should cleanup after lookup or not
+        if (release) {
+            stack.push(new CreationalContextCallable());
+        }
+        try {
+            ELCreationalContext<?> ctx = stack.peek().get();
+            String beanName = bean.getName();
+            Object value = ctx.getDependentInstanceForExpression(beanName);
+            if (value == null) {
+                value = getManager(context).getReference(bean, null, ctx, false);
+                ctx.registerDependentInstanceForExpression(beanName, value);
             }
-            try {
-                ELCreationalContext<?> ctx = stack.peek().get();
-                String beanName = bean.getName();
-                Object value = ctx.getDependentInstanceForExpression(beanName);
-                if (value == null) {
-                    value = getManager(context).getReference(bean, null, ctx, false);
-                    ctx.registerDependentInstanceForExpression(beanName, value);
-                }
-                return value;
-            } finally {
-                if (release) {
-                    CreationalContextCallable callable = stack.pop();
-                    if (callable.exists()) {
-                        callable.get().release();
-                    }
+            return value;
+        } finally {
+            if (release) {
+                CreationalContextCallable callable = stack.pop();
+                if (callable.exists()) {
+                    callable.get().release();
                 }
             }
-
         }
     }
 
@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.el;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.AmbiguousResolutionException;
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.bean.proxy.ClientProxyProvider;
+import org.jboss.weld.manager.BeanManagerImpl;
+
+/**
+ * An immutable table that maps each bean name accessible from a given bean manager to the bean the name resolves to. The
+ * table is only built once the container is validated, after which the set of beans no longer changes. An EL identifier
+ * which is not a bean name is then rejected with a single map lookup.
+ */
+public class ELNameTable {
+
+    /**
+     * Builds the name table for the given bean manager.
+     */
+    public static ELNameTable of(BeanManagerImpl beanManager) {
+        Set<String> names = new HashSet<String>();
+        for (Bean<?> bean : beanManager.getAccessibleBeans()) {
+            if (bean.getName() != null) {
+                names.add(bean.getName());
+            }
+        }
+        Map<String, Entry> entries = new HashMap<String, Entry>();
+        for (String name : names) {
+            try {
+                Bean<?> bean = beanManager.resolve(beanManager.getBeans(name));
+                if (bean != null) {
+                    entries.put(name, new Entry(bean));
+                }
+            } catch (AmbiguousResolutionException e) {
+                // the name is resolved on every lookup so that the exception is reported to the caller
+                entries.put(name, Entry.UNRESOLVED);
+            }
+        }
+        return new ELNameTable(entries);
+    }
+
+    private final Map<String, Entry> entries;
+
+    private ELNameTable(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * @param name the bean name
+     * @return the entry for the given name or null if there is no bean with the given name
+     */
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ELNameTable " + entries.keySet();
+    }
+
+    /**
+     * A resolved bean name. The client proxy of a normal-scoped bean is obtained once and reused afterwards.
+     */
+    public static class Entry {
+
+        private static final Entry UNRESOLVED = new Entry(null);
+
+        private final Bean<?> bean;
+        private volatile Object clientProxy;
+
+        private Entry(Bean<?> bean) {
+            this.bean = bean;
+        }
+
+        /**
+         * @return the bean or null if the name needs to be resolved on every lookup
+         */
+        public Bean<?> getBean() {
+            return bean;
+        }
+
+        /**
+         * @return the client proxy of a normal-scoped bean or null if the client proxy cannot be obtained
+         */
+        public Object getClientProxy(ClientProxyProvider clientProxyProvider) {
+            Object clientProxy = this.clientProxy;
+            if (clientProxy == null) {
+                clientProxy = clientProxyProvider.getClientProxy(bean);
+                this.clientProxy = clientProxy;
+            }
+            return clientProxy;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jboss.weld.exceptions.ObserverException;
+
+/**
+ * A handle for an event delivered asynchronously (see {@link ObserverNotifier#fireEventAsync(EventPacket, ResolvedObservers)}).
+ * The delivery completes once all the observer methods have been notified. {@link #get()} returns the event object or throws
+ * an {@link ExecutionException} caused by an {@link ObserverException} which aggregates all the exceptions thrown by the
+ * observer methods.
+ *
+ *
+ * @param <T> the event type
+ */
+public class AsyncEventDelivery<T> implements Future<T> {
+
+    private final T event;
+    private final List<Future<Void>> notifications;
+    private final List<Throwable> synchronousErrors;
+
+    /**
+     *
+     * @param event the event object
+     * @param notifications pending notifications
+     * @param synchronousErrors exceptions thrown by observer methods notified on the firing thread
+     */
+    AsyncEventDelivery(T event, List<Future<Void>> notifications, List<Throwable> synchronousErrors) {
+        this.event = event;
+        this.notifications = notifications;
+        this.synchronousErrors = synchronousErrors;
+    }
+
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = false;
+        for (Future<Void> notification : notifications) {
+            cancelled |= notification.cancel(mayInterruptIfRunning);
+        }
+        return cancelled;
+    }
+
+    public boolean isCancelled() {
+        for (Future<Void> notification : notifications) {
+            if (notification.isCancelled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isDone() {
+        for (Future<Void> notification : notifications) {
+            if (!notification.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public T get() throws InterruptedException, ExecutionException {
+        List<Throwable> errors = new ArrayList<Throwable>(synchronousErrors);
+        for (Future<Void> notification : notifications) {
+            try {
+                notification.get();
+            } catch (ExecutionException e) {
+                errors.add(e.getCause());
+            }
+        }
+        return getResult(errors);
+    }
+
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<Throwable> errors = new ArrayList<Throwable>(synchronousErrors);
+        for (Future<Void> notification : notifications) {
+            try {
+                notification.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                errors.add(e.getCause());
+            }
+        }
+        return getResult(errors);
+    }
+
+    private T getResult(List<Throwable> errors) throws ExecutionException {
+        if (!errors.isEmpty()) {
+            throw new ExecutionException(new ObserverException(errors));
+        }
+        return event;
+    }
+
+    /**
+     *
+     * @return the number of observer methods notified on other threads
+     */
+    public int getNotificationCount() {
+        return notifications.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Asynchronous delivery of [" + event + "] to " + notifications.size() + " observers";
+    }
+
+    static <T> AsyncEventDelivery<T> completed(T event, List<Throwable> errors) {
+        return new AsyncEventDelivery<T>(event, Collections.<Future<Void>>emptyList(), errors);
+    }
+}
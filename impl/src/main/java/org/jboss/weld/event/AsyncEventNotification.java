@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import static org.jboss.weld.logging.Category.EVENT;
+import static org.jboss.weld.logging.LoggerFactory.loggerFactory;
+import static org.jboss.weld.logging.messages.EventMessage.ASYNC_FIRE;
+
+import java.util.concurrent.Callable;
+
+import javax.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.context.RequestContext;
+import org.slf4j.cal10n.LocLogger;
+
+/**
+ * A task that notifies an observer method of an event on a thread different from the one the event was fired on. The event
+ * metadata of the firing thread is propagated to the thread executing the task.
+ * <p>
+ * Request-scoped instances of the firing thread are not propagated as the firing thread may destroy them at any time, even
+ * before the notification takes place. Instead, the observer method is notified within a new request context, which is
+ * destroyed once the notification completes.
+ *
+ *
+ * @param <T> the event type
+ */
+public class AsyncEventNotification<T> implements Callable<Void> {
+
+    private static final LocLogger log = loggerFactory().getLogger(EVENT);
+
+    private final EventPacket<T> eventPacket;
+    private final ObserverMethod<? super T> observer;
+    private final CurrentEventMetadata currentEventMetadata;
+    private final RequestContext requestContext;
+
+    public AsyncEventNotification(EventPacket<T> eventPacket, ObserverMethod<? super T> observer, CurrentEventMetadata currentEventMetadata,
+            RequestContext requestContext) {
+        this.eventPacket = eventPacket;
+        this.observer = observer;
+        this.currentEventMetadata = currentEventMetadata;
+        this.requestContext = requestContext;
+    }
+
+    public Void call() {
+        log.debug(ASYNC_FIRE, eventPacket, observer);
+        if (requestContext.isActive()) {
+            // the context is managed by someone else on this thread
+            notifyObserver();
+            return null;
+        }
+        requestContext.activate();
+        try {
+            notifyObserver();
+        } finally {
+            // destroys the request-scoped instances created by the observer method
+            requestContext.invalidate();
+            requestContext.deactivate();
+        }
+        return null;
+    }
+
+    private void notifyObserver() {
+        currentEventMetadata.push(eventPacket);
+        try {
+            observer.notify(eventPacket.getPayload());
+        } finally {
+            currentEventMetadata.pop();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Asynchronous event [" + eventPacket.getPayload() + "] for [" + observer + "]";
+    }
+}
@@ -50,6 +50,7 @@ import org.jboss.weld.util.reflection.TypeResolver;
 @edu.umd.cs.findbugs.annotations.SuppressWarnings(value = "SE_NO_SUITABLE_CONSTRUCTOR", justification = "Uses SerializationProxy")
 public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T>, Serializable {
 
+    private static final String EVENT_ARGUMENT_NAME = "event";
     private static final String SUBTYPE_ARGUMENT_NAME = "subtype";
     private static final long serialVersionUID = 656782657242515455L;
 
@@ -58,7 +59,7 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
     }
 
     private final transient HierarchyDiscovery injectionPointTypeHierarchy;
-    private transient volatile CachedResolvable cachedResolvable;
+    private transient volatile CachedResolvable<T> cachedResolvable;
 
     private EventImpl(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
         super(injectionPoint, null, beanManager);
@@ -77,23 +78,40 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
 
     @Override
     public void fire(T event) {
-        Preconditions.checkArgumentNotNull(event, "event");
-        CachedResolvable resolvable = getEventResolvable(event);
+        Preconditions.checkArgumentNotNull(event, EVENT_ARGUMENT_NAME);
+        ObserverNotifier notifier = getBeanManager().getGlobalStrictObserverNotifier();
+        CachedResolvable<T> resolvable = getEventResolvable(event, notifier);
 
-        EventPacket<T> packet = EventPacket.of(event, resolvable.type, resolvable.resolvable, getQualifiers(), getInjectionPoint());
-        getBeanManager().getGlobalStrictObserverNotifier().fireEvent(packet);
+        EventPacket<T> packet = EventPacket.of(event, resolvable.type, resolvable.observers.getResolvable(), getQualifiers(), getInjectionPoint());
+        notifier.fireEvent(packet, resolvable.observers);
     }
 
-    private CachedResolvable getEventResolvable(T event) {
-        CachedResolvable cachedResolvable = this.cachedResolvable;
+    /**
+     * Fires an event asynchronously. Observer methods are notified on threads of the Weld thread pool and the caller does not
+     * wait for them to complete. See {@link ObserverNotifier#fireEventAsync(EventPacket, ResolvedObservers)} for details.
+     *
+     * @param event the event object
+     * @return a handle which completes once all the observer methods have been notified
+     */
+    public AsyncEventDelivery<T> fireAsync(T event) {
+        Preconditions.checkArgumentNotNull(event, EVENT_ARGUMENT_NAME);
+        ObserverNotifier notifier = getBeanManager().getGlobalStrictObserverNotifier();
+        CachedResolvable<T> resolvable = getEventResolvable(event, notifier);
+
+        EventPacket<T> packet = EventPacket.of(event, resolvable.type, resolvable.observers.getResolvable(), getQualifiers(), getInjectionPoint());
+        return notifier.fireEventAsync(packet, resolvable.observers);
+    }
+
+    private CachedResolvable<T> getEventResolvable(T event, ObserverNotifier notifier) {
+        CachedResolvable<T> cachedResolvable = this.cachedResolvable;
         if (cachedResolvable != null) {
-            if (cachedResolvable.rawType.equals(event.getClass())) {
+            if (cachedResolvable.rawType.equals(event.getClass()) && notifier.isCurrent(cachedResolvable.observers)) {
                 return cachedResolvable;
             }
         }
         Type eventType = getEventType(event);
-        Resolvable resolvable = getBeanManager().getGlobalStrictObserverNotifier().buildEventResolvable(eventType, getQualifiers());
-        cachedResolvable = new CachedResolvable(event.getClass(), eventType, resolvable);
+        Resolvable resolvable = notifier.buildEventResolvable(eventType, getQualifiers());
+        cachedResolvable = new CachedResolvable<T>(event.getClass(), eventType, notifier.<T>resolveObservers(resolvable));
         this.cachedResolvable = cachedResolvable;
         return cachedResolvable;
     }
@@ -166,15 +184,15 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Event<T
 
     }
 
-    private static class CachedResolvable {
+    private static class CachedResolvable<T> {
         private final Class<?> rawType;
         private final Type type;
-        private final Resolvable resolvable;
+        private final ResolvedObservers<T> observers;
 
-        public CachedResolvable(Class<?> rawType, Type type, Resolvable resolvable) {
+        public CachedResolvable(Class<?> rawType, Type type, ResolvedObservers<T> observers) {
             this.rawType = rawType;
             this.type = type;
-            this.resolvable = resolvable;
+            this.observers = observers;
         }
     }
 
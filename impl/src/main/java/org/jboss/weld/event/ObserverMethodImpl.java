@@ -94,6 +94,10 @@ public class ObserverMethodImpl<T, X> implements ObserverMethod<T> {
     private final Set<WeldInjectionPointAttributes<?, ?>> injectionPoints;
     private final Set<WeldInjectionPointAttributes<?, ?>> newInjectionPoints;
 
+    // receiver lookup strategy, see sendEvent(T)
+    private final boolean staticObserver;
+    private final boolean dependentReceiver;
+
     /**
      * Creates an Observer which describes and encapsulates an observer method
      * (8.5).
@@ -127,6 +131,8 @@ public class ObserverMethodImpl<T, X> implements ObserverMethod<T> {
         }
         this.injectionPoints = immutableSet(injectionPoints);
         this.newInjectionPoints = immutableSet(newInjectionPoints);
+        this.staticObserver = observer.isStatic();
+        this.dependentReceiver = Dependent.class.equals(declaringBean.getScope());
     }
 
     protected static String createId(final EnhancedAnnotatedMethod<?, ? > observer, final RIBean<?> declaringBean) {
@@ -246,23 +252,42 @@ public class ObserverMethodImpl<T, X> implements ObserverMethod<T> {
      * @param event The event to notify observer with
      */
     protected void sendEvent(final T event) {
-        if (observerMethod.getAnnotated().isStatic()) {
-            sendEvent(event, null, beanManager.createCreationalContext(declaringBean));
+        if (staticObserver) {
+            sendEvent(event, null, createCreationalContextForParameters());
+        } else if (reception.equals(Reception.IF_EXISTS)) {
+            Object receiver = getReceiverIfExists(null);
+            if (receiver != null) {
+                sendEvent(event, receiver, null);
+            }
         } else {
-            CreationalContext<?> creationalContext;
-            if (reception.equals(Reception.IF_EXISTS)) {
-                creationalContext = null;
-            } else {
-                creationalContext = beanManager.createCreationalContext(declaringBean);
+            Object receiver = null;
+            if (!dependentReceiver) {
+                // the receiver usually exists already - no creational context is needed to look it up
+                receiver = getReceiverIfExists(null);
             }
-
-            Object receiver = getReceiverIfExists(creationalContext);
             if (receiver != null) {
-                sendEvent(event, receiver, creationalContext);
+                sendEvent(event, receiver, createCreationalContextForParameters());
+            } else {
+                CreationalContext<?> creationalContext = beanManager.createCreationalContext(declaringBean);
+                receiver = getReceiverIfExists(creationalContext);
+                if (receiver != null) {
+                    sendEvent(event, receiver, creationalContext);
+                }
             }
         }
     }
 
+    /**
+     * A creational context is only needed for the parameters of the observer method if there are parameters other than the event
+     * parameter.
+     */
+    private CreationalContext<?> createCreationalContextForParameters() {
+        if (injectionPoints.isEmpty()) {
+            return null;
+        }
+        return beanManager.createCreationalContext(declaringBean);
+    }
+
     protected void sendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
         try {
             preNotify(event, receiver);
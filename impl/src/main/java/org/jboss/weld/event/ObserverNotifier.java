@@ -23,13 +23,23 @@ import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.enterprise.inject.spi.ObserverMethod;
 
+import org.jboss.weld.Container;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.exceptions.IllegalArgumentException;
 import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.resolution.Resolvable;
 import org.jboss.weld.resolution.ResolvableBuilder;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
@@ -39,6 +49,7 @@ import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.Types;
 import org.jboss.weld.util.reflection.Reflections;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -71,14 +82,22 @@ public class ObserverNotifier {
 
     private static final RuntimeException NO_EXCEPTION_MARKER = new RuntimeException();
 
+    // the number of event type and qualifiers combinations is not bounded if events are fired with dynamically created types
+    private static final long DISPATCH_TABLES_MAXIMUM_SIZE = 10000;
+
     private final TypeSafeObserverResolver resolver;
+    private final ServiceRegistry services;
     private final SharedObjectCache sharedObjectCache;
     private final boolean strict;
     protected final CurrentEventMetadata currentEventMetadata;
     private final LoadingCache<Type, RuntimeException> eventTypeCheckCache;
+    // incremented each time the resolver is cleared, invalidating previously built dispatch tables
+    private final AtomicInteger generation;
+    private final Cache<EventTypeAndQualifiers, ResolvedObservers<?>> dispatchTables;
 
     protected ObserverNotifier(TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         this.resolver = resolver;
+        this.services = services;
         this.sharedObjectCache = services.get(SharedObjectCache.class);
         this.strict = strict;
         this.currentEventMetadata = services.get(CurrentEventMetadata.class);
@@ -87,6 +106,8 @@ public class ObserverNotifier {
         } else {
             eventTypeCheckCache = null; // not necessary
         }
+        this.generation = new AtomicInteger();
+        this.dispatchTables = CacheBuilder.newBuilder().maximumSize(DISPATCH_TABLES_MAXIMUM_SIZE).build();
     }
 
     public <T> Set<ObserverMethod<? super T>> resolveObserverMethods(T event, Annotation... bindings) {
@@ -100,8 +121,7 @@ public class ObserverNotifier {
 
     public void fireEvent(Type eventType, Object event, Annotation... qualifiers) {
         checkEventObjectType(eventType);
-        // we use the array of qualifiers for resolution so that we can catch duplicate qualifiers
-        notifyObservers(event, resolveObserverMethods(buildEventResolvable(eventType, qualifiers)));
+        notifyObservers(event, resolveObservers(eventType, qualifiers).getObservers());
     }
 
     public void fireEvent(Object event, Resolvable resolvable) {
@@ -114,6 +134,85 @@ public class ObserverNotifier {
         notifyObservers(packet, this.<T>resolveObserverMethods(packet.getResolvable()));
     }
 
+    /**
+     * Delivers an event to observers of a dispatch table previously obtained from {@link #resolveObservers(Resolvable)} or
+     * {@link #resolveObservers(Type, Annotation...)}.
+     */
+    public <T> void fireEvent(EventPacket<T> packet, ResolvedObservers<T> observers) {
+        checkEventObjectType(packet.getType());
+        notifyObservers(packet, observers.getObservers());
+    }
+
+    /**
+     * Delivers an event to observers of a dispatch table asynchronously. Each observer method is notified on a thread of the
+     * {@link ExecutorServices} pool, so that slow observer methods do not add latency to the firing thread. The event metadata of
+     * the firing thread is propagated to the notifying threads. Request-scoped instances are not shared with the firing thread,
+     * each notification is performed within a new request context instead.
+     * <p>
+     * Observer methods which may not be notified on a different thread (see {@link #isAsyncNotificationAllowed(ObserverMethod)})
+     * are notified on the firing thread. The same applies to all the observer methods if {@link ExecutorServices} are not
+     * available. Exceptions thrown by observer methods are not propagated to the caller but are aggregated by the returned
+     * handle instead.
+     */
+    public <T> AsyncEventDelivery<T> fireEventAsync(EventPacket<T> packet, ResolvedObservers<T> observers) {
+        checkEventObjectType(packet.getType());
+        final ObserverMethod<? super T>[] observerMethods = observers.getObservers();
+        if (observerMethods.length == 0) {
+            return AsyncEventDelivery.completed(packet.getPayload(), Collections.<Throwable>emptyList());
+        }
+        final ExecutorServices executor = services.get(ExecutorServices.class);
+        final List<Future<Void>> notifications = new ArrayList<Future<Void>>(observerMethods.length);
+        final List<Throwable> errors = new ArrayList<Throwable>();
+        RequestContext requestContext = null;
+        currentEventMetadata.push(packet);
+        try {
+            for (ObserverMethod<? super T> observer : observerMethods) {
+                if (executor != null && isAsyncNotificationAllowed(observer)) {
+                    if (requestContext == null) {
+                        requestContext = Container.instance().deploymentManager().instance().select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+                    }
+                    notifications.add(executor.getTaskExecutor().submit(new AsyncEventNotification<T>(packet, observer, currentEventMetadata, requestContext)));
+                } else {
+                    try {
+                        notifyObserver(packet, observer);
+                    } catch (RuntimeException e) {
+                        errors.add(e);
+                    }
+                }
+            }
+        } finally {
+            currentEventMetadata.pop();
+        }
+        return new AsyncEventDelivery<T>(packet.getPayload(), notifications, errors);
+    }
+
+    /**
+     * Indicates whether the given observer method may be notified on a thread different from the one the event is fired on.
+     */
+    protected boolean isAsyncNotificationAllowed(ObserverMethod<?> observer) {
+        return true;
+    }
+
+    private <T> void notifyObservers(final EventPacket<T> eventPacket, final ObserverMethod<? super T>[] observers) {
+        if (observers.length == 0) {
+            return;
+        }
+        currentEventMetadata.push(eventPacket);
+        try {
+            for (ObserverMethod<? super T> observer : observers) {
+                notifyObserver(eventPacket, observer);
+            }
+        } finally {
+            currentEventMetadata.pop();
+        }
+    }
+
+    private <T> void notifyObservers(final T event, final ObserverMethod<? super T>[] observers) {
+        for (ObserverMethod<? super T> observer : observers) {
+            notifyObserver(event, observer);
+        }
+    }
+
     private <T> void notifyObservers(final EventPacket<T> eventPacket, final Set<ObserverMethod<? super T>> observers) {
         currentEventMetadata.push(eventPacket);
         try {
@@ -156,7 +255,52 @@ public class ObserverNotifier {
         return cast(resolver.resolve(resolvable, true));
     }
 
+    /**
+     * Builds a dispatch table for the given resolvable. The caller may cache the table as long as it is current (see
+     * {@link #isCurrent(ResolvedObservers)}).
+     */
+    public <T> ResolvedObservers<T> resolveObservers(Resolvable resolvable) {
+        // read the generation first so that a concurrent clear() makes the table stale
+        int currentGeneration = generation.get();
+        return new ResolvedObservers<T>(resolvable, this.<T>resolveObserverMethods(resolvable), currentGeneration);
+    }
+
+    /**
+     * Returns a dispatch table for the given event type and qualifiers. Dispatch tables are cached so that the {@link Resolvable}
+     * does not need to be built for every event fired. The number of cached dispatch tables is bounded, the least recently used
+     * ones are evicted first.
+     */
+    public <T> ResolvedObservers<T> resolveObservers(Type eventType, Annotation... qualifiers) {
+        EventTypeAndQualifiers key = new EventTypeAndQualifiers(eventType, qualifiers);
+        ResolvedObservers<?> observers = dispatchTables.getIfPresent(key);
+        if (observers == null || !isCurrent(observers)) {
+            // we use the array of qualifiers for resolution so that we can catch duplicate qualifiers
+            observers = resolveObservers(buildEventResolvable(eventType, qualifiers));
+            dispatchTables.put(new EventTypeAndQualifiers(eventType, qualifiers.clone()), observers);
+        }
+        return cast(observers);
+    }
+
+    /**
+     * Indicates whether the given dispatch table is still valid, i.e. the resolver has not been cleared since the table was
+     * built.
+     */
+    public boolean isCurrent(ResolvedObservers<?> observers) {
+        return observers.getGeneration() == generation.get();
+    }
+
+    /**
+     * Freezes the underlying resolver once observer methods can no longer be added.
+     *
+     * @see TypeSafeObserverResolver#freeze()
+     */
+    public void freeze() {
+        resolver.freeze();
+    }
+
     public void clear() {
+        generation.incrementAndGet();
+        dispatchTables.invalidateAll();
         resolver.clear();
         if (eventTypeCheckCache != null) {
             eventTypeCheckCache.invalidateAll();
@@ -184,6 +328,36 @@ public class ObserverNotifier {
         }
     }
 
+    private static class EventTypeAndQualifiers {
+
+        private final Type eventType;
+        private final Annotation[] qualifiers;
+        private final int hashCode;
+
+        private EventTypeAndQualifiers(Type eventType, Annotation[] qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+            this.hashCode = Arrays.hashCode(qualifiers) ^ eventType.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof EventTypeAndQualifiers) {
+                EventTypeAndQualifiers that = (EventTypeAndQualifiers) obj;
+                return eventType.equals(that.eventType) && Arrays.equals(qualifiers, that.qualifiers);
+            }
+            return false;
+        }
+    }
+
     private class EventTypeCheck extends CacheLoader<Type, RuntimeException> {
 
         @Override
@@ -0,0 +1,65 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import java.util.Set;
+
+import javax.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.resolution.Resolvable;
+
+/**
+ * Dispatch table for a given event type and set of qualifiers. Holds the {@link Resolvable} and the resolved observer methods in
+ * an array so that an event can be delivered without further resolution.
+ * <p>
+ * A dispatch table is only valid for the generation of the {@link ObserverNotifier} it was created by. Each time the observer
+ * resolver is cleared (e.g. when an observer method is added during bootstrap) a new generation starts. Once the container is
+ * initialized the generation does not change anymore and the table may be cached for good. See
+ * {@link ObserverNotifier#isCurrent(ResolvedObservers)}.
+ *
+ *
+ * @param <T> the event type
+ */
+public class ResolvedObservers<T> {
+
+    private final Resolvable resolvable;
+    private final ObserverMethod<? super T>[] observers;
+    private final int generation;
+
+    @SuppressWarnings("unchecked")
+    ResolvedObservers(Resolvable resolvable, Set<ObserverMethod<? super T>> observers, int generation) {
+        this.resolvable = resolvable;
+        this.observers = observers.toArray(new ObserverMethod[observers.size()]);
+        this.generation = generation;
+    }
+
+    public Resolvable getResolvable() {
+        return resolvable;
+    }
+
+    ObserverMethod<? super T>[] getObservers() {
+        return observers;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    public boolean isEmpty() {
+        return observers.length == 0;
+    }
+}
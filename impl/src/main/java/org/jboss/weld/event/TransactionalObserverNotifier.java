@@ -47,6 +47,15 @@ public class TransactionalObserverNotifier extends ObserverNotifier {
         }
     }
 
+    /**
+     * Transactional observer methods are bound to the transaction of the firing thread and are therefore always handled on
+     * the firing thread.
+     */
+    @Override
+    protected boolean isAsyncNotificationAllowed(ObserverMethod<?> observer) {
+        return TransactionPhase.IN_PROGRESS.equals(observer.getTransactionPhase());
+    }
+
     private boolean immediateDispatch(ObserverMethod<?> observer) {
         return TransactionPhase.IN_PROGRESS.equals(observer.getTransactionPhase()) || transactionServices == null || !transactionServices.isTransactionActive();
     }
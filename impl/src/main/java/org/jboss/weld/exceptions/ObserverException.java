@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+
+/**
+ * Aggregates exceptions thrown by observer methods notified asynchronously.
+ */
+@SuppressWarnings(value = "NM_SAME_SIMPLE_NAME_AS_SUPERCLASS", justification = "Consistent with other Weld exceptions.")
+public class ObserverException extends javax.enterprise.event.ObserverException {
+
+    private static final long serialVersionUID = -2408339396346219375L;
+
+    private final WeldExceptionMessage message;
+    private final List<Throwable> errors;
+
+    public ObserverException(List<Throwable> errors) {
+        super(errors.get(0));
+        this.message = new WeldExceptionListMessage(errors);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     *
+     * @return the exceptions thrown by the observer methods
+     */
+    public List<Throwable> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String getLocalizedMessage() {
+        return getMessage();
+    }
+
+    @Override
+    public String getMessage() {
+        return message.getAsString();
+    }
+}
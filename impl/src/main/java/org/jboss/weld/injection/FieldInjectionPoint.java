@@ -41,7 +41,7 @@ import org.jboss.weld.util.reflection.Reflections;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
-@SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The bean cache is loaded lazily.")
+@SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The injection plan is loaded lazily.")
 public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttributes<T, Field> implements WeldInjectionPointAttributes<T, Field>, Serializable {
 
     /**
@@ -54,7 +54,7 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
     private static final long serialVersionUID = 6645272914499045953L;
 
     private final boolean cacheable;
-    private transient Bean<?> cachedBean;
+    private transient volatile InjectionPlan injectionPlan;
     private final transient Field accessibleField;
 
     private final FieldInjectionPointAttributes<T, X> attributes;
@@ -86,10 +86,12 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
             if (!cacheable) {
                 objectToInject = manager.getInjectableReference(this, creationalContext);
             } else {
-                if (cachedBean == null) {
-                    cachedBean = manager.resolve(manager.getBeans(this));
+                InjectionPlan plan = this.injectionPlan;
+                if (plan == null) {
+                    plan = InjectionPlan.of(this, manager.resolve(manager.getBeans(this)), manager);
+                    this.injectionPlan = plan;
                 }
-                objectToInject = manager.getReference(this, cachedBean, creationalContext);
+                objectToInject = plan.getReference(this, creationalContext);
             }
             accessibleField.set(instanceToInject, objectToInject);
         } catch (IllegalArgumentException e) {
@@ -99,6 +101,16 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
         }
     }
 
+    /**
+     * Stores the injection plan for the bean resolved during validation. Non-cacheable injection points are resolved on each
+     * injection and thus no plan is stored for them.
+     */
+    void initializeInjectionPlan(Bean<?> resolvedBean, BeanManagerImpl manager) {
+        if (cacheable && injectionPlan == null) {
+            injectionPlan = InjectionPlan.of(this, resolvedBean, manager);
+        }
+    }
+
     @Override
     protected FieldInjectionPointAttributes<T, X> delegate() {
         return attributes;
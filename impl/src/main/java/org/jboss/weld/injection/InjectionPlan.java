@@ -0,0 +1,156 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import java.lang.reflect.Type;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.Context;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.context.CreationalContextImpl;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.Preconditions;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Pre-resolved strategy for obtaining the value of a cacheable injection point. The plan is computed once (at validation time or
+ * upon the first injection) and holds the resolved {@link Bean}, whether a client proxy is required and the way the target
+ * {@link Context} is looked up. Injecting a value using a plan therefore does not involve typesafe resolution.
+ */
+public final class InjectionPlan {
+
+    /**
+     * Creates a plan for the given injection point and stores it within the injection point if the injection point supports
+     * injection plans.
+     */
+    public static void initialize(InjectionPoint injectionPoint, Bean<?> resolvedBean, BeanManagerImpl manager) {
+        if (injectionPoint instanceof FieldInjectionPoint<?, ?>) {
+            ((FieldInjectionPoint<?, ?>) injectionPoint).initializeInjectionPlan(resolvedBean, manager);
+        } else if (injectionPoint instanceof ParameterInjectionPointImpl<?, ?>) {
+            ((ParameterInjectionPointImpl<?, ?>) injectionPoint).initializeInjectionPlan(resolvedBean, manager);
+        }
+    }
+
+    public static InjectionPlan of(InjectionPoint injectionPoint, Bean<?> resolvedBean, BeanManagerImpl manager) {
+        Preconditions.checkArgumentNotNull(resolvedBean, "resolvedBean");
+        return new InjectionPlan(injectionPoint, resolvedBean, manager);
+    }
+
+    private final Bean<?> bean;
+    private final Type requestedType;
+    private final boolean proxyRequired;
+    private final BeanManagerImpl manager;
+    // null if the injection point is not registered (see BeanManagerImpl.isRegisterableInjectionPoint())
+    private final CurrentInjectionPoint currentInjectionPoint;
+    // the dependent context is always active and can therefore be looked up eagerly
+    private final Context dependentContext;
+    private volatile Object clientProxy;
+
+    private InjectionPlan(InjectionPoint injectionPoint, Bean<?> bean, BeanManagerImpl manager) {
+        this.bean = bean;
+        this.requestedType = injectionPoint.getType();
+        this.proxyRequired = isProxyRequired(bean, manager);
+        this.manager = manager;
+        if (!proxyRequired && !InjectionPoint.class.equals(requestedType)) {
+            this.currentInjectionPoint = manager.getServices().get(CurrentInjectionPoint.class);
+        } else {
+            this.currentInjectionPoint = null;
+        }
+        if (!proxyRequired && Dependent.class.equals(bean.getScope())) {
+            this.dependentContext = manager.getContext(Dependent.class);
+        } else {
+            this.dependentContext = null;
+        }
+    }
+
+    private static boolean isProxyRequired(Bean<?> bean, BeanManagerImpl manager) {
+        if (bean instanceof RIBean<?>) {
+            return ((RIBean<?>) bean).isProxyRequired();
+        }
+        return manager.isNormalScope(bean.getScope());
+    }
+
+    public Bean<?> getBean() {
+        return bean;
+    }
+
+    public boolean isProxyRequired() {
+        return proxyRequired;
+    }
+
+    /**
+     * Obtains a reference to be injected into the given injection point.
+     *
+     * @param injectionPoint the injection point this plan was created for
+     * @param creationalContext the creational context of the instance being injected
+     * @return the reference to inject
+     */
+    public Object getReference(InjectionPoint injectionPoint, CreationalContext<?> creationalContext) {
+        Preconditions.checkArgumentNotNull(creationalContext, "creationalContext");
+        CreationalContext<?> childCreationalContext = creationalContext;
+        if (creationalContext instanceof CreationalContextImpl<?>) {
+            CreationalContextImpl<?> weldCreationalContext = (CreationalContextImpl<?>) creationalContext;
+            final Object incompleteInstance = weldCreationalContext.getIncompleteInstance(bean);
+            if (incompleteInstance != null) {
+                return incompleteInstance;
+            }
+            if (proxyRequired) {
+                return getClientProxy();
+            }
+            childCreationalContext = weldCreationalContext.getCreationalContext(bean);
+        } else if (proxyRequired) {
+            return getClientProxy();
+        }
+        if (currentInjectionPoint != null) {
+            currentInjectionPoint.push(injectionPoint);
+        }
+        try {
+            return getContext().get(Reflections.<Contextual<Object>>cast(bean), Reflections.<CreationalContext<Object>>cast(childCreationalContext));
+        } finally {
+            if (currentInjectionPoint != null) {
+                currentInjectionPoint.pop();
+            }
+        }
+    }
+
+    private Object getClientProxy() {
+        Object proxy = clientProxy;
+        if (proxy == null) {
+            // the same proxy may be looked up twice, but that is ok as the proxy is cached by ClientProxyProvider
+            proxy = manager.getClientProxyProvider().getClientProxy(bean, requestedType);
+            clientProxy = proxy;
+        }
+        return proxy;
+    }
+
+    private Context getContext() {
+        if (dependentContext != null) {
+            return dependentContext;
+        }
+        return manager.getContext(bean.getScope());
+    }
+
+    @Override
+    public String toString() {
+        return "InjectionPlan for " + bean + (proxyRequired ? " (client proxy)" : "");
+    }
+}
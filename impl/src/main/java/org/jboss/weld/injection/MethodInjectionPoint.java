@@ -26,7 +26,6 @@ import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.Map;
 
 import javax.enterprise.context.spi.CreationalContext;
@@ -36,6 +35,8 @@ import javax.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.injection.invoker.MethodInvoker;
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.security.GetAccessibleCopyOfMember;
 import org.jboss.weld.security.MethodLookupAction;
@@ -54,12 +55,28 @@ public class MethodInjectionPoint<T, X> extends AbstractCallableInjectionPoint<T
     private final Method accessibleMethod;
 
     private volatile Map<Class<?>, Method> methods;
+    // created upon the first invocation so that invoker classes are only generated for methods which are actually invoked
+    private volatile MethodInvoker invoker;
+
+    // parameter metadata is computed once so that the invocation path does not need to iterate over the list of parameters
+    // nor query the annotated parameters for @TransientReference
+    private final ParameterInjectionPoint<?, X>[] parameters;
+    private final boolean[] transientReferences;
+    private final boolean hasTransientReferences;
 
     protected MethodInjectionPoint(EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean, Class<?> declaringComponentClass, boolean observerOrDisposer, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(enhancedMethod, declaringBean, declaringComponentClass, observerOrDisposer, factory, manager);
         this.annotatedMethod = enhancedMethod.slim();
         this.accessibleMethod = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Method>(annotatedMethod.getJavaMember()));
         this.methods = Collections.<Class<?>, Method>singletonMap(annotatedMethod.getJavaMember().getDeclaringClass(), accessibleMethod);
+        this.parameters = cast(getParameterInjectionPoints().toArray(new ParameterInjectionPoint<?, ?>[getParameterInjectionPoints().size()]));
+        this.transientReferences = new boolean[parameters.length];
+        boolean hasTransientReferences = false;
+        for (int i = 0; i < parameters.length; i++) {
+            transientReferences[i] = parameters[i].getAnnotated().isAnnotationPresent(TransientReference.class);
+            hasTransientReferences |= transientReferences[i];
+        }
+        this.hasTransientReferences = hasTransientReferences;
     }
 
     public T invoke(Object declaringInstance, BeanManagerImpl manager, CreationalContext<?> creationalContext, Class<? extends RuntimeException> exceptionTypeToThrow) {
@@ -67,9 +84,9 @@ public class MethodInjectionPoint<T, X> extends AbstractCallableInjectionPoint<T
     }
 
     public T invokeWithSpecialValue(Object declaringInstance, Class<? extends Annotation> annotatedParameter, Object parameter, BeanManagerImpl manager, CreationalContext<?> ctx, Class<? extends RuntimeException> exceptionTypeToThrow) {
-        CreationalContext<?> invocationContext = manager.createCreationalContext(null);
+        CreationalContext<?> invocationContext = createInvocationContext(manager);
         try {
-            return cast(accessibleMethod.invoke(declaringInstance, getParameterValues(annotatedParameter, parameter, manager, ctx, invocationContext)));
+            return cast(getInvoker(manager).invoke(declaringInstance, getParameterValues(annotatedParameter, parameter, manager, ctx, invocationContext)));
         } catch (IllegalArgumentException e) {
             rethrowException(e, exceptionTypeToThrow);
         } catch (IllegalAccessException e) {
@@ -77,7 +94,9 @@ public class MethodInjectionPoint<T, X> extends AbstractCallableInjectionPoint<T
         } catch (InvocationTargetException e) {
             rethrowException(e, exceptionTypeToThrow);
         } finally {
-            invocationContext.release();
+            if (invocationContext != null) {
+                invocationContext.release();
+            }
         }
         return null;
     }
@@ -87,10 +106,15 @@ public class MethodInjectionPoint<T, X> extends AbstractCallableInjectionPoint<T
     }
 
     public T invokeOnInstanceWithSpecialValue(Object declaringInstance, Class<? extends Annotation> annotatedParameter, Object parameter, BeanManagerImpl manager, CreationalContext<?> ctx, Class<? extends RuntimeException> exceptionTypeToThrow) {
-        CreationalContext<?> invocationContext = manager.createCreationalContext(null);
+        CreationalContext<?> invocationContext = createInvocationContext(manager);
         try {
+            Object[] parameterValues = getParameterValues(annotatedParameter, parameter, manager, ctx, invocationContext);
+            if (accessibleMethod.getDeclaringClass().isInstance(declaringInstance)) {
+                // virtual dispatch selects the same method as the lookup would
+                return cast(getInvoker(manager).invoke(declaringInstance, parameterValues));
+            }
             Method method = getMethodFromClass(declaringInstance.getClass());
-            return cast(method.invoke(declaringInstance, getParameterValues(annotatedParameter, parameter, manager, ctx, invocationContext)));
+            return cast(method.invoke(declaringInstance, parameterValues));
         } catch (IllegalArgumentException e) {
             rethrowException(e, exceptionTypeToThrow);
         } catch (SecurityException e) {
@@ -102,7 +126,20 @@ public class MethodInjectionPoint<T, X> extends AbstractCallableInjectionPoint<T
         } catch (NoSuchMethodException e) {
             rethrowException(e, exceptionTypeToThrow);
         } finally {
-            invocationContext.release();
+            if (invocationContext != null) {
+                invocationContext.release();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates the creational context for dependent instances injected into {@link TransientReference} parameters. These are
+     * destroyed once the invocation completes. No creational context is created if there are no such parameters.
+     */
+    private CreationalContext<?> createInvocationContext(BeanManagerImpl manager) {
+        if (hasTransientReferences) {
+            return manager.createCreationalContext(null);
         }
         return null;
     }
@@ -115,13 +152,12 @@ public class MethodInjectionPoint<T, X> extends AbstractCallableInjectionPoint<T
      * @return The object array of looked up values
      */
     protected Object[] getParameterValues(Class<? extends Annotation> specialParam, Object specialVal, BeanManagerImpl manager, CreationalContext<?> ctx, CreationalContext<?> invocationContext) {
-        Object[] parameterValues = new Object[getParameterInjectionPoints().size()];
-        Iterator<ParameterInjectionPoint<?, X>> iterator = getParameterInjectionPoints().iterator();
+        Object[] parameterValues = new Object[parameters.length];
         for (int i = 0; i < parameterValues.length; i++) {
-            ParameterInjectionPoint<?, ?> param = iterator.next();
+            ParameterInjectionPoint<?, ?> param = parameters[i];
             if (specialParam != null && param.getAnnotated().isAnnotationPresent(specialParam)) {
                 parameterValues[i] = specialVal;
-            } else if (param.getAnnotated().isAnnotationPresent(TransientReference.class)){
+            } else if (transientReferences[i]) {
                 parameterValues[i] = param.getValueToInject(manager, invocationContext);
             } else {
                 parameterValues[i] = param.getValueToInject(manager, ctx);
@@ -130,6 +166,15 @@ public class MethodInjectionPoint<T, X> extends AbstractCallableInjectionPoint<T
         return parameterValues;
     }
 
+    private MethodInvoker getInvoker(BeanManagerImpl manager) {
+        MethodInvoker invoker = this.invoker;
+        if (invoker == null) {
+            invoker = manager.getServices().get(MethodInvokerFactory.class).getInvoker(annotatedMethod.getJavaMember());
+            this.invoker = invoker;
+        }
+        return invoker;
+    }
+
     @Override
     public AnnotatedMethod<X> getAnnotated() {
         return annotatedMethod;
@@ -33,7 +33,7 @@ import org.jboss.weld.util.reflection.Reflections;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
-@SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "cachedBean field is loaded lazily")
+@SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "injectionPlan field is loaded lazily")
 public class ParameterInjectionPointImpl<T, X> extends ForwardingInjectionPointAttributes<T, Object> implements ParameterInjectionPoint<T, X>, Serializable {
 
     private static final long serialVersionUID = -8354344628345860324L;
@@ -46,7 +46,7 @@ public class ParameterInjectionPointImpl<T, X> extends ForwardingInjectionPointA
     }
 
     private final boolean cacheable;
-    private transient Bean<?> cachedBean;
+    private transient volatile InjectionPlan injectionPlan;
 
     private ParameterInjectionPointAttributes<T, X> attributes;
 
@@ -70,14 +70,26 @@ public class ParameterInjectionPointImpl<T, X> extends ForwardingInjectionPointA
         if (!cacheable) {
             objectToInject = Reflections.<T> cast(manager.getInjectableReference(this, creationalContext));
         } else {
-            if (cachedBean == null) {
-                cachedBean = manager.resolve(manager.getBeans(this));
+            InjectionPlan plan = this.injectionPlan;
+            if (plan == null) {
+                plan = InjectionPlan.of(this, manager.resolve(manager.getBeans(this)), manager);
+                this.injectionPlan = plan;
             }
-            objectToInject = Reflections.<T> cast(manager.getReference(this, cachedBean, creationalContext));
+            objectToInject = Reflections.<T> cast(plan.getReference(this, creationalContext));
         }
         return objectToInject;
     }
 
+    /**
+     * Stores the injection plan for the bean resolved during validation. Non-cacheable injection points are resolved on each
+     * injection and thus no plan is stored for them.
+     */
+    void initializeInjectionPlan(Bean<?> resolvedBean, BeanManagerImpl manager) {
+        if (cacheable && injectionPlan == null) {
+            injectionPlan = InjectionPlan.of(this, resolvedBean, manager);
+        }
+    }
+
     @Override
     public AnnotatedParameter<X> getAnnotated() {
         return attributes.getAnnotated();
@@ -0,0 +1,44 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Invokes a given method. An invoker behaves the same way as {@link java.lang.reflect.Method#invoke(Object, Object...)} with
+ * the exception that no access checks are performed. Exceptions thrown by the invoked method are wrapped in an
+ * {@link InvocationTargetException}.
+ * <p>
+ * This interface needs to be public since it is implemented by generated classes which are defined in the package of the
+ * invoked method.
+ *
+ * @see MethodInvokerFactory
+ */
+public interface MethodInvoker {
+
+    /**
+     * Invokes the method.
+     *
+     * @param instance the instance to invoke the method on or null if the method is static
+     * @param parameters the parameters
+     * @return the value returned by the method (boxed if the method returns a primitive value) or null if the method returns
+     *         void
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException if the invoked method throws an exception
+     */
+    Object invoke(Object instance, Object[] parameters) throws IllegalAccessException, InvocationTargetException;
+}
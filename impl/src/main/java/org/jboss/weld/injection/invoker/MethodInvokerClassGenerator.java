@@ -0,0 +1,198 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.classfilewriter.AccessFlag;
+import org.jboss.classfilewriter.ClassFile;
+import org.jboss.classfilewriter.ClassMethod;
+import org.jboss.classfilewriter.code.BranchEnd;
+import org.jboss.classfilewriter.code.CodeAttribute;
+import org.jboss.classfilewriter.code.ExceptionHandler;
+import org.jboss.weld.util.bytecode.Boxing;
+import org.jboss.weld.util.bytecode.ClassFileUtils;
+import org.jboss.weld.util.bytecode.DescriptorUtils;
+
+/**
+ * Generates {@link MethodInvoker} implementations which invoke the target method directly using invokevirtual / invokestatic.
+ * The generated class is defined in the package and class loader of the class declaring the method so that non-public methods
+ * can be invoked without access checks.
+ * <p>
+ * The generated bytecode is equivalent to:
+ *
+ * <pre>
+ * public Object invoke(Object instance, Object[] parameters) throws InvocationTargetException {
+ *     instance.getClass(); // NullPointerException if the instance is null
+ *     Foo foo;
+ *     String p0;
+ *     int p1;
+ *     try {
+ *         if (parameters.length != 2) {
+ *             throw new IllegalArgumentException("wrong number of arguments");
+ *         }
+ *         foo = (Foo) instance;
+ *         p0 = (String) parameters[0];
+ *         p1 = ((Number) parameters[1]).intValue();
+ *     } catch (RuntimeException e) {
+ *         throw new IllegalArgumentException(e);
+ *     }
+ *     try {
+ *         return foo.bar(p0, p1);
+ *     } catch (Throwable e) {
+ *         throw new InvocationTargetException(e);
+ *     }
+ * }
+ * </pre>
+ *
+ * This follows the contract of {@link Method#invoke(Object, Object...)}: an instance of a wrong type, a wrong number of
+ * parameters, a parameter of a wrong type or a null value for a primitive parameter results in an
+ * {@link IllegalArgumentException} and only exceptions thrown by the invoked method are wrapped in an
+ * {@link InvocationTargetException}. The conversions are guarded by a separate exception handler which only executes if a
+ * conversion fails, so no checks are performed on the fast path.
+ */
+class MethodInvokerClassGenerator {
+
+    static final String INVOKER_CLASS_SUFFIX = "$$WeldMethodInvoker";
+
+    private static final String INIT_METHOD_NAME = "<init>";
+    private static final String INVOKE_METHOD_NAME = "invoke";
+    private static final String LJAVA_LANG_OBJECT = "Ljava/lang/Object;";
+    private static final String INVOCATION_TARGET_EXCEPTION = InvocationTargetException.class.getName();
+    private static final String ILLEGAL_ARGUMENT_EXCEPTION = IllegalArgumentException.class.getName();
+    private static final String WRONG_NUMBER_OF_ARGUMENTS = "wrong number of arguments";
+    private static final String THROWABLE_CONSTRUCTOR_DESCRIPTOR = "(Ljava/lang/Throwable;)" + DescriptorUtils.VOID_CLASS_DESCRIPTOR;
+    private static final int EXCEPTION_LOCAL_VARIABLE = 3;
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private MethodInvokerClassGenerator() {
+    }
+
+    /**
+     * Generates and defines an invoker class for the given method.
+     *
+     * @param method the method
+     * @param classLoader the class loader of the class declaring the method
+     * @return the invoker class
+     */
+    static Class<? extends MethodInvoker> generate(Method method, ClassLoader classLoader) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        String className = declaringClass.getName() + INVOKER_CLASS_SUFFIX + "$" + method.getName() + "$" + COUNTER.incrementAndGet();
+        ClassFile file = new ClassFile(className, Object.class.getName(), MethodInvoker.class.getName());
+        addConstructor(file);
+        addInvokeMethod(file, method);
+        return ClassFileUtils.toClass(file, classLoader, declaringClass.getProtectionDomain()).asSubclass(MethodInvoker.class);
+    }
+
+    private static void addConstructor(ClassFile file) {
+        ClassMethod constructor = file.addMethod(AccessFlag.PUBLIC, INIT_METHOD_NAME, DescriptorUtils.VOID_CLASS_DESCRIPTOR);
+        CodeAttribute b = constructor.getCodeAttribute();
+        b.aload(0);
+        b.invokespecial(Object.class.getName(), INIT_METHOD_NAME, "()" + DescriptorUtils.VOID_CLASS_DESCRIPTOR);
+        b.returnInstruction();
+    }
+
+    private static void addInvokeMethod(ClassFile file, Method method) {
+        ClassMethod invoke = file.addMethod(AccessFlag.PUBLIC, INVOKE_METHOD_NAME, LJAVA_LANG_OBJECT, LJAVA_LANG_OBJECT, "[" + LJAVA_LANG_OBJECT);
+        CodeAttribute b = invoke.getCodeAttribute();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        String declaringClass = method.getDeclaringClass().getName();
+
+        if (!isStatic) {
+            // a null instance results in a NullPointerException, same as with reflection
+            b.aload(1);
+            b.invokevirtual(Object.class.getName(), "getClass", "()Ljava/lang/Class;");
+            b.pop();
+        }
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        // there is nothing to convert for a static method without parameters
+        ExceptionHandler conversionHandler = null;
+        if (!isStatic || parameterTypes.length > 0) {
+            conversionHandler = b.exceptionBlockStart(RuntimeException.class.getName());
+        }
+        if (parameterTypes.length > 0) {
+            // a null parameter array results in a NullPointerException which is converted as well
+            b.aload(2);
+            b.arraylength();
+            b.iconst(parameterTypes.length);
+            BranchEnd parameterCountMatches = b.ifIcmpeq();
+            b.newInstruction(ILLEGAL_ARGUMENT_EXCEPTION);
+            b.dup();
+            b.ldc(WRONG_NUMBER_OF_ARGUMENTS);
+            b.invokespecial(ILLEGAL_ARGUMENT_EXCEPTION, INIT_METHOD_NAME, "(Ljava/lang/String;)" + DescriptorUtils.VOID_CLASS_DESCRIPTOR);
+            b.athrow();
+            b.branchEnd(parameterCountMatches);
+        }
+        if (!isStatic) {
+            b.aload(1);
+            b.checkcast(declaringClass);
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            b.aload(2);
+            b.iconst(i);
+            b.aaload();
+            if (parameterTypes[i].isPrimitive()) {
+                Boxing.unbox(b, DescriptorUtils.classToStringRepresentation(parameterTypes[i]));
+            } else if (!Object.class.equals(parameterTypes[i])) {
+                b.checkcast(parameterTypes[i]);
+            }
+        }
+
+        if (conversionHandler != null) {
+            b.exceptionBlockEnd(conversionHandler);
+        }
+
+        ExceptionHandler handler = b.exceptionBlockStart(Throwable.class.getName());
+        if (isStatic) {
+            b.invokestatic(declaringClass, method.getName(), DescriptorUtils.getMethodDescriptor(method));
+        } else {
+            b.invokevirtual(declaringClass, method.getName(), DescriptorUtils.getMethodDescriptor(method));
+        }
+        b.exceptionBlockEnd(handler);
+
+        Class<?> returnType = method.getReturnType();
+        if (void.class.equals(returnType)) {
+            b.aconstNull();
+        } else if (returnType.isPrimitive()) {
+            Boxing.boxIfNessesary(b, DescriptorUtils.classToStringRepresentation(returnType));
+        }
+        b.returnInstruction();
+
+        // a failed conversion of the instance or the parameters - ClassCastException, NullPointerException when unboxing null
+        // or ArrayIndexOutOfBoundsException if there are not enough parameters
+        if (conversionHandler != null) {
+            throwWrapped(b, conversionHandler, ILLEGAL_ARGUMENT_EXCEPTION);
+        }
+        // wrap the exception thrown by the invoked method the same way reflection does
+        throwWrapped(b, handler, INVOCATION_TARGET_EXCEPTION);
+    }
+
+    private static void throwWrapped(CodeAttribute b, ExceptionHandler handler, String exceptionClass) {
+        b.exceptionHandlerStart(handler);
+        b.astore(EXCEPTION_LOCAL_VARIABLE);
+        b.newInstruction(exceptionClass);
+        b.dup();
+        b.aload(EXCEPTION_LOCAL_VARIABLE);
+        b.invokespecial(exceptionClass, INIT_METHOD_NAME, THROWABLE_CONSTRUCTOR_DESCRIPTOR);
+        b.athrow();
+    }
+}
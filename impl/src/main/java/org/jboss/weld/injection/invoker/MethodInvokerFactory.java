@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection.invoker;
+
+import static org.jboss.weld.logging.Category.REFLECTION;
+import static org.jboss.weld.logging.LoggerFactory.loggerFactory;
+import static org.jboss.weld.util.cache.LoadingCacheUtils.getCacheValue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.serialization.spi.ProxyServices;
+import org.slf4j.cal10n.LocLogger;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Provides {@link MethodInvoker}s for methods invoked by the container - initializer methods, producer and disposer methods,
+ * observer methods and interceptor methods.
+ * <p>
+ * If possible, a class invoking the method directly is generated (see {@link MethodInvokerClassGenerator}). Unlike
+ * {@link Method#invoke(Object, Object...)}, an invocation through the generated class does not involve access checks nor
+ * copying of the parameter array and the JIT can inline the target method into it. Reflection is used as a fallback for
+ * private methods and for methods whose declaring class cannot be extended with a generated class in the same package.
+ * <p>
+ * Invokers are cached per {@link Method}.
+ */
+public class MethodInvokerFactory implements Service {
+
+    private static final LocLogger log = loggerFactory().getLogger(REFLECTION);
+
+    private static final String JAVA = "java.";
+
+    private final ProxyServices proxyServices;
+    private final LoadingCache<Method, MethodInvoker> invokers;
+
+    public MethodInvokerFactory(ProxyServices proxyServices) {
+        this.proxyServices = proxyServices;
+        this.invokers = CacheBuilder.newBuilder().build(new CacheLoader<Method, MethodInvoker>() {
+            @Override
+            public MethodInvoker load(Method method) {
+                return createInvoker(method);
+            }
+        });
+    }
+
+    /**
+     * Returns an invoker for the given method.
+     */
+    public MethodInvoker getInvoker(Method method) {
+        return getCacheValue(invokers, method);
+    }
+
+    /**
+     * Returns an invoker for the given method which always uses reflection. Mostly useful for comparing the performance of
+     * invokers.
+     */
+    public MethodInvoker getReflectiveInvoker(Method method) {
+        return new ReflectiveMethodInvoker(method);
+    }
+
+    private MethodInvoker createInvoker(Method method) {
+        ClassLoader classLoader = getClassLoader(method);
+        if (classLoader != null) {
+            try {
+                return MethodInvokerClassGenerator.generate(method, classLoader).newInstance();
+            } catch (Throwable e) {
+                // e.g. the class loader does not see Weld classes or a security manager prevents class definition
+                log.debug("Unable to generate an invoker class for {}, reflection will be used instead: {}", method, e);
+            }
+        }
+        return new ReflectiveMethodInvoker(method);
+    }
+
+    /**
+     * Returns the class loader the invoker class for the given method should be defined in or null if no invoker class should be
+     * generated for the given method.
+     */
+    private ClassLoader getClassLoader(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (Modifier.isPrivate(method.getModifiers()) || declaringClass.isInterface() || declaringClass.getName().startsWith(JAVA)) {
+            return null;
+        }
+        ClassLoader classLoader = declaringClass.getClassLoader();
+        if (classLoader == null || classLoader != proxyServices.getClassLoader(declaringClass)) {
+            // the invoker class needs to be in the same runtime package as the declaring class
+            return null;
+        }
+        return classLoader;
+    }
+
+    public void cleanup() {
+        invokers.invalidateAll();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.security.AccessController;
+
+import org.jboss.weld.security.GetAccessibleCopyOfMember;
+
+/**
+ * {@link MethodInvoker} implementation which uses reflection. This implementation is used for methods for which no invoker
+ * class can be generated.
+ */
+class ReflectiveMethodInvoker implements MethodInvoker {
+
+    private final Method method;
+
+    ReflectiveMethodInvoker(Method method) {
+        this.method = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Method>(method));
+    }
+
+    public Object invoke(Object instance, Object[] parameters) throws IllegalAccessException, InvocationTargetException {
+        return method.invoke(instance, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "Reflective invoker for " + method;
+    }
+}
@@ -73,7 +73,8 @@ public class ConstructorInterceptionInstantiator<T> extends ForwardingInstantiat
         // build interceptor invocations
         final Collection<InterceptorInvocation> interceptorInvocations = new ArrayList<InterceptorInvocation>(model.getConstructorInvocationInterceptors().size());
         for (InterceptorMetadata<?> interceptorMetadata : model.getConstructorInvocationInterceptors()) {
-            interceptorInvocations.add(interceptorMetadata.getInterceptorInvocation(interceptionContext.getInterceptorInstance(interceptorMetadata), InterceptionType.AROUND_CONSTRUCT));
+            interceptorInvocations.add(interceptorMetadata.getInterceptorInvocation(interceptionContext.getInterceptorInstance(interceptorMetadata), InterceptionType.AROUND_CONSTRUCT,
+                    interceptionContext.getMethodInvokerFactory()));
         }
 
         AroundConstructCallback<T> callback = new AroundConstructCallback<T>() {
@@ -16,6 +16,10 @@
  */
 package org.jboss.weld.injection.producer;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.enterprise.context.spi.CreationalContext;
 
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
@@ -24,6 +28,7 @@ import org.jboss.weld.exceptions.DeploymentException;
 import org.jboss.weld.interceptor.proxy.DefaultInvocationContextFactory;
 import org.jboss.weld.interceptor.proxy.InterceptionContext;
 import org.jboss.weld.interceptor.proxy.InterceptorMethodHandler;
+import org.jboss.weld.interceptor.proxy.MethodInterceptionPlan;
 import org.jboss.weld.interceptor.spi.metadata.ClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -39,10 +44,13 @@ import org.jboss.weld.manager.BeanManagerImpl;
 public class InterceptorApplyingInstantiator<T> extends ForwardingInstantiator<T> {
 
     private final InterceptionModel<ClassMetadata<?>> interceptionModel;
+    // around-invoke interception plans are shared by all the instances
+    private final ConcurrentMap<Method, MethodInterceptionPlan> methodInterceptionPlans;
 
     public InterceptorApplyingInstantiator(Instantiator<T> delegate, InterceptionModel<ClassMetadata<?>> model) {
         super(delegate);
         this.interceptionModel = model;
+        this.methodInterceptionPlans = new ConcurrentHashMap<Method, MethodInterceptionPlan>();
     }
 
     @Override
@@ -57,7 +65,7 @@ public class InterceptorApplyingInstantiator<T> extends ForwardingInstantiator<T
 
     protected T applyInterceptors(T instance, InterceptionContext interceptionContext) {
         try {
-            InterceptorMethodHandler methodHandler = new InterceptorMethodHandler(interceptionContext, new DefaultInvocationContextFactory());
+            InterceptorMethodHandler methodHandler = new InterceptorMethodHandler(interceptionContext, new DefaultInvocationContextFactory(), methodInterceptionPlans);
             CombinedInterceptorAndDecoratorStackMethodHandler wrapperMethodHandler = (CombinedInterceptorAndDecoratorStackMethodHandler) ((ProxyObject) instance).getHandler();
             wrapperMethodHandler.setInterceptorMethodHandler(methodHandler);
         } catch (Exception e) {
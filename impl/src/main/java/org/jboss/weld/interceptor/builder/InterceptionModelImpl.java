@@ -23,12 +23,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.serialization.MethodHolder;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
@@ -57,6 +60,10 @@ class InterceptionModelImpl<T> implements InterceptionModel<T> {
 
     private final boolean hasExternalNonConstructorInterceptors;
 
+    // resolved around-invoke and around-timeout interceptors are cached per method
+    private final ConcurrentMap<Method, List<InterceptorMetadata<?>>> aroundInvokeInterceptors;
+    private final ConcurrentMap<Method, List<InterceptorMetadata<?>>> aroundTimeoutInterceptors;
+
     /**
      *
      * @param builder
@@ -69,6 +76,8 @@ class InterceptionModelImpl<T> implements InterceptionModel<T> {
         this.methodBoundInterceptors = ImmutableMap.<InterceptionType, Map<MethodHolder,List<InterceptorMetadata<?>>>>copyOf(builder.getMethodBoundInterceptors());
         this.methodsIgnoringGlobalInterceptors = ImmutableSet.<MethodHolder>copyOf(builder.getMethodsIgnoringGlobalInterceptors());
         this.allInterceptors = ImmutableSet.<InterceptorMetadata<?>>copyOf(builder.getAllInterceptors());
+        this.aroundInvokeInterceptors = new ConcurrentHashMap<Method, List<InterceptorMetadata<?>>>();
+        this.aroundTimeoutInterceptors = new ConcurrentHashMap<Method, List<InterceptorMetadata<?>>>();
     }
 
     public List<InterceptorMetadata<?>> getInterceptors(InterceptionType interceptionType, Method method) {
@@ -88,23 +97,33 @@ class InterceptionModelImpl<T> implements InterceptionModel<T> {
                 return globalInterceptors.get(interceptionType);
             }
         } else {
-            MethodHolder methodHolder = MethodHolder.of(method);
-            ArrayList<InterceptorMetadata<?>> returnedInterceptors = new ArrayList<InterceptorMetadata<?>>();
-            if (!methodsIgnoringGlobalInterceptors.contains(methodHolder) && globalInterceptors.containsKey(interceptionType)) {
-                returnedInterceptors.addAll(globalInterceptors.get(interceptionType));
-            }
-            Map<MethodHolder, List<InterceptorMetadata<?>>> map = methodBoundInterceptors.get(interceptionType);
-            if (map != null) {
-                List<InterceptorMetadata<?>> list = map.get(methodHolder);
-                if (list != null) {
-                    returnedInterceptors.addAll(list);
-                }
+            ConcurrentMap<Method, List<InterceptorMetadata<?>>> cache = InterceptionType.AROUND_INVOKE.equals(interceptionType) ? aroundInvokeInterceptors : aroundTimeoutInterceptors;
+            List<InterceptorMetadata<?>> interceptors = cache.get(method);
+            if (interceptors == null) {
+                interceptors = resolveMethodInterceptors(interceptionType, method);
+                cache.put(method, interceptors);
             }
-            return returnedInterceptors;
+            return interceptors;
         }
         return Collections.emptyList();
     }
 
+    private List<InterceptorMetadata<?>> resolveMethodInterceptors(InterceptionType interceptionType, Method method) {
+        MethodHolder methodHolder = MethodHolder.of(method);
+        ArrayList<InterceptorMetadata<?>> returnedInterceptors = new ArrayList<InterceptorMetadata<?>>();
+        if (!methodsIgnoringGlobalInterceptors.contains(methodHolder) && globalInterceptors.containsKey(interceptionType)) {
+            returnedInterceptors.addAll(globalInterceptors.get(interceptionType));
+        }
+        Map<MethodHolder, List<InterceptorMetadata<?>>> map = methodBoundInterceptors.get(interceptionType);
+        if (map != null) {
+            List<InterceptorMetadata<?>> list = map.get(methodHolder);
+            if (list != null) {
+                returnedInterceptors.addAll(list);
+            }
+        }
+        return ImmutableList.copyOf(returnedInterceptors);
+    }
+
     public Set<InterceptorMetadata<?>> getAllInterceptors() {
         return Collections.unmodifiableSet(allInterceptors);
     }
@@ -42,33 +42,56 @@ public abstract class AbstractInterceptionChain implements InterceptionChain {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractInterceptionChain.class);
 
+    private static final InterceptorMethodInvocation[] EMPTY_INVOCATIONS = new InterceptorMethodInvocation[0];
+
     private int currentPosition;
 
-    private final List<InterceptorMethodInvocation> interceptorMethodInvocations;
+    private final InterceptorMethodInvocation[] interceptorMethodInvocations;
 
-    private static Collection<InterceptorInvocation> buildInterceptorMethodInvocations(Object instance, Method method, Object[] args, InterceptionType interceptionType, InterceptionContext ctx) {
+    /**
+     * Builds the flattened array of interceptor method invocations for the given method. The result only depends on the
+     * intercepted instance, method and interception type and may therefore be reused for subsequent invocations of the same
+     * method on the same instance.
+     */
+    public static InterceptorMethodInvocation[] buildInterceptorMethodInvocations(Object instance, Method method, InterceptionType interceptionType, InterceptionContext ctx) {
         List<? extends InterceptorMetadata<?>> interceptorList = ctx.getInterceptionModel().getInterceptors(interceptionType, method);
         Collection<InterceptorInvocation> interceptorInvocations = new ArrayList<InterceptorInvocation>(interceptorList.size());
         for (InterceptorMetadata<?> interceptorMetadata : interceptorList) {
-            interceptorInvocations.add(interceptorMetadata.getInterceptorInvocation(ctx.getInterceptorInstance(interceptorMetadata), interceptionType));
+            interceptorInvocations.add(interceptorMetadata.getInterceptorInvocation(ctx.getInterceptorInstance(interceptorMetadata), interceptionType, ctx.getMethodInvokerFactory()));
         }
         TargetClassInterceptorMetadata<?> targetClassInterceptorMetadata = ctx.getTargetClassInterceptorMetadata();
         if (targetClassInterceptorMetadata != null && targetClassInterceptorMetadata.isEligible(interceptionType)) {
-            interceptorInvocations.add(targetClassInterceptorMetadata.getInterceptorInvocation(instance, interceptionType));
+            interceptorInvocations.add(targetClassInterceptorMetadata.getInterceptorInvocation(instance, interceptionType, ctx.getMethodInvokerFactory()));
+        }
+        return flatten(interceptorInvocations);
+    }
+
+    private static InterceptorMethodInvocation[] flatten(Collection<InterceptorInvocation> interceptorInvocations) {
+        if (interceptorInvocations.isEmpty()) {
+            return EMPTY_INVOCATIONS;
+        }
+        List<InterceptorMethodInvocation> interceptorMethodInvocations = new ArrayList<InterceptorMethodInvocation>(interceptorInvocations.size());
+        for (InterceptorInvocation interceptorInvocation : interceptorInvocations) {
+            interceptorMethodInvocations.addAll(interceptorInvocation.getInterceptorMethodInvocations());
         }
-        return interceptorInvocations;
+        return interceptorMethodInvocations.toArray(new InterceptorMethodInvocation[interceptorMethodInvocations.size()]);
     }
 
     protected AbstractInterceptionChain(Object instance, Method method, Object[] args, InterceptionType interceptionType, InterceptionContext ctx) {
-        this(buildInterceptorMethodInvocations(instance, method, args, interceptionType, ctx));
+        this(buildInterceptorMethodInvocations(instance, method, interceptionType, ctx));
     }
 
     protected AbstractInterceptionChain(Collection<InterceptorInvocation> interceptorInvocations) {
+        this(flatten(interceptorInvocations));
+    }
+
+    /**
+     * Creates a chain for a precomputed array of interceptor method invocations. The array is not copied and must not be
+     * modified.
+     */
+    protected AbstractInterceptionChain(InterceptorMethodInvocation[] interceptorMethodInvocations) {
         this.currentPosition = 0;
-        interceptorMethodInvocations = new ArrayList<InterceptorMethodInvocation>(interceptorInvocations.size());
-        for (InterceptorInvocation interceptorInvocation : interceptorInvocations) {
-            interceptorMethodInvocations.addAll(interceptorInvocation.getInterceptorMethodInvocations());
-        }
+        this.interceptorMethodInvocations = interceptorMethodInvocations;
     }
 
     public Object invokeNextInterceptor(InvocationContext invocationContext) throws Throwable {
@@ -87,14 +110,16 @@ public abstract class AbstractInterceptionChain implements InterceptionChain {
     protected Object invokeNext(InvocationContext invocationContext) throws Exception {
         int oldCurrentPosition = currentPosition;
         try {
-            InterceptorMethodInvocation nextInterceptorMethodInvocation = interceptorMethodInvocations.get(currentPosition++);
-            log.trace("Invoking next interceptor in chain: {}", nextInterceptorMethodInvocation.toString());
+            InterceptorMethodInvocation nextInterceptorMethodInvocation = interceptorMethodInvocations[currentPosition++];
+            if (log.isTraceEnabled()) {
+                log.trace("Invoking next interceptor in chain: {}", nextInterceptorMethodInvocation.toString());
+            }
             if (nextInterceptorMethodInvocation.expectsInvocationContext()) {
                 return nextInterceptorMethodInvocation.invoke(invocationContext);
             } else {
                 nextInterceptorMethodInvocation.invoke(null);
                 while (hasNextInterceptor()) {
-                    nextInterceptorMethodInvocation = interceptorMethodInvocations.get(currentPosition++);
+                    nextInterceptorMethodInvocation = interceptorMethodInvocations[currentPosition++];
                     nextInterceptorMethodInvocation.invoke(null);
                 }
                 return null;
@@ -107,6 +132,6 @@ public abstract class AbstractInterceptionChain implements InterceptionChain {
     protected abstract Object interceptorChainCompleted(InvocationContext invocationContext) throws Exception;
 
     public boolean hasNextInterceptor() {
-        return currentPosition < interceptorMethodInvocations.size();
+        return currentPosition < interceptorMethodInvocations.length;
     }
 }
@@ -33,6 +33,7 @@ import java.util.Set;
 
 import javax.enterprise.context.spi.CreationalContext;
 
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
 import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.reader.cache.MetadataCachingReader;
 import org.jboss.weld.interceptor.spi.metadata.ClassMetadata;
@@ -104,6 +105,13 @@ public class InterceptionContext implements Serializable {
         return interceptionModel;
     }
 
+    /**
+     * Returns the {@link MethodInvokerFactory} of the container the intercepted instance belongs to.
+     */
+    public MethodInvokerFactory getMethodInvokerFactory() {
+        return manager.getServices().get(MethodInvokerFactory.class);
+    }
+
     public <T> T getInterceptorInstance(InterceptorMetadata<T> interceptorMetadata) {
         return cast(interceptorInstances.get(interceptorMetadata.getInterceptorClass().getJavaClass()));
     }
@@ -36,7 +36,7 @@ import org.jboss.weld.interceptor.spi.context.InterceptionChain;
  */
 public class InterceptorInvocationContext implements InvocationContext {
 
-    private final Map<String, Object> contextData;
+    private Map<String, Object> contextData;
 
     private final Method method;
 
@@ -103,7 +103,7 @@ public class InterceptorInvocationContext implements InvocationContext {
     }
 
     private InterceptorInvocationContext(InterceptionChain interceptionChain, Object target, Method method, Constructor<?> constructor, Object[] parameters, Object timer) {
-        this(interceptionChain, target, method, constructor, parameters, timer, new HashMap<String, Object>());
+        this(interceptionChain, target, method, constructor, parameters, timer, null);
     }
 
     private InterceptorInvocationContext(InterceptionChain interceptionChain, Object target, Method method, Constructor<?> constructor, Object[] parameters, Object timer, Map<String, Object> contextData) {
@@ -118,6 +118,10 @@ public class InterceptorInvocationContext implements InvocationContext {
 
     @Override
     public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            // most interceptors never touch the context data so the map is only allocated on demand
+            contextData = new HashMap<String, Object>();
+        }
         return contextData;
     }
 
@@ -1,12 +1,15 @@
 package org.jboss.weld.interceptor.proxy;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.security.AccessController;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.weld.bean.proxy.MethodHandler;
+import org.jboss.weld.interceptor.chain.AbstractInterceptionChain;
 import org.jboss.weld.interceptor.spi.context.InvocationContextFactory;
-import org.jboss.weld.interceptor.spi.metadata.MethodMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.interceptor.util.InterceptionUtils;
 import org.jboss.weld.security.SetAccessibleAction;
@@ -20,25 +23,38 @@ public class InterceptorMethodHandler implements MethodHandler, Serializable {
 
     private final InterceptionContext ctx;
     private final InvocationContextFactory factory;
+    // shared by all the instances of the intercepted class, see InterceptorApplyingInstantiator
+    private final transient ConcurrentMap<Method, MethodInterceptionPlan> plans;
 
-    public InterceptorMethodHandler(InterceptionContext ctx, InvocationContextFactory factory) {
+    /**
+     * @param plans the around-invoke interception plans of the intercepted class
+     */
+    public InterceptorMethodHandler(InterceptionContext ctx, InvocationContextFactory factory, ConcurrentMap<Method, MethodInterceptionPlan> plans) {
         this.ctx = ctx;
         this.factory = factory;
+        this.plans = plans;
     }
 
     public Object invoke(Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
-        AccessController.doPrivileged(SetAccessibleAction.of(thisMethod));
         if (proceed == null) {
+            AccessController.doPrivileged(SetAccessibleAction.of(thisMethod));
             if (thisMethod.getName().equals(InterceptionUtils.POST_CONSTRUCT)) {
                 return executeInterception(self, null, null, InterceptionType.POST_CONSTRUCT);
             } else if (thisMethod.getName().equals(InterceptionUtils.PRE_DESTROY)) {
                 return executeInterception(self, null, null, InterceptionType.PRE_DESTROY);
             }
         } else {
-            if (isInterceptorMethod(thisMethod)) {
+            MethodInterceptionPlan plan = getMethodInterceptionPlan(thisMethod);
+            if (plan.isInterceptorMethod()) {
                 return proceed.invoke(self, args);
             }
-            return executeInterception(self, thisMethod, args, InterceptionType.AROUND_INVOKE);
+            if (plan.isExecutable() && factory instanceof DefaultInvocationContextFactory) {
+                return plan.invoke(self, args, ctx);
+            }
+            // the plan cannot be used, build the chain for this invocation
+            SimpleInterceptionChain chain = new SimpleInterceptionChain(AbstractInterceptionChain.buildInterceptorMethodInvocations(self, plan.getMethod(), InterceptionType.AROUND_INVOKE, ctx),
+                    plan.getSuperMethodIndex(self));
+            return chain.invokeNextInterceptor(factory.newInvocationContext(chain, self, plan.getMethod(), args));
         }
         return null;
     }
@@ -48,8 +64,24 @@ public class InterceptorMethodHandler implements MethodHandler, Serializable {
         return chain.invokeNextInterceptor(factory.newInvocationContext(chain, instance, method, args));
     }
 
-    private boolean isInterceptorMethod(Method method) {
-        MethodMetadata methodMetadata = ctx.getTargetClassInterceptorMetadata().getInterceptorClass().getDeclaredMethod(method);
-        return methodMetadata != null && methodMetadata.isInterceptorMethod();
+    /**
+     * Returns the around-invoke interception plan of the given method. Plans are shared by all the instances of the intercepted
+     * class and are built upon the first invocation of a given method.
+     */
+    public MethodInterceptionPlan getMethodInterceptionPlan(Method method) {
+        MethodInterceptionPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = new MethodInterceptionPlan(method, ctx);
+            MethodInterceptionPlan previous = plans.putIfAbsent(method, plan);
+            if (previous != null) {
+                plan = previous;
+            }
+        }
+        return plan;
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        // plans are not serializable, a deserialized instance builds its own
+        return new InterceptorMethodHandler(ctx, factory, new ConcurrentHashMap<Method, MethodInterceptionPlan>());
     }
 }
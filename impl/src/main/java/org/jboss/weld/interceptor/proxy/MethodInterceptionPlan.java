@@ -0,0 +1,229 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.inject.spi.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.weld.bean.interceptor.CustomInterceptorMetadata;
+import org.jboss.weld.injection.invoker.MethodInvoker;
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
+import org.jboss.weld.interceptor.reader.AbstractInterceptorMetadata;
+import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
+import org.jboss.weld.interceptor.spi.metadata.MethodMetadata;
+import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.security.SetAccessibleAction;
+import org.jboss.weld.util.bytecode.DescriptorUtils;
+
+/**
+ * Precomputed around-invoke interception of a given method of an intercepted class. A plan does not reference any intercepted
+ * or interceptor instance and is therefore built once per intercepted class and method and shared by all the instances of the
+ * intercepted class (see {@link InterceptorMethodHandler#getMethodInterceptionPlan(Method)}).
+ * Interceptor instances are obtained from the {@link InterceptionContext} of the intercepted instance when the plan is
+ * executed.
+ * <p>
+ * A plan cannot be built if an interceptor is described by an unknown {@link InterceptorMetadata} implementation. In that case
+ * {@link #isExecutable()} returns false and the interception chain is built for each invocation.
+ */
+public class MethodInterceptionPlan {
+
+    private static final javax.enterprise.inject.spi.InterceptionType CDI_AROUND_INVOKE = javax.enterprise.inject.spi.InterceptionType.AROUND_INVOKE;
+
+    private final Method method;
+    private final boolean interceptorMethod;
+    private final Step[] steps;
+    private final String signature;
+    // the index of the intercepted method in the last seen SuperMethodInvoker class
+    private volatile SuperMethodIndex superMethodIndex;
+
+    public MethodInterceptionPlan(Method method, InterceptionContext ctx) {
+        AccessController.doPrivileged(SetAccessibleAction.of(method));
+        this.method = method;
+        MethodMetadata methodMetadata = ctx.getTargetClassInterceptorMetadata().getInterceptorClass().getDeclaredMethod(method);
+        this.interceptorMethod = methodMetadata != null && methodMetadata.isInterceptorMethod();
+        this.steps = interceptorMethod ? null : buildSteps(method, ctx);
+        this.signature = method.getName() + DescriptorUtils.getMethodDescriptor(method);
+    }
+
+    private static Step[] buildSteps(Method method, InterceptionContext ctx) {
+        MethodInvokerFactory invokerFactory = ctx.getMethodInvokerFactory();
+        List<Step> steps = new ArrayList<Step>();
+        for (InterceptorMetadata<?> interceptor : ctx.getInterceptionModel().getInterceptors(InterceptionType.AROUND_INVOKE, method)) {
+            if (interceptor instanceof AbstractInterceptorMetadata<?>) {
+                for (MethodMetadata interceptorMethod : ((AbstractInterceptorMetadata<?>) interceptor).getInterceptorMethods(InterceptionType.AROUND_INVOKE)) {
+                    steps.add(new InterceptorMethodStep(interceptor, invokerFactory.getInvoker(interceptorMethod.getJavaMethod())));
+                }
+            } else if (interceptor instanceof CustomInterceptorMetadata<?>) {
+                steps.add(new CustomInterceptorStep(interceptor, ((CustomInterceptorMetadata<?>) interceptor).getInterceptorFactory().getInterceptor()));
+            } else {
+                return null;
+            }
+        }
+        TargetClassInterceptorMetadata<?> targetClassInterceptorMetadata = ctx.getTargetClassInterceptorMetadata();
+        if (targetClassInterceptorMetadata != null && targetClassInterceptorMetadata.isEligible(InterceptionType.AROUND_INVOKE)) {
+            for (MethodMetadata interceptorMethod : targetClassInterceptorMetadata.getInterceptorMethods(InterceptionType.AROUND_INVOKE)) {
+                // the target instance is the interceptor instance
+                steps.add(new InterceptorMethodStep(null, invokerFactory.getInvoker(interceptorMethod.getJavaMethod())));
+            }
+        }
+        return steps.toArray(new Step[steps.size()]);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Indicates whether the method is an interceptor method of the target class. Such method is not intercepted.
+     */
+    public boolean isInterceptorMethod() {
+        return interceptorMethod;
+    }
+
+    /**
+     * Indicates whether the plan can be executed using {@link #invoke(Object, Object[], InterceptionContext)}.
+     */
+    public boolean isExecutable() {
+        return steps != null;
+    }
+
+    /**
+     * Executes the interception chain for the given instance.
+     *
+     * @param target the intercepted instance
+     * @param parameters the method parameters
+     * @param ctx the interception context of the intercepted instance
+     * @return the return value of the interception chain
+     */
+    public Object invoke(Object target, Object[] parameters, InterceptionContext ctx) throws Throwable {
+        return new PlanInvocationContext(this, ctx, target, parameters).invokeNext();
+    }
+
+    /**
+     * Returns the index of the intercepted method as defined by {@link SuperMethodInvoker} or
+     * {@link SimpleInterceptionChain#NO_SUPER_METHOD} if the target instance is not a {@link SuperMethodInvoker}. The index is
+     * only looked up once per intercepted subclass.
+     */
+    public int getSuperMethodIndex(Object target) {
+        if (!(target instanceof SuperMethodInvoker)) {
+            return SimpleInterceptionChain.NO_SUPER_METHOD;
+        }
+        Class<?> targetClass = target.getClass();
+        SuperMethodIndex index = this.superMethodIndex;
+        if (index == null || index.targetClass != targetClass) {
+            index = new SuperMethodIndex(targetClass, findSuperMethodIndex(((SuperMethodInvoker) target).weld_$$_getSuperMethodSignatures()));
+            this.superMethodIndex = index;
+        }
+        return index.index;
+    }
+
+    private int findSuperMethodIndex(String[] signatures) {
+        for (int i = 0; i < signatures.length; i++) {
+            if (signatures[i].equals(signature)) {
+                return i;
+            }
+        }
+        return SimpleInterceptionChain.NO_SUPER_METHOD;
+    }
+
+    Object invokeStep(int position, InvocationContext invocationContext, InterceptionContext ctx) throws Exception {
+        return steps[position].invoke(invocationContext, ctx);
+    }
+
+    int getStepCount() {
+        return steps.length;
+    }
+
+    /**
+     * Invokes the intercepted method once all the interceptors have been invoked.
+     */
+    Object invokeTarget(Object target, Object[] parameters) throws Exception {
+        int index = getSuperMethodIndex(target);
+        if (index != SimpleInterceptionChain.NO_SUPER_METHOD) {
+            return ((SuperMethodInvoker) target).weld_$$_invokeSuper(index, parameters);
+        }
+        return method.invoke(target, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "MethodInterceptionPlan [method=" + method + ", steps=" + (steps == null ? "n/a" : steps.length) + "]";
+    }
+
+    private abstract static class Step {
+
+        abstract Object invoke(InvocationContext invocationContext, InterceptionContext ctx) throws Exception;
+    }
+
+    /**
+     * Invokes an interceptor method of an interceptor class or of the target class.
+     */
+    private static class InterceptorMethodStep extends Step {
+
+        // null for target class interceptor methods
+        private final InterceptorMetadata<?> interceptor;
+        private final MethodInvoker invoker;
+
+        private InterceptorMethodStep(InterceptorMetadata<?> interceptor, MethodInvoker invoker) {
+            this.interceptor = interceptor;
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(InvocationContext invocationContext, InterceptionContext ctx) throws Exception {
+            Object instance = interceptor == null ? invocationContext.getTarget() : ctx.getInterceptorInstance(interceptor);
+            return invoker.invoke(instance, new Object[] { invocationContext });
+        }
+    }
+
+    /**
+     * Delegates to an {@link Interceptor} not implemented by Weld.
+     */
+    private static class CustomInterceptorStep extends Step {
+
+        private final InterceptorMetadata<?> interceptorMetadata;
+        private final Interceptor<Object> interceptor;
+
+        @SuppressWarnings("unchecked")
+        private CustomInterceptorStep(InterceptorMetadata<?> interceptorMetadata, Interceptor<?> interceptor) {
+            this.interceptorMetadata = interceptorMetadata;
+            this.interceptor = (Interceptor<Object>) interceptor;
+        }
+
+        @Override
+        Object invoke(InvocationContext invocationContext, InterceptionContext ctx) throws Exception {
+            return interceptor.intercept(CDI_AROUND_INVOKE, ctx.getInterceptorInstance(interceptorMetadata), invocationContext);
+        }
+    }
+
+    private static class SuperMethodIndex {
+
+        private final Class<?> targetClass;
+        private final int index;
+
+        private SuperMethodIndex(Class<?> targetClass, int index) {
+            this.targetClass = targetClass;
+            this.index = index;
+        }
+    }
+}
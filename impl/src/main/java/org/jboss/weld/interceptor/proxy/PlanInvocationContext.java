@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * {@link javax.interceptor.InvocationContext} which executes a {@link MethodInterceptionPlan}. The invocation context also holds
+ * the position within the interceptor chain so that no separate chain object needs to be allocated for an invocation.
+ */
+class PlanInvocationContext extends InterceptorInvocationContext {
+
+    private final MethodInterceptionPlan plan;
+    private final InterceptionContext ctx;
+    private int position;
+
+    PlanInvocationContext(MethodInterceptionPlan plan, InterceptionContext ctx, Object target, Object[] parameters) {
+        super(null, target, plan.getMethod(), parameters);
+        this.plan = plan;
+        this.ctx = ctx;
+    }
+
+    Object invokeNext() throws Throwable {
+        int oldPosition = position;
+        try {
+            if (position < plan.getStepCount()) {
+                return plan.invokeStep(position++, this, ctx);
+            } else {
+                return plan.invokeTarget(getTarget(), getParameters());
+            }
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            position = oldPosition;
+        }
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        try {
+            return invokeNext();
+        } catch (Exception e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InterceptorException(t);
+        }
+    }
+}
@@ -32,18 +32,40 @@ import org.jboss.weld.security.SetAccessibleAction;
  */
 public class SimpleInterceptionChain extends AbstractInterceptionChain {
 
+    public static final int NO_SUPER_METHOD = -1;
+
+    private final int superMethodIndex;
+
     public SimpleInterceptionChain(Object instance, Method method, Object[] args, InterceptionType interceptionType, InterceptionContext ctx) {
         super(instance, method, args, interceptionType, ctx);
+        this.superMethodIndex = NO_SUPER_METHOD;
     }
 
     public SimpleInterceptionChain(Collection<InterceptorInvocation> interceptorInvocations) {
         super(interceptorInvocations);
+        this.superMethodIndex = NO_SUPER_METHOD;
+    }
+
+    /**
+     * Creates a chain which, once completed, invokes the intercepted method directly if the target instance is a
+     * {@link SuperMethodInvoker}.
+     *
+     * @param superMethodIndex the index of the intercepted method as defined by {@link SuperMethodInvoker} or {@link #NO_SUPER_METHOD}
+     */
+    public SimpleInterceptionChain(InterceptorMethodInvocation[] interceptorMethodInvocations, int superMethodIndex) {
+        super(interceptorMethodInvocations);
+        this.superMethodIndex = superMethodIndex;
     }
 
     protected Object interceptorChainCompleted(InvocationContext ctx) throws Exception {
+        if (superMethodIndex != NO_SUPER_METHOD && ctx.getTarget() instanceof SuperMethodInvoker) {
+            return ((SuperMethodInvoker) ctx.getTarget()).weld_$$_invokeSuper(superMethodIndex, ctx.getParameters());
+        }
         Method method = ctx.getMethod();
         if (method != null) {
-            AccessController.doPrivileged(SetAccessibleAction.of(method));
+            if (!method.isAccessible()) {
+                AccessController.doPrivileged(SetAccessibleAction.of(method));
+            }
             return method.invoke(ctx.getTarget(), ctx.getParameters());
         } else {
             return null;
@@ -20,6 +20,7 @@ package org.jboss.weld.interceptor.proxy;
 import java.util.ArrayList;
 import java.util.Collection;
 
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
 import org.jboss.weld.interceptor.spi.metadata.MethodMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 
@@ -30,10 +31,10 @@ public class SimpleInterceptorInvocation implements InterceptorInvocation {
 
     private Collection<InterceptorMethodInvocation> interceptorMethodInvocations;
 
-    public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, Collection<MethodMetadata> interceptorMethods, boolean targetClass) {
+    public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, Collection<MethodMetadata> interceptorMethods, boolean targetClass, MethodInvokerFactory invokerFactory) {
         interceptorMethodInvocations = new ArrayList<InterceptorMethodInvocation>();
         for (MethodMetadata method : interceptorMethods) {
-            interceptorMethodInvocations.add(new SimpleMethodInvocation(instance, method, targetClass, interceptionType));
+            interceptorMethodInvocations.add(new SimpleMethodInvocation(instance, method, targetClass, interceptionType, invokerFactory.getInvoker(method.getJavaMethod())));
         }
     }
 
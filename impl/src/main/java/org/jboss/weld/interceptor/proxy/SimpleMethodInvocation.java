@@ -2,6 +2,7 @@ package org.jboss.weld.interceptor.proxy;
 
 import javax.interceptor.InvocationContext;
 
+import org.jboss.weld.injection.invoker.MethodInvoker;
 import org.jboss.weld.interceptor.spi.metadata.MethodMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 
@@ -10,6 +11,8 @@ import org.jboss.weld.interceptor.spi.model.InterceptionType;
 */
 public class SimpleMethodInvocation implements InterceptorMethodInvocation {
 
+    private static final Object[] EMPTY_PARAMETERS = new Object[0];
+
     final Object instance;
 
     final MethodMetadata method;
@@ -18,19 +21,22 @@ public class SimpleMethodInvocation implements InterceptorMethodInvocation {
 
     private InterceptionType interceptionType;
 
-    SimpleMethodInvocation(Object instance, MethodMetadata method, boolean targetClass, InterceptionType interceptionType) {
+    private final MethodInvoker invoker;
+
+    SimpleMethodInvocation(Object instance, MethodMetadata method, boolean targetClass, InterceptionType interceptionType, MethodInvoker invoker) {
         this.instance = instance;
         this.method = method;
         this.targetClass = targetClass;
         this.interceptionType = interceptionType;
+        this.invoker = invoker;
     }
 
     public Object invoke(InvocationContext invocationContext) throws Exception {
         if (invocationContext != null) {
-            return method.getJavaMethod().invoke(instance, invocationContext);
+            return invoker.invoke(instance, new Object[] { invocationContext });
         }
         else {
-            return method.getJavaMethod().invoke(instance);
+            return invoker.invoke(instance, EMPTY_PARAMETERS);
         }
     }
 
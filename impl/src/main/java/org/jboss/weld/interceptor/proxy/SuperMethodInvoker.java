@@ -0,0 +1,40 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+/**
+ * Implemented by intercepted subclasses. Allows the intercepted method to be invoked at the end of an interceptor chain
+ * directly, i.e. without reflection.
+ */
+public interface SuperMethodInvoker {
+
+    /**
+     * Returns the signatures of the methods that can be invoked using {@link #weld_$$_invokeSuper(int, Object[])}. A signature
+     * consists of the method name followed by the method descriptor. The position of a signature in the array is the index used
+     * to invoke the method.
+     */
+    String[] weld_$$_getSuperMethodSignatures();
+
+    /**
+     * Invokes the superclass implementation of the method with the given index.
+     *
+     * @param index the index of the method
+     * @param parameters the method parameters
+     * @return the return value of the method, boxed if necessary, or null if the method is void
+     */
+    Object weld_$$_invokeSuper(int index, Object[] parameters) throws Exception;
+}
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.proxy.SimpleInterceptorInvocation;
 import org.jboss.weld.interceptor.spi.metadata.ClassMetadata;
@@ -73,8 +74,8 @@ public abstract class AbstractInterceptorMetadata<T> implements InterceptorMetad
     }
 
     @Override
-    public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
-        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType), isTargetClassInterceptor());
+    public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType, MethodInvokerFactory invokerFactory) {
+        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType), isTargetClassInterceptor(), invokerFactory);
     }
 
     protected abstract boolean isTargetClassInterceptor();
@@ -17,6 +17,7 @@
 
 package org.jboss.weld.interceptor.spi.metadata;
 
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 
@@ -45,5 +46,12 @@ public interface InterceptorMetadata<T> {
      */
     boolean isEligible(InterceptionType interceptionType);
 
-    InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType);
+    /**
+     * Returns the invocation of the interceptor methods of the given interception type on the given interceptor instance.
+     *
+     * @param interceptorInstance the interceptor instance
+     * @param interceptionType the interception type
+     * @param invokerFactory the container-scoped factory of method invokers used to invoke interceptor methods
+     */
+    InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType, MethodInvokerFactory invokerFactory);
 }
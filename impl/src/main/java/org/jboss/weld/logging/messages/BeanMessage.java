@@ -173,5 +173,7 @@ public enum BeanMessage {
     @MessageId("001531")INSTANCE_ITERATOR_REMOVE_UNSUPPORTED,
     @MessageId("001532")PASSIVATION_CAPABLE_BEAN_HAS_NULL_ID,
     @MessageId("001533")INJECTION_TARGET_CREATED_FOR_NON_STATIC_INNER_CLASS,
+    @MessageId("001534")PROXY_CLASS_STORE_READ_FAILED,
+    @MessageId("001535")PROXY_CLASS_STORE_WRITE_FAILED,
 
 }
@@ -67,6 +67,8 @@ public enum BootstrapMessage {
     @MessageId("000132")FOUND_DISABLED_ALTERNATIVE,
     @MessageId("000133")FOUND_SPECIALIZED_BEAN,
     @MessageId("000134")FOUND_PRODUCER_OF_SPECIALIZED_BEAN,
+    @MessageId("000135")BOOTSTRAP_INDEX_READ_FAILED,
+    @MessageId("000136")BOOTSTRAP_INDEX_WRITE_FAILED,
     ;
 
 }
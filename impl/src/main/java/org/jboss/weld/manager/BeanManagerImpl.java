@@ -88,6 +88,7 @@ import javax.enterprise.inject.spi.ProducerFactory;
 import javax.enterprise.util.TypeLiteral;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.annotated.AnnotatedTypeValidator;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedField;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMember;
@@ -116,12 +117,15 @@ import org.jboss.weld.context.PassivatingContextWrapper;
 import org.jboss.weld.context.WeldCreationalContext;
 import org.jboss.weld.ejb.EjbDescriptors;
 import org.jboss.weld.ejb.spi.EjbDescriptor;
+import org.jboss.weld.el.ELNameTable;
 import org.jboss.weld.el.Namespace;
 import org.jboss.weld.el.WeldELResolver;
 import org.jboss.weld.el.WeldExpressionFactory;
+import org.jboss.weld.event.AsyncEventDelivery;
 import org.jboss.weld.event.EventPacket;
 import org.jboss.weld.event.GlobalObserverNotifierService;
 import org.jboss.weld.event.ObserverNotifier;
+import org.jboss.weld.event.ResolvedObservers;
 import org.jboss.weld.exceptions.AmbiguousResolutionException;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.DeploymentException;
@@ -189,6 +193,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     private static final LocLogger log = loggerFactory().getLogger(BOOTSTRAP);
 
     private static final String CREATIONAL_CONTEXT = "creationalContext";
+    private static final String EVENT_ARGUMENT_NAME = "event";
     /*
     * Application scoped services
     * ***************************
@@ -237,6 +242,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     private final transient NameBasedResolver nameBasedResolver;
     private final transient ELResolver weldELResolver;
     private transient Namespace rootNamespace;
+    private transient volatile ELNameTable elNameTable;
 
     /*
      * Lenient instances do not perform event type checking - this is required for firing container lifecycle events.
@@ -667,10 +673,24 @@ public class BeanManagerImpl implements WeldManager, Serializable {
      */
     @Override
     public void fireEvent(Object event, Annotation... qualifiers) {
-        Preconditions.checkArgumentNotNull(event, "event");
-        Resolvable resolvable = globalStrictObserverNotifier.buildEventResolvable(event.getClass(), qualifiers);
-        EventPacket<?> packet = EventPacket.of(event, resolvable, qualifiers);
-        globalStrictObserverNotifier.fireEvent(packet);
+        Preconditions.checkArgumentNotNull(event, EVENT_ARGUMENT_NAME);
+        ResolvedObservers<Object> observers = globalStrictObserverNotifier.resolveObservers(event.getClass(), qualifiers);
+        globalStrictObserverNotifier.fireEvent(EventPacket.of(event, observers.getResolvable(), qualifiers), observers);
+    }
+
+    /**
+     * Fires an event object with given qualifiers asynchronously, i.e. observer methods are notified on threads of the Weld
+     * thread pool.
+     *
+     * @param event The event object to pass along
+     * @param qualifiers The binding types to match
+     * @return a handle which completes once all the observer methods have been notified
+     * @see ObserverNotifier#fireEventAsync(EventPacket, ResolvedObservers)
+     */
+    public <T> AsyncEventDelivery<T> fireEventAsync(T event, Annotation... qualifiers) {
+        Preconditions.checkArgumentNotNull(event, EVENT_ARGUMENT_NAME);
+        ResolvedObservers<T> observers = globalStrictObserverNotifier.resolveObservers(event.getClass(), qualifiers);
+        return globalStrictObserverNotifier.fireEventAsync(EventPacket.of(event, observers.getResolvable(), qualifiers), observers);
     }
 
     /**
@@ -1056,6 +1076,24 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         return rootNamespace;
     }
 
+    /**
+     * Returns the table of bean names accessible from this bean manager. The table is only available once the container is
+     * validated.
+     *
+     * @return the table of bean names or null if the container is not validated yet
+     */
+    public ELNameTable getELNameTable() {
+        ELNameTable table = this.elNameTable;
+        if (table == null) {
+            ContainerState state = Container.instance().getState();
+            if (state == ContainerState.VALIDATED || state == ContainerState.INITIALIZED) {
+                table = ELNameTable.of(this);
+                this.elNameTable = table;
+            }
+        }
+        return table;
+    }
+
     @Override
     public <T> InjectionTarget<T> createInjectionTarget(AnnotatedType<T> type) {
         return getInjectionTargetFactory(type).createInjectionTarget(null);
@@ -1201,6 +1239,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.interceptorResolver.clear();
         this.interceptors.clear();
         this.nameBasedResolver.clear();
+        this.elNameTable = null;
         this.namespaces.clear();
         this.accessibleLenientObserverNotifier.clear();
         this.observers.clear();
@@ -21,8 +21,11 @@ import static org.jboss.weld.util.cache.LoadingCacheUtils.getCastCacheValue;
 import java.lang.annotation.Annotation;
 
 import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resolution.ResolutionCache;
 import org.jboss.weld.resources.ClassTransformer;
 
+import com.google.common.base.Function;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -97,6 +100,17 @@ public class MetaAnnotationStore implements Service {
 
     }
 
+    private class QualifierInstanceFunction implements Function<Annotation, QualifierInstance> {
+
+        public QualifierInstance apply(Annotation from) {
+            return new QualifierInstance(from, MetaAnnotationStore.this);
+        }
+
+    }
+
+    // the number of canonical qualifier instances is only limited as a safeguard against dynamically created annotation literals
+    private static final long QUALIFIER_INSTANCES_MAXIMUM_SIZE = 10000;
+
     // The stereotype models
     private final LoadingCache<Class<Annotation>, StereotypeModel<Annotation>> stereotypes;
     // The scope models
@@ -105,6 +119,8 @@ public class MetaAnnotationStore implements Service {
     private final LoadingCache<Class<Annotation>, QualifierModel<Annotation>> qualifiers;
     // the interceptor bindings
     private final LoadingCache<Class<Annotation>, InterceptorBindingModel<Annotation>> interceptorBindings;
+    // canonical qualifier instances
+    private final ResolutionCache<Annotation, QualifierInstance> qualifierInstances;
 
     public MetaAnnotationStore(ClassTransformer classTransformer) {
         CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
@@ -112,6 +128,7 @@ public class MetaAnnotationStore implements Service {
         this.scopes = cacheBuilder.build(new ScopeFunction(classTransformer));
         this.qualifiers = cacheBuilder.build(new QualifierFunction(classTransformer));
         this.interceptorBindings = cacheBuilder.build(new InterceptorBindingFunction(classTransformer));
+        this.qualifierInstances = new ResolutionCache<Annotation, QualifierInstance>(new QualifierInstanceFunction(), QUALIFIER_INSTANCES_MAXIMUM_SIZE);
     }
 
     /**
@@ -123,6 +140,8 @@ public class MetaAnnotationStore implements Service {
         scopes.invalidate(annotationClass);
         qualifiers.invalidate(annotationClass);
         interceptorBindings.invalidate(annotationClass);
+        // the set of binding members may have changed
+        qualifierInstances.clear();
     }
 
     /**
@@ -164,6 +183,18 @@ public class MetaAnnotationStore implements Service {
         return getCastCacheValue(qualifiers, bindingType);
     }
 
+    /**
+     * Gets the canonical qualifier instance for the given annotation.
+     * <p/>
+     * Adds the qualifier instance if it is not present.
+     *
+     * @param annotation The qualifier or interceptor binding
+     * @return The qualifier instance
+     */
+    public QualifierInstance getQualifierInstance(final Annotation annotation) {
+        return qualifierInstances.get(annotation);
+    }
+
     /**
      * Gets a string representation
      *
@@ -178,6 +209,7 @@ public class MetaAnnotationStore implements Service {
         buffer.append("Registered scope type models: ").append(scopes.size()).append(newLine);
         buffer.append("Registered stereotype models: ").append(stereotypes.size()).append(newLine);
         buffer.append("Registered interceptor binding models: ").append(interceptorBindings.size()).append(newLine);
+        buffer.append("Registered qualifier instances: ").append(qualifierInstances.size()).append(newLine);
         return buffer.toString();
     }
 
@@ -186,6 +218,7 @@ public class MetaAnnotationStore implements Service {
         this.scopes.invalidateAll();
         this.stereotypes.invalidateAll();
         this.interceptorBindings.invalidateAll();
+        this.qualifierInstances.clear();
     }
 
     public <T extends Annotation> InterceptorBindingModel<T> getInterceptorBindingModel(final Class<T> interceptorBinding) {
@@ -16,7 +16,6 @@
  */
 package org.jboss.weld.resolution;
 
-import static org.jboss.weld.util.cache.LoadingCacheUtils.getCastCacheValue;
 import static org.jboss.weld.util.collections.WeldCollections.immutableSet;
 
 import java.io.Serializable;
@@ -45,9 +44,7 @@ import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.reflection.Reflections;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.base.Function;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Primitives;
 
@@ -58,17 +55,17 @@ import com.google.common.primitives.Primitives;
 public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends Collection<T>> extends TypeSafeResolver<Resolvable, T, C> {
 
     private final BeanManagerImpl beanManager;
-    private final LoadingCache<Set<Bean<?>>, Set<Bean<?>>> disambiguatedBeans;
+    private final ResolutionCache<Set<Bean<?>>, Set<Bean<?>>> disambiguatedBeans;
     private final SpecializationAndEnablementRegistry registry;
 
     private final LazyValueHolder<Map<Type, ArrayList<T>>> beansByType;
 
-    public class BeanDisambiguation extends CacheLoader<Set<Bean<?>>, Set<Bean<?>>> {
+    public class BeanDisambiguation implements Function<Set<Bean<?>>, Set<Bean<?>>> {
 
         private BeanDisambiguation() {
         }
 
-        public Set<Bean<?>> load(Set<Bean<?>> from) {
+        public Set<Bean<?>> apply(Set<Bean<?>> from) {
             if (from.size() > 1) {
                 Set<Bean<?>> allBeans = new HashSet<Bean<?>>();
                 // beans that are themselves alternatives or their defining bean is an alternative
@@ -131,7 +128,7 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         super(beans);
         this.beanManager = beanManager;
         this.registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
-        this.disambiguatedBeans = CacheBuilder.newBuilder().build(new BeanDisambiguation());
+        this.disambiguatedBeans = new ResolutionCache<Set<Bean<?>>, Set<Bean<?>>>(new BeanDisambiguation());
         // beansByType stores a map of a type to all beans that are assignable to
         // that type. This means that it most cases we do not need to loop through
         // every bean in the system when performing resolution
@@ -255,14 +252,13 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         */
         //noinspection unchecked
         beans = ImmutableSet.copyOf(beans);
-        //noinspection SuspiciousMethodCalls
-        return getCastCacheValue(disambiguatedBeans, beans);
+        return Reflections.cast(disambiguatedBeans.get(Reflections.<Set<Bean<?>>>cast(beans)));
     }
 
     @Override
     public void clear() {
         super.clear();
-        this.disambiguatedBeans.invalidateAll();
+        this.disambiguatedBeans.clear();
         this.beansByType.clear();
     }
 }
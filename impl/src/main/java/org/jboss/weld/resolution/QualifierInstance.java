@@ -39,8 +39,12 @@ public class QualifierInstance {
     private final Map<AnnotatedMethod<?>, Object> values;
     private final int hashCode;
 
+    /**
+     * Returns the canonical {@link QualifierInstance} for the given annotation. Equal annotations share a single instance,
+     * which makes qualifier comparisons mostly identity checks.
+     */
     public static QualifierInstance of(Annotation annotation, MetaAnnotationStore store) {
-        return new QualifierInstance(annotation, store);
+        return store.getQualifierInstance(annotation);
     }
 
     public static Set<QualifierInstance> qualifiers(final BeanManagerImpl beanManager, Set<Annotation> annotations) {
@@ -52,7 +56,7 @@ public class QualifierInstance {
         }
         final Set<QualifierInstance> ret = new ArraySet<QualifierInstance>();
         for(Annotation a : annotations) {
-            ret.add(new QualifierInstance(a, metaAnnotationStore));
+            ret.add(metaAnnotationStore.getQualifierInstance(a));
         }
         return immutableSet(ret);
     }
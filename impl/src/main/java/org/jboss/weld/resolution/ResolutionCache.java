@@ -0,0 +1,153 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Function;
+
+/**
+ * Read-mostly cache of resolution results. Lookups do not lock and do not allocate. A missing value is computed by the calling
+ * thread without holding any lock, i.e. concurrent misses for the same key may compute the value more than once and the first
+ * stored value wins. Exceptions thrown while computing a value are propagated to the caller and nothing is stored.
+ * <p>
+ * The cache is bounded. Once the maximum size is exceeded, entries are evicted one by one using the second chance (CLOCK)
+ * algorithm, which approximates LRU: an entry which has been read since it was last considered for eviction is given another
+ * chance and the next one is tried instead. A lookup only writes to the entry the first time it is read after having been
+ * given a chance, so that hits on frequently used entries do not cause write contention.
+ * <p>
+ * Hits and misses are counted using striped counters so that concurrent lookups rarely write to the same cache line.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ResolutionCache<K, V> {
+
+    private final ConcurrentMap<K, Entry<V>> values;
+    // keys in the order they are considered for eviction
+    private final Queue<K> evictionQueue;
+    private final Function<K, V> function;
+    private final long maximumSize;
+    private final StripedCounter hits;
+    private final StripedCounter misses;
+
+    public ResolutionCache(Function<K, V> function, long maximumSize) {
+        this.values = new ConcurrentHashMap<K, Entry<V>>();
+        this.evictionQueue = new ConcurrentLinkedQueue<K>();
+        this.function = function;
+        this.maximumSize = maximumSize;
+        this.hits = new StripedCounter();
+        this.misses = new StripedCounter();
+    }
+
+    public ResolutionCache(Function<K, V> function) {
+        this(function, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the cached value for the given key, computing it if necessary.
+     */
+    public V get(K key) {
+        Entry<V> entry = values.get(key);
+        if (entry != null) {
+            hits.increment();
+            return entry.get();
+        }
+        misses.increment();
+        Entry<V> newEntry = new Entry<V>(function.apply(key));
+        Entry<V> previous = values.putIfAbsent(key, newEntry);
+        if (previous != null) {
+            return previous.get();
+        }
+        evictionQueue.offer(key);
+        if (values.size() > maximumSize) {
+            evict();
+        }
+        return newEntry.value;
+    }
+
+    private void evict() {
+        // every entry is given at most one more chance so the loop terminates even if all the entries are referenced
+        for (long attempts = 2L * values.size(); attempts > 0 && values.size() > maximumSize; attempts--) {
+            K key = evictionQueue.poll();
+            if (key == null) {
+                return;
+            }
+            Entry<V> entry = values.get(key);
+            if (entry == null) {
+                // already removed by clear()
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                evictionQueue.offer(key);
+            } else {
+                values.remove(key, entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached value for the given key or null if no value is cached.
+     */
+    public V getIfPresent(Object key) {
+        Entry<V> entry = values.get(key);
+        return entry == null ? null : entry.get();
+    }
+
+    public void clear() {
+        values.clear();
+        evictionQueue.clear();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ResolutionCache [size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private volatile boolean referenced;
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        private V get() {
+            if (!referenced) {
+                referenced = true;
+            }
+            return value;
+        }
+    }
+}
@@ -92,13 +92,13 @@ public class ResolvableBuilder {
         addQualifiers(injectionPoint.getQualifiers());
         if (mappedQualifiers.containsKey(Named.class) && injectionPoint.getMember() instanceof Field) {
             Named named = (Named) mappedQualifiers.get(Named.class);
-            QualifierInstance qualifierInstance = new QualifierInstance(named, store);
+            QualifierInstance qualifierInstance = QualifierInstance.of(named, store);
             if (named.value().equals("")) {
                 qualifiers.remove(named);
                 qualifierInstances.remove(qualifierInstance);
                 // This is field injection point with an @Named qualifier, with no value specified, we need to assume the name of the field is the value
                 named = new NamedLiteral(injectionPoint.getMember().getName());
-                qualifierInstance = new QualifierInstance(named, store);
+                qualifierInstance = QualifierInstance.of(named, store);
                 qualifiers.add(named);
                 qualifierInstances.add(qualifierInstance);
                 mappedQualifiers.put(Named.class, named);
@@ -133,7 +133,7 @@ public class ResolvableBuilder {
 
     public Resolvable create() {
         if (qualifiers.size() == 0) {
-            this.qualifierInstances.add(new QualifierInstance(DefaultLiteral.INSTANCE, store));
+            this.qualifierInstances.add(QualifierInstance.of(DefaultLiteral.INSTANCE, store));
         }
         for (Type type : types) {
             Class<?> rawType = Reflections.getRawType(type);
@@ -164,7 +164,7 @@ public class ResolvableBuilder {
 
     public ResolvableBuilder addQualifier(Annotation qualifier) {
         // Handle the @New qualifier special case
-        QualifierInstance qualifierInstance = new QualifierInstance(qualifier, store);
+        QualifierInstance qualifierInstance = QualifierInstance.of(qualifier, store);
         final Class<? extends Annotation> annotationType = qualifierInstance.getAnnotationClass();
         if (annotationType.equals(New.class)) {
             New newQualifier = New.class.cast(qualifier);
@@ -172,7 +172,7 @@ public class ResolvableBuilder {
                 throw new IllegalStateException("Cannot transform @New when there is no known raw type");
             } else if (newQualifier.value().equals(New.class)) {
                 qualifier = new NewLiteral(rawType);
-                qualifierInstance = new QualifierInstance(qualifier, store);
+                qualifierInstance = QualifierInstance.of(qualifier, store);
             }
         }
 
@@ -221,6 +221,8 @@ public class ResolvableBuilder {
         private final Class<?> rawType;
         private final Bean<?> declaringBean;
         private final boolean delegate;
+        // the type closure and the qualifiers are not modified once the resolvable is created
+        private final int hashCode;
 
         protected ResolvableImpl(Class<?> rawType, Set<Type> typeClosure, Map<Class<? extends Annotation>, Annotation> mappedQualifiers, Bean<?> declaringBean, final Set<QualifierInstance> qualifierInstances, boolean delegate) {
             this.mappedQualifiers = mappedQualifiers;
@@ -229,6 +231,7 @@ public class ResolvableBuilder {
             this.declaringBean = declaringBean;
             this.qualifierInstances = qualifierInstances;
             this.delegate = delegate;
+            this.hashCode = typeClosure.hashCode() ^ qualifierInstances.hashCode();
         }
 
         public Set<QualifierInstance> getQualifiers() {
@@ -271,16 +274,16 @@ public class ResolvableBuilder {
         }
 
         public int hashCode() {
-            int result = 17;
-            result = 31 * result + this.getTypes().hashCode();
-            result = 31 * result + this.qualifierInstances.hashCode();
-            return result;
+            return hashCode;
         }
 
         public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
             if (o instanceof ResolvableImpl) {
                 ResolvableImpl r = (ResolvableImpl) o;
-                return this.getTypes().equals(r.getTypes()) && this.qualifierInstances.equals(r.qualifierInstances);
+                return this.hashCode == r.hashCode && this.getTypes().equals(r.getTypes()) && this.qualifierInstances.equals(r.qualifierInstances);
             }
             return false;
         }
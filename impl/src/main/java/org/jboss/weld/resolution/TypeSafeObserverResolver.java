@@ -16,7 +16,15 @@
  */
 package org.jboss.weld.resolution;
 
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.enterprise.inject.spi.ObserverMethod;
@@ -26,9 +34,20 @@ import org.jboss.weld.event.ExtensionObserverMethodImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.Observers;
+import org.jboss.weld.util.Types;
 import org.jboss.weld.util.reflection.Reflections;
 
+import com.google.common.collect.Iterables;
+
 /**
+ * Resolves observer methods for an event.
+ * <p>
+ * In order not to match every event against every observer method, observer methods are indexed by the raw type of the
+ * observed type and by the type of one of their qualifiers. Only observer methods whose observed type is not a class, a
+ * parameterized type or an array type (e.g. a type variable) are matched against every event. During bootstrap, the index
+ * is rebuilt whenever the number of observer methods changes. Once the resolver is frozen (see {@link #freeze()}), the index
+ * is only rebuilt after the resolver is cleared and the observer methods are no longer counted.
+ *
  * @author pmuir
  * @author Jozef Hartinger
  */
@@ -36,6 +55,8 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
 
     private final MetaAnnotationStore metaAnnotationStore;
     private final AssignabilityRules rules;
+    private volatile ObserverMethodIndex index;
+    private volatile boolean frozen;
 
     public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers) {
         super(observers);
@@ -43,12 +64,50 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         this.rules = EventTypeAssignabilityRules.instance();
     }
 
+    @Override
+    protected Iterable<? extends ObserverMethod<?>> getAllBeans(Resolvable resolvable) {
+        return getIndex().getCandidates(resolvable);
+    }
+
+    private ObserverMethodIndex getIndex() {
+        ObserverMethodIndex currentIndex = index;
+        if (frozen && currentIndex != null) {
+            return currentIndex;
+        }
+        // observer methods may be added until the deployment is validated
+        int observerCount = Iterables.size(getAllBeans());
+        if (currentIndex == null || currentIndex.observerCount != observerCount) {
+            synchronized (this) {
+                currentIndex = index;
+                if (currentIndex == null || currentIndex.observerCount != observerCount) {
+                    currentIndex = new ObserverMethodIndex(getAllBeans(), metaAnnotationStore);
+                    index = currentIndex;
+                }
+            }
+        }
+        return currentIndex;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.index = null;
+    }
+
+    /**
+     * Indicates that no observer method will be added anymore, i.e. the deployment has been validated. The index is then no
+     * longer checked for added observer methods on every resolution.
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
     @Override
     protected boolean matches(Resolvable resolvable, ObserverMethod<?> observer) {
         if (!rules.matches(observer.getObservedType(), resolvable.getTypes())) {
             return false;
         }
-        if (!Beans.containsAllQualifiers(QualifierInstance.qualifiers(metaAnnotationStore, observer.getObservedQualifiers()), resolvable.getQualifiers())) {
+        if (!Beans.containsAllQualifiers(getQualifiers(observer), resolvable.getQualifiers())) {
             return false;
         }
         if (observer instanceof ExtensionObserverMethodImpl<?, ?>) {
@@ -83,7 +142,110 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         return matched;
     }
 
+    private Set<QualifierInstance> getQualifiers(ObserverMethod<?> observer) {
+        ObserverMethodIndex currentIndex = index;
+        if (currentIndex != null) {
+            Set<QualifierInstance> qualifiers = currentIndex.qualifiers.get(observer);
+            if (qualifiers != null) {
+                return qualifiers;
+            }
+        }
+        return QualifierInstance.qualifiers(metaAnnotationStore, observer.getObservedQualifiers());
+    }
+
     public MetaAnnotationStore getMetaAnnotationStore() {
         return metaAnnotationStore;
     }
+
+    /**
+     * Returns the boxed raw type of the given type or null if the type is neither a class, nor a parameterized type, nor an
+     * array type.
+     */
+    private static Class<?> getIndexedType(Type type) {
+        if (type instanceof Class<?> || type instanceof ParameterizedType || type instanceof GenericArrayType) {
+            Class<?> rawType = Reflections.getRawType(type);
+            if (rawType != null) {
+                return Types.boxedClass(rawType);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Immutable index of observer methods.
+     */
+    private static class ObserverMethodIndex {
+
+        private final int observerCount;
+        private final List<ObserverMethod<?>> allObservers;
+        // observer methods matched against every event
+        private final List<ObserverMethod<?>> unindexedObservers;
+        // observer methods without qualifiers (other than @Any) by their observed type
+        private final Map<Class<?>, List<ObserverMethod<?>>> observersByType;
+        // observer methods with qualifiers by their observed type and the type of their first qualifier
+        private final Map<Class<?>, Map<Class<?>, List<ObserverMethod<?>>>> qualifiedObserversByType;
+        private final Map<ObserverMethod<?>, Set<QualifierInstance>> qualifiers;
+
+        private ObserverMethodIndex(Iterable<? extends ObserverMethod<?>> observers, MetaAnnotationStore store) {
+            this.allObservers = new ArrayList<ObserverMethod<?>>();
+            this.unindexedObservers = new ArrayList<ObserverMethod<?>>();
+            this.observersByType = new HashMap<Class<?>, List<ObserverMethod<?>>>();
+            this.qualifiedObserversByType = new HashMap<Class<?>, Map<Class<?>, List<ObserverMethod<?>>>>();
+            this.qualifiers = new IdentityHashMap<ObserverMethod<?>, Set<QualifierInstance>>();
+            for (ObserverMethod<?> observer : observers) {
+                allObservers.add(observer);
+                Set<QualifierInstance> observerQualifiers = QualifierInstance.qualifiers(store, observer.getObservedQualifiers());
+                qualifiers.put(observer, observerQualifiers);
+                Class<?> type = getIndexedType(observer.getObservedType());
+                if (type == null) {
+                    unindexedObservers.add(observer);
+                } else if (observerQualifiers.isEmpty()) {
+                    add(observersByType, type, observer);
+                } else {
+                    Map<Class<?>, List<ObserverMethod<?>>> observersByQualifier = qualifiedObserversByType.get(type);
+                    if (observersByQualifier == null) {
+                        observersByQualifier = new HashMap<Class<?>, List<ObserverMethod<?>>>();
+                        qualifiedObserversByType.put(type, observersByQualifier);
+                    }
+                    // an observer method only matches events that have all its qualifiers, indexing by any of them is enough
+                    add(observersByQualifier, observerQualifiers.iterator().next().getAnnotationClass(), observer);
+                }
+            }
+            this.observerCount = allObservers.size();
+        }
+
+        private static void add(Map<Class<?>, List<ObserverMethod<?>>> map, Class<?> key, ObserverMethod<?> observer) {
+            List<ObserverMethod<?>> list = map.get(key);
+            if (list == null) {
+                list = new ArrayList<ObserverMethod<?>>();
+                map.put(key, list);
+            }
+            list.add(observer);
+        }
+
+        private Iterable<? extends ObserverMethod<?>> getCandidates(Resolvable resolvable) {
+            Set<ObserverMethod<?>> candidates = new LinkedHashSet<ObserverMethod<?>>(unindexedObservers);
+            for (Type eventType : resolvable.getTypes()) {
+                Class<?> type = getIndexedType(eventType);
+                if (type == null) {
+                    // e.g. a type variable, the event may match any observer method
+                    return allObservers;
+                }
+                addAll(candidates, observersByType.get(type));
+                Map<Class<?>, List<ObserverMethod<?>>> observersByQualifier = qualifiedObserversByType.get(type);
+                if (observersByQualifier != null) {
+                    for (QualifierInstance qualifier : resolvable.getQualifiers()) {
+                        addAll(candidates, observersByQualifier.get(qualifier.getAnnotationClass()));
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        private static void addAll(Set<ObserverMethod<?>> candidates, List<ObserverMethod<?>> observers) {
+            if (observers != null) {
+                candidates.addAll(observers);
+            }
+        }
+    }
 }
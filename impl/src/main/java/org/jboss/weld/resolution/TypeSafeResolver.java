@@ -16,7 +16,6 @@
  */
 package org.jboss.weld.resolution;
 
-import static org.jboss.weld.util.cache.LoadingCacheUtils.getCacheValue;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.util.Collection;
@@ -26,9 +25,7 @@ import java.util.Set;
 
 import org.jboss.weld.util.collections.WeldCollections;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.base.Function;
 
 /**
  * Implementation of type safe bean resolution
@@ -39,7 +36,7 @@ import com.google.common.cache.LoadingCache;
  */
 public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collection<T>> {
 
-    private static class ResolvableToBeanCollection<R extends Resolvable, T, C extends Collection<T>> extends CacheLoader<R, C> {
+    private static class ResolvableToBeanCollection<R extends Resolvable, T, C extends Collection<T>> implements Function<R, C> {
 
         private final TypeSafeResolver<R, T, C> resolver;
 
@@ -47,7 +44,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
             this.resolver = resolver;
         }
 
-        public C load(R from) {
+        public C apply(R from) {
             return resolver.makeResultImmutable(resolver.sortResult(resolver.filterResult(resolver.findMatching(from))));
         }
 
@@ -64,7 +61,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     }
 
     // The resolved injection points
-    private final LoadingCache<R, C> resolved;
+    private final ResolutionCache<R, C> resolved;
     // The beans to search
     private final Iterable<? extends T> allBeans;
     private final ResolvableToBeanCollection<R, T, C> resolverFunction;
@@ -75,7 +72,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
      */
     public TypeSafeResolver(Iterable<? extends T> allBeans) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C>(this);
-        this.resolved = CacheBuilder.newBuilder().maximumSize(RESOLVED_CACHE_UPPER_BOUND).build(resolverFunction);
+        this.resolved = new ResolutionCache<R, C>(resolverFunction, RESOLVED_CACHE_UPPER_BOUND);
         this.allBeans = allBeans;
     }
 
@@ -83,7 +80,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
      * Reset all cached resolutions
      */
     public void clear() {
-        this.resolved.invalidateAll();
+        this.resolved.clear();
     }
 
     /**
@@ -95,9 +92,9 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     public C resolve(R resolvable, boolean cache) {
         R wrappedResolvable = wrap(resolvable);
         if (cache) {
-            return getCacheValue(resolved, wrappedResolvable);
+            return resolved.get(wrappedResolvable);
         } else {
-            return resolverFunction.load(wrappedResolvable);
+            return resolverFunction.apply(wrappedResolvable);
         }
     }
 
@@ -152,6 +149,15 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return resolved.getIfPresent(wrap(resolvable)) != null;
     }
 
+    /**
+     * Returns the resolution cache, e.g. to inspect its statistics.
+     *
+     * @return the resolution cache
+     */
+    public ResolutionCache<R, C> getResolutionCache() {
+        return resolved;
+    }
+
     /**
      * Gets a string representation
      *
@@ -161,7 +167,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     public String toString() {
         StringBuilder buffer = new StringBuilder();
         buffer.append("Resolver\n");
-        buffer.append("Resolved injection points: " + resolved.size() + "\n");
+        buffer.append("Resolved injection points: " + resolved.size() + ", cache hits: " + resolved.getHitCount() + ", misses: " + resolved.getMissCount() + "\n");
         return buffer.toString();
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.serialization;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.inject.spi.PassivationCapable;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * A dictionary of identifiers of passivation capable contextuals of a deployment. Each identifier is assigned a compact integer
+ * code which is used instead of the identifier when a contextual instance is serialized (e.g. for session replication).
+ * <p>
+ * The codes are assigned in the natural order of the identifiers so that two nodes running the same deployment build the same
+ * dictionary. The dictionary is accompanied by a checksum which is written together with every code. A deserializing node
+ * only accepts a code if the checksum matches its own dictionary.
+ * <p>
+ * The index is only registered if enabled (see {@link BeanIdentifierIndexFactory}) and is built at the end of bootstrap. Until
+ * then, {@link #isBuilt()} returns false and contextual instances are serialized with full identifiers.
+ */
+public class BeanIdentifierIndex implements Service {
+
+    public static final int NO_INDEX = -1;
+
+    private static final String UNABLE_TO_RESTORE = "Unable to restore contextual with index ";
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+    // separates the identifiers so that e.g. ("ab", "c") and ("a", "bc") produce different checksums
+    private static final int SEPARATOR = '\n';
+
+    private volatile List<String> identifiers;
+    private volatile Map<String, Integer> index;
+    private volatile int checksum;
+
+    /**
+     * Builds the index from the given contextuals. Contextuals which are not {@link PassivationCapable} are ignored.
+     *
+     * @param contextuals the contextuals of the deployment
+     */
+    public void build(Collection<? extends Contextual<?>> contextuals) {
+        TreeSet<String> sorted = new TreeSet<String>();
+        for (Contextual<?> contextual : contextuals) {
+            if (contextual instanceof PassivationCapable) {
+                String id = ((PassivationCapable) contextual).getId();
+                if (id != null) {
+                    sorted.add(id);
+                }
+            }
+        }
+        List<String> identifiers = new ArrayList<String>(sorted);
+        Map<String, Integer> index = new HashMap<String, Integer>();
+        for (int i = 0; i < identifiers.size(); i++) {
+            index.put(identifiers.get(i), i);
+        }
+        this.checksum = computeChecksum(identifiers);
+        this.index = index;
+        // publishes the dictionary
+        this.identifiers = Collections.unmodifiableList(identifiers);
+    }
+
+    /**
+     * Computes a CRC32 checksum of the ordered identifiers. {@link List#hashCode()} is not used as different lists of
+     * strings easily produce the same hash code.
+     */
+    private static int computeChecksum(List<String> identifiers) {
+        CRC32 crc = new CRC32();
+        for (String identifier : identifiers) {
+            crc.update(identifier.getBytes(CHARSET));
+            crc.update(SEPARATOR);
+        }
+        return (int) crc.getValue();
+    }
+
+    public boolean isBuilt() {
+        return identifiers != null;
+    }
+
+    /**
+     * @param identifier the identifier of a passivation capable contextual
+     * @return the code of the given identifier or {@link #NO_INDEX} if the identifier is not indexed
+     */
+    public int getIndex(String identifier) {
+        if (identifiers == null) {
+            return NO_INDEX;
+        }
+        Integer value = index.get(identifier);
+        return value == null ? NO_INDEX : value;
+    }
+
+    /**
+     * @param index the code of an identifier
+     * @param checksum the checksum of the dictionary the code was taken from
+     * @return the identifier
+     * @throws IllegalStateException if the code was produced by a different dictionary
+     */
+    public String getIdentifier(int index, int checksum) {
+        List<String> identifiers = this.identifiers;
+        if (identifiers == null) {
+            throw new IllegalStateException(UNABLE_TO_RESTORE + index + " - the bean identifier index is not built yet");
+        }
+        if (checksum != this.checksum) {
+            throw new IllegalStateException(UNABLE_TO_RESTORE + index + " - the serialized state was produced by a different deployment (checksum "
+                    + checksum + ", expected " + this.checksum + ")");
+        }
+        if (index < 0 || index >= identifiers.size()) {
+            throw new IllegalStateException(UNABLE_TO_RESTORE + index + " - index out of range");
+        }
+        return identifiers.get(index);
+    }
+
+    public int getChecksum() {
+        return checksum;
+    }
+
+    public int size() {
+        List<String> identifiers = this.identifiers;
+        return identifiers == null ? 0 : identifiers.size();
+    }
+
+    public void cleanup() {
+        this.identifiers = null;
+        this.index = null;
+    }
+
+    @Override
+    public String toString() {
+        return "BeanIdentifierIndex [checksum=" + checksum + ", size=" + size() + "]";
+    }
+}
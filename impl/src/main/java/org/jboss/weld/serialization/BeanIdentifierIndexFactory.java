@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Properties;
+
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoadingException;
+
+/**
+ * Creates a {@link BeanIdentifierIndex} based on the <code>org.jboss.weld.serialization.properties</code> configuration file.
+ * The following properties are recognized:
+ * <ul>
+ * <li><code>beanIdentifierIndex</code> - if set to <code>true</code>, contextual instances are serialized using the compact
+ * bean identifier codes. All the nodes of a cluster must then run the same deployment.</li>
+ * </ul>
+ */
+public class BeanIdentifierIndexFactory {
+
+    private static final String CONFIGURATION_FILE = "org.jboss.weld.serialization.properties";
+    private static final String ENABLED = "beanIdentifierIndex";
+
+    private BeanIdentifierIndexFactory() {
+    }
+
+    /**
+     *
+     * @param loader the resource loader used to find the configuration file
+     * @return the index or null if the index is not enabled
+     */
+    public static BeanIdentifierIndex create(ResourceLoader loader) {
+        URL configuration = loader.getResource(CONFIGURATION_FILE);
+        if (configuration == null) {
+            return null;
+        }
+        Properties properties = loadProperties(configuration);
+        if (Boolean.parseBoolean(properties.getProperty(ENABLED, "false").trim())) {
+            return new BeanIdentifierIndex();
+        }
+        return null;
+    }
+
+    private static Properties loadProperties(URL url) {
+        Properties properties = new Properties();
+        try {
+            InputStream in = url.openStream();
+            try {
+                properties.load(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new ResourceLoadingException(e);
+        }
+        return properties;
+    }
+}
@@ -18,6 +18,7 @@ package org.jboss.weld.serialization;
 
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
+import java.lang.annotation.Annotation;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +27,7 @@ import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.PassivationCapable;
 
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.context.SerializableContextualFactory;
 import org.jboss.weld.context.SerializableContextualInstanceImpl;
 import org.jboss.weld.serialization.spi.ContextualStore;
@@ -40,6 +42,11 @@ import org.jboss.weld.util.reflection.Reflections;
  */
 public class ContextualStoreImpl implements ContextualStore {
 
+    /**
+     * Returned by {@link #getIndex(Contextual)} for contextuals which are not assigned a dense index.
+     */
+    public static final int NO_INDEX = -1;
+
     private static final String GENERATED_ID_PREFIX = ContextualStoreImpl.class.getName();
 
     // The map containing container-local contextuals
@@ -51,9 +58,12 @@ public class ContextualStoreImpl implements ContextualStore {
     private final ConcurrentMap<String, Contextual<?>> passivationCapableContextuals;
 
     private final AtomicInteger idGenerator;
+    // contextuals are indexed per scope so that the index space of each context is dense
+    private final ConcurrentMap<Class<? extends Annotation>, AtomicInteger> indexGenerators;
 
     public ContextualStoreImpl() {
         this.idGenerator = new AtomicInteger(0);
+        this.indexGenerators = new ConcurrentHashMap<Class<? extends Annotation>, AtomicInteger>();
         this.contextuals = new ConcurrentHashMap<Contextual<?>, String>();
         this.contextualsInverse = new ConcurrentHashMap<String, Contextual<?>>();
         this.passivationCapableContextuals = new ConcurrentHashMap<String, Contextual<?>>();
@@ -90,6 +100,9 @@ public class ContextualStoreImpl implements ContextualStore {
             PassivationCapable passivationCapable = (PassivationCapable) contextual;
             String id = passivationCapable.getId();
             passivationCapableContextuals.putIfAbsent(id, contextual);
+            if (contextual instanceof RIBean<?>) {
+                getIndex(contextual);
+            }
             return id;
         } else {
             String id = contextuals.get(contextual);
@@ -109,6 +122,60 @@ public class ContextualStoreImpl implements ContextualStore {
         }
     }
 
+    /**
+     * Returns a dense index for the given contextual, assigning a new one if the contextual has not been indexed yet. Beans
+     * implemented by Weld ({@link RIBean} subclasses, i.e. managed, session, producer and built-in beans) are indexed when they
+     * are added to a bean manager. Other contextuals are not indexed and {@link #NO_INDEX} is returned for them. Indexes are
+     * assigned per scope, i.e. the index is unique and dense among contextuals of the same scope only.
+     *
+     * @param contextual the contextual
+     * @return the index of the contextual or {@link #NO_INDEX}
+     */
+    public int getIndex(Contextual<?> contextual) {
+        if (contextual instanceof RIBean<?>) {
+            RIBean<?> bean = (RIBean<?>) contextual;
+            int index = bean.getContextualIndex();
+            if (index == NO_INDEX) {
+                synchronized (bean) {
+                    index = bean.getContextualIndex();
+                    if (index == NO_INDEX) {
+                        index = getIndexGenerator(bean.getScope()).getAndIncrement();
+                        bean.setContextualIndex(index);
+                    }
+                }
+            }
+            return index;
+        }
+        return NO_INDEX;
+    }
+
+    /**
+     * Returns the index of the contextual with the given id or {@link #NO_INDEX} if there is no such contextual or the contextual
+     * is not indexed.
+     *
+     * @param id the id of the contextual
+     * @return the index of the contextual or {@link #NO_INDEX}
+     */
+    public int getIndex(String id) {
+        Contextual<?> contextual = passivationCapableContextuals.get(id);
+        if (contextual instanceof RIBean<?>) {
+            return ((RIBean<?>) contextual).getContextualIndex();
+        }
+        return NO_INDEX;
+    }
+
+    private AtomicInteger getIndexGenerator(Class<? extends Annotation> scope) {
+        AtomicInteger generator = indexGenerators.get(scope);
+        if (generator == null) {
+            generator = new AtomicInteger(0);
+            AtomicInteger previous = indexGenerators.putIfAbsent(scope, generator);
+            if (previous != null) {
+                generator = previous;
+            }
+        }
+        return generator;
+    }
+
     public <C extends Contextual<I>, I> SerializableContextual<C, I> getSerializableContextual(Contextual<I> contextual) {
         if (contextual instanceof SerializableContextual<?, ?>) {
             return cast(contextual);
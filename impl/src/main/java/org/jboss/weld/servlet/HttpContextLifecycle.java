@@ -25,9 +25,11 @@ import javax.servlet.ServletRequestListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 
+import org.jboss.weld.Container;
 import org.jboss.weld.bean.builtin.ee.ServletContextBean;
 import org.jboss.weld.bootstrap.api.Service;
 import org.jboss.weld.context.cache.RequestScopedBeanCache;
+import org.jboss.weld.context.conversation.ConversationTimerWheel;
 import org.jboss.weld.context.http.HttpRequestContext;
 import org.jboss.weld.context.http.HttpRequestContextImpl;
 import org.jboss.weld.context.http.HttpSessionContext;
@@ -202,6 +204,26 @@ public class HttpContextLifecycle implements Service {
         this.conversationActivationEnabled = conversationActivationEnabled;
     }
 
+    /**
+     * @return the number of long-running conversations currently tracked for expiration
+     */
+    public int getLiveConversationCount() {
+        ConversationTimerWheel timerWheel = getConversationTimerWheel();
+        return timerWheel == null ? 0 : timerWheel.getLiveConversationCount();
+    }
+
+    /**
+     * @return the number of conversations that have expired since the application was started
+     */
+    public long getExpiredConversationCount() {
+        ConversationTimerWheel timerWheel = getConversationTimerWheel();
+        return timerWheel == null ? 0 : timerWheel.getExpiredConversationCount();
+    }
+
+    private ConversationTimerWheel getConversationTimerWheel() {
+        return Container.instance().services().get(ConversationTimerWheel.class);
+    }
+
     /**
      * Some Servlet containers fire HttpServletListeners for include requests (inner requests caused by calling the include method of RequestDispatcher). This
      * causes problems with context shut down as context manipulation is not reentrant. This method detects if this request is an included request or not.
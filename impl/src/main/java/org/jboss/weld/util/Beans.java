@@ -202,6 +202,10 @@ public class Beans {
      * @return True if all matches, false otherwise
      */
     public static boolean containsAllQualifiers(Set<QualifierInstance> requiredQualifiers, Set<QualifierInstance> qualifiers) {
+        if (requiredQualifiers.isEmpty()) {
+            return true;
+        }
+        // qualifier instances are canonical, i.e. this is mostly a matter of identity checks
         return qualifiers.containsAll(requiredQualifiers);
     }
 
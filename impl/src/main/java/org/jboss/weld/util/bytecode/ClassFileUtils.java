@@ -82,16 +82,25 @@ public class ClassFileUtils {
      *               default domain created by <code>java.lang.ClassLoader</code> is
      */
     public static Class<?> toClass(ClassFile ct, ClassLoader loader, ProtectionDomain domain) {
+        return toClass(ct.getName(), ct.toBytecode(), loader, domain);
+    }
+
+    /**
+     * Defines a class from bytecode which has already been generated, e.g. bytecode read from a persistent proxy class
+     * store.
+     *
+     * @see #toClass(ClassFile, ClassLoader, ProtectionDomain)
+     */
+    public static Class<?> toClass(String name, byte[] b, ClassLoader loader, ProtectionDomain domain) {
         try {
-            byte[] b = ct.toBytecode();
             java.lang.reflect.Method method;
             Object[] args;
             if (domain == null) {
                 method = defineClass1;
-                args = new Object[]{ct.getName(), b, 0, Integer.valueOf(b.length)};
+                args = new Object[]{name, b, 0, Integer.valueOf(b.length)};
             } else {
                 method = defineClass2;
-                args = new Object[]{ct.getName(), b, 0, Integer.valueOf(b.length), domain};
+                args = new Object[]{name, b, 0, Integer.valueOf(b.length), domain};
             }
 
             return toClass2(method, loader, args);
@@ -0,0 +1,134 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.weld.bootstrap.index.BootstrapIndex;
+import org.jboss.weld.resources.DefaultResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.junit.Test;
+
+public class BootstrapIndexTest {
+
+    private static final String ARCHIVE = "archive";
+
+    @Test
+    public void testChecksum() throws IOException {
+        BootstrapIndex index = new BootstrapIndex(createTempFile());
+        String checksum = index.computeChecksum(Arrays.asList(String.class.getName(), Integer.class.getName()), DefaultResourceLoader.INSTANCE);
+        // the order of classes does not matter
+        assertEquals(checksum, index.computeChecksum(Arrays.asList(Integer.class.getName(), String.class.getName()), DefaultResourceLoader.INSTANCE));
+        assertFalse(checksum.equals(index.computeChecksum(Arrays.asList(String.class.getName(), Long.class.getName()), DefaultResourceLoader.INSTANCE)));
+    }
+
+    @Test
+    public void testChecksumReflectsClassFileChanges() throws IOException {
+        File directory = createTempFile();
+        File classFile = new File(directory, "com/acme/Foo.class");
+        assertTrue(classFile.getParentFile().mkdirs());
+        write(classFile, new byte[] { 1 });
+        ResourceLoader loader = new URLClassLoaderResourceLoader(directory);
+        BootstrapIndex index = new BootstrapIndex(createTempFile());
+        String checksum = index.computeChecksum(Collections.singleton("com.acme.Foo"), loader);
+        assertEquals(checksum, index.computeChecksum(Collections.singleton("com.acme.Foo"), loader));
+        write(classFile, new byte[] { 1, 2 });
+        assertFalse(checksum.equals(index.computeChecksum(Collections.singleton("com.acme.Foo"), loader)));
+    }
+
+    @Test
+    public void testIndexStoredAndLoaded() throws IOException {
+        File file = createTempFile();
+        Set<String> skippedClasses = new HashSet<String>(Arrays.asList("com.acme.Foo", "com.acme.Bar"));
+        BootstrapIndex index = new BootstrapIndex(file);
+        assertTrue(index.getSkippedClasses(ARCHIVE, "1").isEmpty());
+        index.putSkippedClasses(ARCHIVE, "1", skippedClasses);
+        index.store();
+
+        BootstrapIndex loaded = new BootstrapIndex(file);
+        assertEquals(skippedClasses, loaded.getSkippedClasses(ARCHIVE, "1"));
+        // the archive has changed
+        assertTrue(loaded.getSkippedClasses(ARCHIVE, "2").isEmpty());
+        assertTrue(loaded.getSkippedClasses("unknown", "1").isEmpty());
+    }
+
+    @Test
+    public void testCorruptedIndexIgnored() throws IOException {
+        File file = createTempFile();
+        write(file, new byte[] { 0, 0, 0, 1, 0, 0, 0, 1, 1 });
+        BootstrapIndex index = new BootstrapIndex(file);
+        assertTrue(index.getSkippedClasses(ARCHIVE, "1").isEmpty());
+        // the index is rebuilt
+        index.putSkippedClasses(ARCHIVE, "1", Collections.singleton("com.acme.Foo"));
+        index.store();
+        assertEquals(Collections.singleton("com.acme.Foo"), new BootstrapIndex(file).getSkippedClasses(ARCHIVE, "1"));
+    }
+
+    private static void write(File file, byte[] content) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static File createTempFile() throws IOException {
+        File file = File.createTempFile("weld-bootstrap-index", "");
+        assertTrue(file.delete());
+        file.deleteOnExit();
+        return file;
+    }
+
+    private static class URLClassLoaderResourceLoader implements ResourceLoader {
+
+        private final URLClassLoader classLoader;
+
+        private URLClassLoaderResourceLoader(File directory) throws IOException {
+            this.classLoader = new URLClassLoader(new URL[] { directory.toURI().toURL() }, null);
+        }
+
+        public Class<?> classForName(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        public URL getResource(String name) {
+            return classLoader.findResource(name);
+        }
+
+        public Collection<URL> getResources(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void cleanup() {
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Vetoed;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Qualifier;
+
+import org.jboss.weld.bootstrap.events.ClassFileAnnotationDiscovery;
+import org.jboss.weld.bootstrap.events.SimpleAnnotationDiscovery;
+import org.jboss.weld.bootstrap.index.ClassFileIndex;
+import org.jboss.weld.bootstrap.index.ClassFileInfo;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.resources.DefaultReflectionCache;
+import org.jboss.weld.resources.DefaultResourceLoader;
+import org.jboss.weld.resources.ReflectionCache;
+import org.jboss.weld.resources.spi.AnnotationDiscovery;
+import org.junit.Test;
+
+public class ClassFileIndexTest {
+
+    private final ReflectionCache cache = new DefaultReflectionCache(new TypeStore());
+
+    @Test
+    public void testClassFileInfo() {
+        ClassFileIndex index = new ClassFileIndex();
+        ClassFileInfo info = index.getClassFileInfo(Sub.class.getName(), DefaultResourceLoader.INSTANCE);
+        assertEquals(Sub.class.getName(), info.getClassName());
+        assertEquals(Super.class.getName(), info.getSuperclassName());
+        assertFalse(info.isAnnotation());
+        assertTrue(info.getMemberAnnotations().contains(Observes.class.getName()));
+
+        ClassFileInfo annotation = index.getClassFileInfo(Special.class.getName(), DefaultResourceLoader.INSTANCE);
+        assertTrue(annotation.isAnnotation());
+        assertTrue(annotation.isInterface());
+        assertTrue(annotation.getClassAnnotations().contains(Qualifier.class.getName()));
+
+        assertTrue(index.isAnnotationPresentOnClassOrPackage(index.getClassFileInfo(VetoedBean.class.getName(), DefaultResourceLoader.INSTANCE),
+                Vetoed.class.getName(), DefaultResourceLoader.INSTANCE));
+        assertFalse(index.isAnnotationPresentOnClassOrPackage(info, Vetoed.class.getName(), DefaultResourceLoader.INSTANCE));
+
+        assertNull(index.getClassFileInfo("com.acme.NonExistent", DefaultResourceLoader.INSTANCE));
+    }
+
+    @Test
+    public void testClassesIdentifiedByClassLoader() throws IOException {
+        // two class loaders see different class files for the same class name
+        ClassLoader first = createClassLoader("com.acme.Foo", Sub.class);
+        ClassLoader second = createClassLoader("com.acme.Foo", Special.class);
+        ClassFileIndex index = new ClassFileIndex();
+        assertEquals(Sub.class.getName(), index.getClassFileInfo("com.acme.Foo", first).getClassName());
+        assertEquals(Special.class.getName(), index.getClassFileInfo("com.acme.Foo", second).getClassName());
+        assertEquals(2, index.size());
+    }
+
+    private static ClassLoader createClassLoader(String className, Class<?> content) throws IOException {
+        File directory = File.createTempFile("weld-class-file-index", "");
+        assertTrue(directory.delete());
+        File classFile = new File(directory, className.replace('.', '/') + ".class");
+        assertTrue(classFile.getParentFile().mkdirs());
+        InputStream in = content.getResourceAsStream(content.getName().substring(content.getName().lastIndexOf('.') + 1) + ".class");
+        try {
+            OutputStream out = new FileOutputStream(classFile);
+            try {
+                byte[] buffer = new byte[1024];
+                for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                    out.write(buffer, 0, read);
+                }
+            } finally {
+                out.close();
+            }
+        } finally {
+            in.close();
+        }
+        return new URLClassLoader(new URL[] { directory.toURI().toURL() }, null);
+    }
+
+    @Test
+    public void testDiscoveryMatchesReflection() {
+        ClassFileIndex index = new ClassFileIndex();
+        AnnotationDiscovery discovery = new ClassFileAnnotationDiscovery(index, cache);
+        AnnotationDiscovery reflection = new SimpleAnnotationDiscovery(cache);
+        Class<?>[] classes = new Class<?>[] { Super.class, Sub.class, PrivateConstructorBean.class, VetoedBean.class, MarkedSuper.class,
+                MarkedSub.class };
+        Class<?>[] annotations = new Class<?>[] { Inject.class, Named.class, Observes.class, Qualifier.class, Special.class, Vetoed.class,
+                Marker.class };
+        for (Class<?> clazz : classes) {
+            for (Class<?> annotation : annotations) {
+                @SuppressWarnings("unchecked")
+                Class<? extends Annotation> annotationType = (Class<? extends Annotation>) annotation;
+                assertEquals(clazz.getSimpleName() + " " + annotation.getSimpleName(), reflection.containsAnnotation(clazz, annotationType),
+                        discovery.containsAnnotation(clazz, annotationType));
+            }
+        }
+        // sanity checks
+        assertTrue(discovery.containsAnnotation(Sub.class, Inject.class));
+        assertTrue(discovery.containsAnnotation(Sub.class, Qualifier.class));
+        assertFalse(discovery.containsAnnotation(Sub.class, Named.class));
+        assertFalse(discovery.containsAnnotation(PrivateConstructorBean.class, Inject.class));
+        // @Marker is inherited from the superclass and annotated with @Special
+        assertTrue(discovery.containsAnnotation(MarkedSub.class, Special.class));
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Special {
+    }
+
+    @Special
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Marker {
+    }
+
+    @Named
+    public static class Super {
+
+        @Inject
+        String field;
+    }
+
+    public static class Sub extends Super {
+
+        public void observe(@Observes @Special String event) {
+        }
+    }
+
+    public static class PrivateConstructorBean {
+
+        @Inject
+        private PrivateConstructorBean(String parameter) {
+        }
+    }
+
+    @Vetoed
+    public static class VetoedBean {
+    }
+
+    @Marker
+    public static class MarkedSuper {
+    }
+
+    public static class MarkedSub extends MarkedSuper {
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.weld.context.ManagedConversation;
+import org.jboss.weld.context.conversation.ConversationTimerWheel;
+import org.jboss.weld.context.conversation.ExpiredConversationQueue;
+import org.jboss.weld.resources.SingleThreadScheduledExecutorServiceFactory;
+import org.jboss.weld.resources.spi.ScheduledExecutorServiceFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConversationTimerWheelTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    private ScheduledExecutorServiceFactory executorServiceFactory;
+
+    private ConversationTimerWheel wheel;
+
+    private Queue<String> expired;
+
+    @Before
+    public void init() {
+        executorServiceFactory = new SingleThreadScheduledExecutorServiceFactory();
+        // the wheel is advanced manually, the scheduled task does not run within the test
+        wheel = new ConversationTimerWheel(executorServiceFactory, HOUR, ConversationTimerWheel.DEFAULT_WHEEL_SIZE);
+        expired = new ConcurrentLinkedQueue<String>();
+    }
+
+    @After
+    public void cleanup() {
+        wheel.cleanup();
+        executorServiceFactory.cleanup();
+    }
+
+    @Test
+    public void testExpiration() {
+        ManagedConversation foo = new SimpleConversation();
+        ManagedConversation bar = new SimpleConversation();
+        long now = System.currentTimeMillis();
+        wheel.schedule(foo, "foo", now - 1, expired);
+        wheel.schedule(bar, "bar", now + 2 * HOUR, expired);
+        assertEquals(2, wheel.getLiveConversationCount());
+        wheel.advance();
+        assertEquals("foo", expired.poll());
+        assertTrue(expired.isEmpty());
+        assertEquals(1, wheel.getLiveConversationCount());
+        assertEquals(1, wheel.getExpiredConversationCount());
+    }
+
+    @Test
+    public void testRescheduling() {
+        ManagedConversation foo = new SimpleConversation();
+        ManagedConversation bar = new SimpleConversation();
+        long now = System.currentTimeMillis();
+        wheel.schedule(foo, "foo", now - 1, expired);
+        // the conversation was used again
+        wheel.schedule(foo, "foo", now + 2 * HOUR, expired);
+        wheel.schedule(bar, "bar", now + 2 * HOUR, expired);
+        // the timeout was shortened
+        wheel.schedule(bar, "bar", now - 1, expired);
+        wheel.advance();
+        assertEquals("bar", expired.poll());
+        assertTrue(expired.isEmpty());
+        assertEquals(1, wheel.getLiveConversationCount());
+    }
+
+    @Test
+    public void testCancel() {
+        ManagedConversation foo = new SimpleConversation();
+        wheel.schedule(foo, "foo", System.currentTimeMillis() - 1, expired);
+        wheel.cancel(foo);
+        wheel.advance();
+        assertTrue(expired.isEmpty());
+        assertEquals(0, wheel.getLiveConversationCount());
+        assertEquals(0, wheel.getExpiredConversationCount());
+    }
+
+    @Test
+    public void testExpirationWhileAdvancing() throws InterruptedException {
+        final long tickDuration = 1L;
+        // a full rotation of the wheel takes longer than the test
+        final ConversationTimerWheel fastWheel = new ConversationTimerWheel(executorServiceFactory, tickDuration, ConversationTimerWheel.DEFAULT_WHEEL_SIZE);
+        final AtomicBoolean scheduling = new AtomicBoolean(true);
+        // conversations which do not expire within the test make processing a bucket take longer
+        int live = 50000;
+        long later = System.currentTimeMillis() + HOUR;
+        for (int i = 0; i < live; i++) {
+            fastWheel.schedule(new SimpleConversation(), "live" + i, later + i * tickDuration, expired);
+        }
+        Thread advancing = new Thread() {
+            @Override
+            public void run() {
+                while (scheduling.get()) {
+                    fastWheel.advance();
+                }
+            }
+        };
+        advancing.start();
+        int conversations = 20000;
+        try {
+            for (int i = 0; i < conversations; i++) {
+                // expired timeouts are added to the bucket of the next tick, i.e. the one the wheel is about to process
+                fastWheel.schedule(new SimpleConversation(), String.valueOf(i), System.currentTimeMillis() - 1, expired);
+            }
+        } finally {
+            scheduling.set(false);
+            advancing.join();
+        }
+        // a timeout added to a bucket while it was processed would only be reported after a full rotation of the wheel
+        Thread.sleep(2 * tickDuration);
+        fastWheel.advance();
+        try {
+            assertEquals(conversations, fastWheel.getExpiredConversationCount());
+            assertEquals(live, fastWheel.getLiveConversationCount());
+        } finally {
+            fastWheel.cleanup();
+        }
+    }
+
+    @Test
+    public void testRestoredQueueRequiresScheduling() throws Exception {
+        ExpiredConversationQueue queue = new ExpiredConversationQueue();
+        queue.add("1");
+        // conversations of a new session are scheduled as they are promoted to long-running
+        assertFalse(queue.markScheduled());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(queue);
+        out.close();
+        ExpiredConversationQueue restored = (ExpiredConversationQueue) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertEquals("1", restored.peek());
+        // the timer wheel of this container does not know the conversations of a restored session
+        assertTrue(restored.markScheduled());
+        assertFalse(restored.markScheduled());
+    }
+
+    private static class SimpleConversation implements ManagedConversation {
+
+        public void begin() {
+        }
+
+        public void begin(String id) {
+        }
+
+        public void end() {
+        }
+
+        public String getId() {
+            return null;
+        }
+
+        public long getTimeout() {
+            return 0;
+        }
+
+        public void setTimeout(long milliseconds) {
+        }
+
+        public boolean isTransient() {
+            return false;
+        }
+
+        public boolean unlock() {
+            return true;
+        }
+
+        public boolean lock(long timeout) {
+            return true;
+        }
+
+        public long getLastUsed() {
+            return 0;
+        }
+
+        public void touch() {
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.context.CreationalContextImpl;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.junit.Test;
+
+public class CreationalContextTest {
+
+    @Test
+    public void testDependentInstancesTrackedByParent() {
+        List<String> destroyed = new ArrayList<String>();
+        SimpleContextual root = new SimpleContextual("root", destroyed);
+        SimpleContextual child = new SimpleContextual("child", destroyed);
+        CreationalContextImpl<String> rootCtx = new CreationalContextImpl<String>(root);
+        CreationalContextImpl<String> childCtx = rootCtx.getCreationalContext(child);
+        assertTrue(rootCtx.getDependentInstances().isEmpty());
+        assertTrue(childCtx.getDependentInstances().isEmpty());
+
+        childCtx.addDependentInstance(new SimpleContextualInstance(child, childCtx));
+        assertEquals(1, rootCtx.getDependentInstances().size());
+        assertTrue(childCtx.getDependentInstances().isEmpty());
+
+        rootCtx.release();
+        assertEquals(1, destroyed.size());
+        assertEquals("child", destroyed.get(0));
+    }
+
+    @Test
+    public void testDestroyDependentInstanceWithoutDependents() {
+        CreationalContextImpl<String> ctx = new CreationalContextImpl<String>(new SimpleContextual("root", new ArrayList<String>()));
+        assertFalse(ctx.destroyDependentInstance("root"));
+        // noop
+        ctx.release();
+    }
+
+    private static class SimpleContextual implements Contextual<String> {
+
+        private final String value;
+        private final List<String> destroyed;
+
+        private SimpleContextual(String value, List<String> destroyed) {
+            this.value = value;
+            this.destroyed = destroyed;
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return value;
+        }
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+            destroyed.add(instance);
+        }
+    }
+
+    private static class SimpleContextualInstance implements ContextualInstance<String> {
+
+        private final SimpleContextual contextual;
+        private final CreationalContext<String> creationalContext;
+
+        private SimpleContextualInstance(SimpleContextual contextual, CreationalContext<String> creationalContext) {
+            this.contextual = contextual;
+            this.creationalContext = creationalContext;
+        }
+
+        public String getInstance() {
+            return contextual.value;
+        }
+
+        public CreationalContext<String> getCreationalContext() {
+            return creationalContext;
+        }
+
+        public Contextual<String> getContextual() {
+            return contextual;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.context.beanstore.AttributeBeanStore;
+import org.jboss.weld.context.beanstore.LockStore;
+import org.jboss.weld.context.beanstore.SimpleNamingScheme;
+import org.junit.Test;
+
+public class AttributeBeanStoreTest {
+
+    private static final String PREFIX = "test";
+
+    @Test
+    public void testOnlyInstancesAddedWhileDetachedAreWritten() {
+        MapAttributeBeanStore store = new MapAttributeBeanStore();
+        store.attach();
+        store.put("foo", new SimpleContextualInstance<String>("foo"));
+        assertEquals(1, store.writes.size());
+
+        store.detach();
+        store.put("bar", new SimpleContextualInstance<String>("bar"));
+        store.writes.clear();
+        store.attach();
+        // foo has already been written
+        assertEquals(1, store.writes.size());
+        assertEquals(PREFIX + "#bar", store.writes.get(0));
+    }
+
+    @Test
+    public void testInstancesAreLoadedLazily() {
+        MapAttributeBeanStore store = new MapAttributeBeanStore();
+        ContextualInstance<String> foo = new SimpleContextualInstance<String>("foo");
+        store.attributes.put(PREFIX + "#foo", foo);
+        store.attributes.put(PREFIX + "#bar", new SimpleContextualInstance<String>("bar"));
+        store.attributes.put("unrelated", "unrelated");
+
+        store.attach();
+        assertTrue(store.reads.isEmpty());
+        assertTrue(store.writes.isEmpty());
+
+        assertSame(foo, store.get("foo"));
+        assertEquals(1, store.reads.size());
+        assertSame(foo, store.get("foo"));
+        assertEquals(1, store.reads.size());
+
+        // re-attaching does not write instances loaded from the underlying store
+        store.detach();
+        store.attach();
+        assertTrue(store.writes.isEmpty());
+
+        Set<String> ids = new HashSet<String>();
+        for (String id : store) {
+            ids.add(id);
+        }
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains("bar"));
+    }
+
+    @Test
+    public void testRemoveUnloadedInstance() {
+        MapAttributeBeanStore store = new MapAttributeBeanStore();
+        ContextualInstance<String> foo = new SimpleContextualInstance<String>("foo");
+        store.attributes.put(PREFIX + "#foo", foo);
+        store.attach();
+        assertSame(foo, store.remove("foo"));
+        assertNull(store.get("foo"));
+    }
+
+    @Test
+    public void testLoadAllBeforeUnderlyingStoreIsCleared() {
+        MapAttributeBeanStore store = new MapAttributeBeanStore();
+        store.attributes.put(PREFIX + "#foo", new SimpleContextualInstance<String>("foo"));
+        store.attributes.put(PREFIX + "#bar", new SimpleContextualInstance<String>("bar"));
+        store.attach();
+        store.get("foo");
+        store.loadAll();
+        // e.g. the session is invalidated before the instances are destroyed at the end of the request
+        store.attributes.clear();
+
+        Set<String> ids = new HashSet<String>();
+        for (String id : store) {
+            ids.add(id);
+        }
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains("bar"));
+    }
+
+    private static class MapAttributeBeanStore extends AttributeBeanStore {
+
+        private final Map<String, Object> attributes = new HashMap<String, Object>();
+        private final List<String> reads = new ArrayList<String>();
+        private final List<String> writes = new ArrayList<String>();
+
+        public MapAttributeBeanStore() {
+            super(new SimpleNamingScheme(PREFIX));
+        }
+
+        @Override
+        protected Object getAttribute(String prefixedId) {
+            reads.add(prefixedId);
+            return attributes.get(prefixedId);
+        }
+
+        @Override
+        protected void removeAttribute(String prefixedId) {
+            attributes.remove(prefixedId);
+        }
+
+        @Override
+        protected Collection<String> getAttributeNames() {
+            return new ArrayList<String>(attributes.keySet());
+        }
+
+        @Override
+        protected void setAttribute(String prefixedId, Object instance) {
+            writes.add(prefixedId);
+            attributes.put(prefixedId, instance);
+        }
+
+        @Override
+        protected LockStore getLockStore() {
+            return null;
+        }
+    }
+
+    private static class SimpleContextualInstance<T> implements ContextualInstance<T> {
+
+        private final T instance;
+
+        private SimpleContextualInstance(T instance) {
+            this.instance = instance;
+        }
+
+        public T getInstance() {
+            return instance;
+        }
+
+        public CreationalContext<T> getCreationalContext() {
+            return null;
+        }
+
+        public Contextual<T> getContextual() {
+            return null;
+        }
+    }
+}
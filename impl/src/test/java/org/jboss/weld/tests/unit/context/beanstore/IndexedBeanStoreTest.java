@@ -0,0 +1,141 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.context.beanstore.BeanStore;
+import org.jboss.weld.context.beanstore.HashMapBeanStore;
+import org.jboss.weld.context.beanstore.IndexedBeanStore;
+import org.jboss.weld.serialization.ContextualStoreImpl;
+import org.jboss.weld.serialization.spi.ContextualStore;
+import org.junit.Test;
+
+public class IndexedBeanStoreTest {
+
+    @Test
+    public void testIndexedInstances() {
+        IndexedBeanStore store = new IndexedBeanStore(new HashMapBeanStore(), new MapContextualStore());
+        ContextualInstance<String> foo = new SimpleContextualInstance<String>("foo");
+        ContextualInstance<String> bar = new SimpleContextualInstance<String>("bar");
+        store.put(0, "foo", foo);
+        // exceeds the current capacity
+        store.put(100, "bar", bar);
+        assertSame(foo, store.get(0));
+        assertSame(bar, store.get(100));
+        assertNull(store.get(1));
+        assertNull(store.get(1000));
+        // indexed instances are also accessible using their String id
+        assertSame(bar, store.get("bar"));
+        assertTrue(store.contains("foo"));
+        assertSame(foo, store.remove("foo"));
+        assertNull(store.get(0));
+        assertFalse(store.contains("foo"));
+        assertSame(bar, store.remove(100));
+        assertNull(store.get("bar"));
+    }
+
+    @Test
+    public void testIteratorAndClear() {
+        IndexedBeanStore store = new IndexedBeanStore(new HashMapBeanStore(), new MapContextualStore());
+        store.put(3, "baz", new SimpleContextualInstance<String>("baz"));
+        store.put("bar", new SimpleContextualInstance<String>("bar"));
+        Set<String> ids = new HashSet<String>();
+        for (String id : store) {
+            ids.add(id);
+        }
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains("baz"));
+        assertTrue(ids.contains("bar"));
+        assertTrue(store.contains("baz"));
+        store.clear();
+        assertFalse(store.iterator().hasNext());
+        assertNull(store.get(3));
+        assertNull(store.get("bar"));
+    }
+
+    @Test
+    public void testIntegratorContextualStore() {
+        BeanStore delegate = new HashMapBeanStore();
+        assertTrue(IndexedBeanStore.of(delegate, new MapContextualStore()) instanceof IndexedBeanStore);
+        // an integrator-provided contextual store does not index contextuals
+        ContextualStore contextualStore = (ContextualStore) Proxy.newProxyInstance(ContextualStore.class.getClassLoader(),
+                new Class<?>[] { ContextualStore.class }, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        throw new UnsupportedOperationException();
+                    }
+                });
+        assertSame(delegate, IndexedBeanStore.of(delegate, contextualStore));
+    }
+
+    /**
+     * Maps ids of test contextuals to their indexes.
+     */
+    private static class MapContextualStore extends ContextualStoreImpl {
+
+        private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+
+        private MapContextualStore() {
+            indexes.put("foo", 0);
+            indexes.put("bar", 100);
+            indexes.put("baz", 3);
+        }
+
+        @Override
+        public int getIndex(String id) {
+            Integer index = indexes.get(id);
+            return index == null ? NO_INDEX : index;
+        }
+    }
+
+    private static class SimpleContextualInstance<T> implements ContextualInstance<T> {
+
+        private final T instance;
+
+        private SimpleContextualInstance(T instance) {
+            this.instance = instance;
+        }
+
+        public T getInstance() {
+            return instance;
+        }
+
+        public CreationalContext<T> getCreationalContext() {
+            return null;
+        }
+
+        public Contextual<T> getContextual() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.proxy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.weld.bean.proxy.store.FileSystemProxyClassStore;
+import org.jboss.weld.bean.proxy.store.ProxyClassFingerprint;
+import org.jboss.weld.bean.proxy.store.ProxyClassStore;
+import org.junit.After;
+import org.junit.Test;
+
+public class ProxyClassStoreTest {
+
+    private static final String CLASS_NAME = "org.jboss.weld.Foo$Proxy$_$$_WeldClientProxy";
+
+    private final List<File> directories = new ArrayList<File>();
+
+    @After
+    public void deleteDirectories() {
+        for (File directory : directories) {
+            delete(directory);
+        }
+        directories.clear();
+    }
+
+    @Test
+    public void testStoredProxyClass() throws IOException {
+        File directory = createDirectory();
+        byte[] bytecode = new byte[] { 1, 2, 3 };
+        ProxyClassStore store = new FileSystemProxyClassStore(directory, true);
+        assertNull(store.load(CLASS_NAME, "foo"));
+        store.store(CLASS_NAME, "foo", bytecode);
+        assertArrayEquals(bytecode, store.load(CLASS_NAME, "foo"));
+        // stale
+        assertNull(store.load(CLASS_NAME, "bar"));
+        // overwrite
+        store.store(CLASS_NAME, "bar", bytecode);
+        assertArrayEquals(bytecode, store.load(CLASS_NAME, "bar"));
+    }
+
+    @Test
+    public void testReadOnlyStore() throws IOException {
+        ProxyClassStore store = new FileSystemProxyClassStore(createDirectory(), false);
+        store.store(CLASS_NAME, "foo", new byte[] { 1 });
+        assertNull(store.load(CLASS_NAME, "foo"));
+    }
+
+    @Test
+    public void testFingerprint() {
+        String fingerprint = new ProxyClassFingerprint().addType(ProxyClassStoreTest.class).getValue();
+        assertEquals(fingerprint, new ProxyClassFingerprint().addType(ProxyClassStoreTest.class).getValue());
+        assertFalse(fingerprint.equals(new ProxyClassFingerprint().addType(ProxyClassStore.class).getValue()));
+        assertFalse(fingerprint.equals(new ProxyClassFingerprint().addType(ProxyClassStoreTest.class).add(Serializable.class).getValue()));
+        // the order of values does not matter
+        assertEquals(new ProxyClassFingerprint().addAll(Arrays.asList("a", "b")).getValue(), new ProxyClassFingerprint().addAll(Arrays.asList("b", "a")).getValue());
+    }
+
+    private File createDirectory() throws IOException {
+        File directory = File.createTempFile("weld-proxies", "");
+        directory.delete();
+        directories.add(directory);
+        return directory;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
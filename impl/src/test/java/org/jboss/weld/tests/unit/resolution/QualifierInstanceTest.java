@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.lang.annotation.Retention;
+
+import javax.enterprise.util.AnnotationLiteral;
+import javax.enterprise.util.Nonbinding;
+import javax.inject.Named;
+import javax.inject.Qualifier;
+
+import org.jboss.weld.literal.NamedLiteral;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.junit.Test;
+
+public class QualifierInstanceTest {
+
+    private final TypeStore typeStore = new TypeStore();
+    private final MetaAnnotationStore store = new MetaAnnotationStore(new ClassTransformer(typeStore, new SharedObjectCache(), ReflectionCacheFactory.newInstance(typeStore)));
+
+    @Test
+    public void testEqualAnnotationsShareQualifierInstance() {
+        QualifierInstance foo = QualifierInstance.of(new NamedLiteral("foo"), store);
+        assertSame(foo, QualifierInstance.of(new NamedLiteral("foo"), store));
+        QualifierInstance bar = QualifierInstance.of(new NamedLiteral("bar"), store);
+        assertNotSame(foo, bar);
+        assertFalse(foo.equals(bar));
+    }
+
+    @Test
+    public void testNonbindingMembersIgnored() {
+        QualifierInstance alpha = QualifierInstance.of(new PriorityLiteral("alpha", 1), store);
+        QualifierInstance beta = QualifierInstance.of(new PriorityLiteral("beta", 1), store);
+        assertEquals(alpha, beta);
+        assertEquals(alpha.hashCode(), beta.hashCode());
+        assertFalse(alpha.equals(QualifierInstance.of(new PriorityLiteral("alpha", 2), store)));
+    }
+
+    @Test
+    public void testClearAnnotationData() {
+        QualifierInstance foo = QualifierInstance.of(new NamedLiteral("foo"), store);
+        store.clearAnnotationData(Named.class);
+        QualifierInstance recreated = QualifierInstance.of(new NamedLiteral("foo"), store);
+        assertNotSame(foo, recreated);
+        assertEquals(foo, recreated);
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    private @interface Priority {
+
+        @Nonbinding
+        String description();
+
+        int value();
+    }
+
+    @SuppressWarnings("all")
+    private static class PriorityLiteral extends AnnotationLiteral<Priority> implements Priority {
+
+        private final String description;
+        private final int value;
+
+        private PriorityLiteral(String description, int value) {
+            this.description = description;
+            this.value = value;
+        }
+
+        public String description() {
+            return description;
+        }
+
+        public int value() {
+            return value;
+        }
+    }
+}
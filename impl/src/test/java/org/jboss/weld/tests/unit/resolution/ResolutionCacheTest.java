@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.resolution.ResolutionCache;
+import org.junit.Test;
+
+import com.google.common.base.Function;
+
+public class ResolutionCacheTest {
+
+    @Test
+    public void testValuesCachedAndStatisticsMaintained() {
+        CountingFunction function = new CountingFunction();
+        ResolutionCache<String, Integer> cache = new ResolutionCache<String, Integer>(function);
+        assertNull(cache.getIfPresent("foo"));
+        assertEquals(Integer.valueOf(3), cache.get("foo"));
+        assertEquals(Integer.valueOf(3), cache.get("foo"));
+        assertEquals(Integer.valueOf(6), cache.get("foobar"));
+        assertEquals(Integer.valueOf(3), cache.getIfPresent("foo"));
+        assertEquals(2, function.invocations.get());
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(Integer.valueOf(3), cache.get("foo"));
+        assertEquals(3, function.invocations.get());
+    }
+
+    @Test
+    public void testCacheBounded() {
+        ResolutionCache<String, Integer> cache = new ResolutionCache<String, Integer>(new CountingFunction(), 2);
+        cache.get("a");
+        cache.get("bb");
+        // "a" was read recently and gets a second chance, "bb" is evicted instead
+        cache.get("a");
+        cache.get("ccc");
+        assertEquals(2, cache.size());
+        assertEquals(Integer.valueOf(1), cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("bb"));
+        assertEquals(Integer.valueOf(3), cache.getIfPresent("ccc"));
+    }
+
+    @Test
+    public void testStatisticsMaintainedConcurrently() throws InterruptedException {
+        final ResolutionCache<String, Integer> cache = new ResolutionCache<String, Integer>(new CountingFunction());
+        final int lookups = 10000;
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < lookups; j++) {
+                        cache.get(String.valueOf(j % 10));
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(10, cache.size());
+        assertEquals(threads.length * lookups, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    public void testExceptionNotCached() {
+        ResolutionCache<String, Integer> cache = new ResolutionCache<String, Integer>(new Function<String, Integer>() {
+            public Integer apply(String input) {
+                throw new IllegalStateException(input);
+            }
+        });
+        try {
+            cache.get("foo");
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals("foo", expected.getMessage());
+        }
+        assertEquals(0, cache.size());
+    }
+
+    private static class CountingFunction implements Function<String, Integer> {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        public Integer apply(String input) {
+            invocations.incrementAndGet();
+            return input.length();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.application.direct;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that a client proxy of an application-scoped bean which holds a direct reference to the contextual instance
+ * observes the destruction of the instance.
+ */
+@RunWith(Arquillian.class)
+public class ApplicationScopedDirectReferenceTest {
+
+    private static final int THREADS = 4;
+    private static final int INVOCATIONS = 100;
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(ApplicationScopedDirectReferenceTest.class.getPackage());
+    }
+
+    @Inject
+    private BeanManager manager;
+
+    @Inject
+    private Counter counter;
+
+    @Test
+    public void testInstanceSharedAcrossThreads() throws Exception {
+        Counter.CREATED.set(0);
+        destroy();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> results = new ArrayList<Future<Void>>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(new Callable<Void>() {
+                    public Void call() throws Exception {
+                        for (int j = 0; j < INVOCATIONS; j++) {
+                            counter.increment();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(THREADS * INVOCATIONS + 1, counter.increment());
+        assertEquals(1, Counter.CREATED.get());
+        // the proxy is returned instead of the cached instance
+        assertSame(counter, counter.self());
+    }
+
+    @Test
+    public void testDestroyedInstanceNotUsed() {
+        destroy();
+        Counter.CREATED.set(0);
+        assertEquals(1, counter.increment());
+        assertEquals(2, counter.increment());
+        destroy();
+        assertEquals(1, counter.increment());
+        assertEquals(2, Counter.CREATED.get());
+    }
+
+    private void destroy() {
+        Bean<?> bean = manager.resolve(manager.getBeans(Counter.class));
+        ((AlterableContext) manager.getContext(bean.getScope())).destroy(bean);
+    }
+}
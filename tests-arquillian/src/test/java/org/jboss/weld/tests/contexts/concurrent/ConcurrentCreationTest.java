@@ -0,0 +1,172 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.concurrent;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.Extension;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+import org.databene.contiperf.PerfTest;
+import org.databene.contiperf.junit.ContiPerfRule;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.context.http.Http;
+import org.jboss.weld.context.http.HttpSessionContext;
+import org.jboss.weld.servlet.SessionHolder;
+import org.jboss.weld.test.util.annotated.TestAnnotatedTypeBuilder;
+import org.jboss.weld.tests.category.Performance;
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+/**
+ * Contention benchmark for the creation of contextual instances in shared contexts. In each round, a group of threads is
+ * released at once against cold application-scoped beans and against a fresh HTTP session so that all threads compete for
+ * the creation locks. Each round also verifies that exactly one instance of each bean is created.
+ */
+@Category(Performance.class)
+@RunWith(Arquillian.class)
+public class ConcurrentCreationTest {
+
+    private static final int THREADS = 16;
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS);
+
+    @Rule
+    public ContiPerfRule rule = new ContiPerfRule();
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(ConcurrentCreationTest.class.getPackage())
+                .addPackage(TestAnnotatedTypeBuilder.class.getPackage())
+                .addAsServiceProvider(Extension.class, CountingBeansExtension.class);
+    }
+
+    @Inject
+    private BeanManager manager;
+
+    @Inject
+    @Http
+    private HttpSessionContext sessionContext;
+
+    @AfterClass
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    @PerfTest(invocations = 200)
+    public void testApplicationContext() throws Exception {
+        final List<Bean<?>> beans = getBeans(0);
+        final AlterableContext context = (AlterableContext) manager.getContext(ApplicationScoped.class);
+        for (Bean<?> bean : beans) {
+            context.destroy(bean);
+        }
+        CountingBean.reset();
+        runConcurrently(new Task() {
+            public void run(int thread) {
+                createInstances(context, beans, thread);
+            }
+        });
+        assertEquals(beans.size(), CountingBean.getInstances());
+    }
+
+    @Test
+    @PerfTest(invocations = 200)
+    public void testHttpSessionContext() throws Exception {
+        final List<Bean<?>> beans = getBeans(CountingBeansExtension.BEANS);
+        final HttpSession session = MockHttpSession.createSession();
+        CountingBean.reset();
+        runConcurrently(new Task() {
+            public void run(int thread) {
+                HttpServletRequest request = MockHttpSession.createRequest(session);
+                SessionHolder.sessionCreated(session);
+                sessionContext.associate(request);
+                try {
+                    sessionContext.activate();
+                    createInstances(sessionContext, beans, thread);
+                    sessionContext.deactivate();
+                } finally {
+                    sessionContext.dissociate(request);
+                    SessionHolder.clear();
+                }
+            }
+        });
+        assertEquals(beans.size(), CountingBean.getInstances());
+    }
+
+    private List<Bean<?>> getBeans(int firstSlot) {
+        List<Bean<?>> beans = new ArrayList<Bean<?>>();
+        for (int slot = firstSlot; slot < firstSlot + CountingBeansExtension.BEANS; slot++) {
+            beans.add(manager.resolve(manager.getBeans(CountingBean.class, new Slot.Literal(slot))));
+        }
+        return beans;
+    }
+
+    /**
+     * Each thread starts with a different bean so that creation of different beans overlaps.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void createInstances(AlterableContext context, List<Bean<?>> beans, int thread) {
+        for (int i = 0; i < beans.size(); i++) {
+            Bean bean = beans.get((thread + i) % beans.size());
+            context.get(bean, manager.createCreationalContext(bean));
+        }
+    }
+
+    private void runConcurrently(final Task task) throws Exception {
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        List<Future<Void>> results = new ArrayList<Future<Void>>();
+        for (int i = 0; i < THREADS; i++) {
+            final int thread = i;
+            results.add(EXECUTOR.submit(new Callable<Void>() {
+                public Void call() throws Exception {
+                    barrier.await();
+                    task.run(thread);
+                    return null;
+                }
+            }));
+        }
+        for (Future<Void> result : results) {
+            result.get();
+        }
+    }
+
+    private interface Task {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.concurrent;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * The template of the beans created concurrently. {@link CountingBeansExtension} adds a scoped copy of this type for each
+ * {@link Slot}.
+ */
+@SuppressWarnings("serial")
+public class CountingBean implements Serializable {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public static int getInstances() {
+        return INSTANCES.get();
+    }
+
+    public static void reset() {
+        INSTANCES.set(0);
+    }
+
+    @PostConstruct
+    void init() {
+        INSTANCES.incrementAndGet();
+    }
+}
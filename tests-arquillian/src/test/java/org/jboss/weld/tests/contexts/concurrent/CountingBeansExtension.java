@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.concurrent;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.SessionScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.BeforeBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.util.AnnotationLiteral;
+
+import org.jboss.weld.test.util.annotated.TestAnnotatedTypeBuilder;
+
+/**
+ * Adds {@link #BEANS} application-scoped and {@link #BEANS} session-scoped beans, all of them based on {@link CountingBean}.
+ * Application-scoped beans use the slots from 0 to {@link #BEANS} - 1, session-scoped beans use the following ones.
+ */
+public class CountingBeansExtension implements Extension {
+
+    static final int BEANS = 4;
+
+    void addBeans(@Observes BeforeBeanDiscovery event) throws NoSuchMethodException {
+        addBeans(event, new ApplicationScopedLiteral(), 0);
+        addBeans(event, new SessionScopedLiteral(), BEANS);
+    }
+
+    private void addBeans(BeforeBeanDiscovery event, Annotation scope, int firstSlot) throws NoSuchMethodException {
+        // the builder only uses the annotations added explicitly
+        Method init = CountingBean.class.getDeclaredMethod("init");
+        for (int slot = firstSlot; slot < firstSlot + BEANS; slot++) {
+            TestAnnotatedTypeBuilder<CountingBean> builder = new TestAnnotatedTypeBuilder<CountingBean>(CountingBean.class);
+            builder.addToClass(scope);
+            builder.addToClass(new Slot.Literal(slot));
+            builder.addToMethod(init, new PostConstructLiteral());
+            event.addAnnotatedType(builder.create(), CountingBean.class.getName() + slot);
+        }
+    }
+
+    @SuppressWarnings("all")
+    private static class ApplicationScopedLiteral extends AnnotationLiteral<ApplicationScoped> implements ApplicationScoped {
+    }
+
+    @SuppressWarnings("all")
+    private static class PostConstructLiteral extends AnnotationLiteral<PostConstruct> implements PostConstruct {
+    }
+
+    @SuppressWarnings("all")
+    private static class SessionScopedLiteral extends AnnotationLiteral<SessionScoped> implements SessionScoped {
+    }
+}
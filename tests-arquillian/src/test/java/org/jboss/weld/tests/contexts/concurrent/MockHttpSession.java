@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.concurrent;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Minimal thread-safe {@link HttpSession} backed by a {@link ConcurrentHashMap} and a matching {@link HttpServletRequest}.
+ */
+public class MockHttpSession implements InvocationHandler {
+
+    public static HttpSession createSession() {
+        return (HttpSession) Proxy.newProxyInstance(MockHttpSession.class.getClassLoader(), new Class<?>[] { HttpSession.class }, new MockHttpSession());
+    }
+
+    public static HttpServletRequest createRequest(final HttpSession session) {
+        return (HttpServletRequest) Proxy.newProxyInstance(MockHttpSession.class.getClassLoader(), new Class<?>[] { HttpServletRequest.class }, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getName().equals("getSession")) {
+                    return session;
+                }
+                throw new UnsupportedOperationException(method.toString());
+            }
+        });
+    }
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<String, Object>();
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (name.equals("getAttribute")) {
+            return attributes.get(args[0]);
+        } else if (name.equals("setAttribute")) {
+            attributes.put((String) args[0], args[1]);
+            return null;
+        } else if (name.equals("removeAttribute")) {
+            attributes.remove(args[0]);
+            return null;
+        } else if (name.equals("getAttributeNames")) {
+            return Collections.enumeration(new ArrayList<String>(attributes.keySet()));
+        } else if (name.equals("getId")) {
+            return "benchmark";
+        } else if (name.equals("hashCode")) {
+            return System.identityHashCode(proxy);
+        } else if (name.equals("equals")) {
+            return proxy == args[0];
+        } else if (name.equals("toString")) {
+            return "MockHttpSession " + attributes.keySet();
+        }
+        throw new UnsupportedOperationException(method.toString());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.session.invalidation;
+
+import static org.junit.Assert.assertTrue;
+
+import java.net.URL;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.weld.tests.category.Integration;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import com.gargoylesoftware.htmlunit.TextPage;
+import com.gargoylesoftware.htmlunit.WebClient;
+
+/**
+ * Verifies that a session scoped bean is destroyed if the session is invalidated in a request which does not access the bean.
+ */
+@Category(Integration.class)
+@RunWith(Arquillian.class)
+public class SessionInvalidationTest {
+
+    @ArquillianResource(Servlet.class)
+    private URL url;
+
+    @Deployment(testable = false)
+    public static WebArchive getDeployment() {
+        return ShrinkWrap.create(WebArchive.class).addClasses(Servlet.class, DestructionRecorder.class, SessionScopedBean.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testUnaccessedBeanDestroyed() throws Exception {
+        WebClient client = new WebClient();
+
+        {
+            TextPage page = client.getPage(url + "/create");
+            assertTrue(page.getContent().contains("Destroyed beans:0"));
+        }
+        {
+            // the bean instance is held by the session only, it is not loaded into the bean store in this request
+            client.getPage(url + "/invalidate");
+        }
+        {
+            // the session context is destroyed at the end of the previous request
+            TextPage page = client.getPage(url);
+            assertTrue(page.getContent().contains("Destroyed beans:1"));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.el.nametable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import javax.el.ELContext;
+import javax.el.ExpressionFactory;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.weld.el.ELNameTable;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.el.EL;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests EL resolution using {@link ELNameTable}.
+ */
+@RunWith(Arquillian.class)
+public class ELNameTableTest {
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(ELNameTableTest.class.getPackage()).addClass(EL.class)
+                .addPackages(true, ExpressionFactory.class.getPackage());
+    }
+
+    @Inject
+    private BeanManagerImpl beanManager;
+
+    @Inject
+    private Counter counter;
+
+    @Test
+    public void testNameTable() {
+        ELNameTable table = beanManager.getELNameTable();
+        assertNotNull(table);
+        assertSame(table, beanManager.getELNameTable());
+        assertNotNull(table.get("shop.counter"));
+        assertEquals(Counter.class, table.get("shop.counter").getBean().getBeanClass());
+        assertNotNull(table.get("calculator"));
+        assertNull(table.get("shop"));
+        assertNull(table.get("unknown"));
+    }
+
+    @Test
+    public void testResolution() {
+        ELContext elContext = EL.createELContext(beanManager);
+        counter.increment();
+        int value = counter.getValue();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(value, EL.EXPRESSION_FACTORY.createValueExpression(elContext, "#{shop.counter.value}", Integer.class).getValue(elContext));
+            assertEquals(42, EL.EXPRESSION_FACTORY.createValueExpression(elContext, "#{calculator.answer}", Integer.class).getValue(elContext));
+        }
+    }
+
+    @Test
+    public void testUnknownIdentifierNotResolved() {
+        ELContext elContext = EL.createELContext(beanManager);
+        assertNull(beanManager.getELResolver().getValue(elContext, null, "unknown"));
+        assertFalse(elContext.isPropertyResolved());
+        // namespace
+        assertNotNull(beanManager.getELResolver().getValue(elContext, null, "shop"));
+        assertTrue(elContext.isPropertyResolved());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.event.AsyncEventDelivery;
+import org.jboss.weld.event.EventImpl;
+import org.jboss.weld.exceptions.ObserverException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests asynchronous observer notification.
+ */
+@RunWith(Arquillian.class)
+public class AsyncEventTest {
+
+    private static final long TIMEOUT = 10L;
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(AsyncEventTest.class.getPackage());
+    }
+
+    @Inject
+    private Event<Audit> event;
+
+    @Inject
+    private BeanManager manager;
+
+    @Inject
+    private RequestInfo requestInfo;
+
+    @Inject
+    private AuditObserver observer;
+
+    @Test
+    public void testObserverNotifiedAsynchronously() throws Exception {
+        requestInfo.setId("foo");
+        Audit audit = new Audit();
+        AsyncEventDelivery<Audit> delivery = ((EventImpl<Audit>) event).fireAsync(audit);
+        // the observer is blocked until the latch is released
+        assertFalse(delivery.isDone());
+        audit.getLatch().countDown();
+        assertSame(audit, delivery.get(TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(delivery.isDone());
+        assertNotSame(Thread.currentThread(), observer.getThread());
+        // event metadata is propagated, request-scoped instances are not shared with the firing thread
+        assertNull(observer.getRequestId());
+        assertEquals("foo", requestInfo.getId());
+        assertEquals(Audit.class, observer.getEventType());
+    }
+
+    @Test
+    public void testExceptionsAggregated() throws Exception {
+        AsyncEventDelivery<Failure> delivery = BeanManagerProxy.unwrap(manager).fireEventAsync(new Failure());
+        try {
+            delivery.get(TIMEOUT, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ObserverException);
+            Set<String> messages = new HashSet<String>();
+            for (Throwable error : ((ObserverException) e.getCause()).getErrors()) {
+                messages.add(error.getMessage());
+            }
+            assertEquals(2, messages.size());
+            assertTrue(messages.contains("first"));
+            assertTrue(messages.contains("second"));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.async;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.EventMetadata;
+
+@ApplicationScoped
+public class AuditObserver {
+
+    private static final long TIMEOUT = 10L;
+
+    private volatile Thread thread;
+    private volatile String requestId;
+    private volatile Type eventType;
+
+    public void observe(@Observes Audit audit, RequestInfo requestInfo, EventMetadata metadata) throws InterruptedException {
+        audit.getLatch().await(TIMEOUT, TimeUnit.SECONDS);
+        this.thread = Thread.currentThread();
+        this.requestId = requestInfo.getId();
+        this.eventType = metadata.getType();
+    }
+
+    public Thread getThread() {
+        return thread;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public Type getEventType() {
+        return eventType;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.dispatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies observer notification through cached dispatch tables and the receiver lookup strategies of observer methods.
+ */
+@RunWith(Arquillian.class)
+public class ObserverDispatchTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(ObserverDispatchTest.class.getPackage());
+    }
+
+    @Inject
+    private Event<Signal> event;
+
+    @Inject
+    private BeanManager manager;
+
+    @Inject
+    private IfExistsObserver ifExistsObserver;
+
+    @Test
+    public void testReceiverLookup() {
+        Tracker.reset();
+        for (int i = 0; i < 3; i++) {
+            event.fire(new Signal());
+        }
+        // the application-scoped receiver is created at most once (it may exist already) and reused
+        assertTrue(Tracker.APPLICATION_SCOPED_CREATED.get() <= 1);
+        assertEquals(3, Tracker.APPLICATION_SCOPED_NOTIFIED.get());
+        // the request-scoped instance does not exist yet
+        assertEquals(0, Tracker.IF_EXISTS_NOTIFIED.get());
+        // a new dependent receiver is created and destroyed for each notification
+        assertEquals(3, Tracker.DEPENDENT_CREATED.get());
+        assertEquals(3, Tracker.DEPENDENT_DESTROYED.get());
+        // dependent objects injected into observer method parameters are destroyed after each notification
+        assertEquals(3, Tracker.STATIC_NOTIFIED.get());
+        assertEquals(3, Tracker.HELPER_DESTROYED.get());
+
+        ifExistsObserver.ping();
+        event.fire(new Signal());
+        assertEquals(1, Tracker.IF_EXISTS_NOTIFIED.get());
+    }
+
+    @Test
+    public void testQualifiersOfCachedDispatchTables() {
+        Tracker.reset();
+        manager.fireEvent(new Signal(), Loud.Literal.INSTANCE);
+        manager.fireEvent(new Signal());
+        manager.fireEvent(new Signal(), Loud.Literal.INSTANCE);
+        event.select(Loud.Literal.INSTANCE).fire(new Signal());
+        event.fire(new Signal());
+        assertEquals(3, Tracker.LOUD_NOTIFIED.get());
+        assertEquals(5, Tracker.APPLICATION_SCOPED_NOTIFIED.get());
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.dispatch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Tracker {
+
+    public static final AtomicInteger APPLICATION_SCOPED_CREATED = new AtomicInteger();
+    public static final AtomicInteger APPLICATION_SCOPED_NOTIFIED = new AtomicInteger();
+    public static final AtomicInteger IF_EXISTS_NOTIFIED = new AtomicInteger();
+    public static final AtomicInteger DEPENDENT_CREATED = new AtomicInteger();
+    public static final AtomicInteger DEPENDENT_DESTROYED = new AtomicInteger();
+    public static final AtomicInteger HELPER_DESTROYED = new AtomicInteger();
+    public static final AtomicInteger STATIC_NOTIFIED = new AtomicInteger();
+    public static final AtomicInteger LOUD_NOTIFIED = new AtomicInteger();
+
+    private Tracker() {
+    }
+
+    public static void reset() {
+        for (AtomicInteger counter : new AtomicInteger[] { APPLICATION_SCOPED_CREATED, APPLICATION_SCOPED_NOTIFIED, IF_EXISTS_NOTIFIED,
+                DEPENDENT_CREATED, DEPENDENT_DESTROYED, HELPER_DESTROYED, STATIC_NOTIFIED, LOUD_NOTIFIED }) {
+            counter.set(0);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.resolution;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that observer methods indexed by their observed type and qualifiers are resolved correctly.
+ */
+@RunWith(Arquillian.class)
+public class ObserverResolutionTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(ObserverResolutionTest.class.getPackage());
+    }
+
+    @Inject
+    private BeanManager manager;
+
+    @Test
+    public void testObserverResolution() {
+        // Number, int and the type variable
+        assertEquals(3, manager.resolveObserverMethods(1).size());
+        assertEquals(4, manager.resolveObserverMethods(1, Urgent.Literal.INSTANCE).size());
+        // Number and the type variable
+        assertEquals(2, manager.resolveObserverMethods(1L).size());
+        assertEquals(2, manager.resolveObserverMethods(1L, Urgent.Literal.INSTANCE).size());
+        assertEquals(1, manager.resolveObserverMethods(new Integer[0]).size());
+        assertEquals(0, manager.resolveObserverMethods("foo", Urgent.Literal.INSTANCE).size());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionPoint.plan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.AnnotatedParameter;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.proxy.ProxyFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that injection through pre-resolved injection plans preserves the {@link InjectionPoint} metadata, shares client
+ * proxies and destroys dependent instances together with the instance they were injected into.
+ */
+@RunWith(Arquillian.class)
+public class InjectionPlanTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InjectionPlanTest.class.getPackage());
+    }
+
+    @Inject
+    private Instance<FieldTarget> fieldTargets;
+
+    @Inject
+    private Instance<ConstructorTarget> constructorTargets;
+
+    @Test
+    public void testFieldInjectionPointMetadata() {
+        // the plan is used by every injection, not just the first one
+        for (int i = 0; i < 2; i++) {
+            FieldTarget target = fieldTargets.get();
+            InjectionPoint injectionPoint = target.getReporter().getInjectionPoint();
+            assertEquals(FieldTarget.class, injectionPoint.getBean().getBeanClass());
+            assertEquals(Reporter.class, injectionPoint.getType());
+            assertTrue(injectionPoint.getMember() instanceof Field);
+            assertEquals("reporter", injectionPoint.getMember().getName());
+            fieldTargets.destroy(target);
+        }
+    }
+
+    @Test
+    public void testConstructorInjectionPointMetadata() {
+        for (int i = 0; i < 2; i++) {
+            ConstructorTarget target = constructorTargets.get();
+            InjectionPoint injectionPoint = target.getReporter().getInjectionPoint();
+            assertEquals(ConstructorTarget.class, injectionPoint.getBean().getBeanClass());
+            assertEquals(Reporter.class, injectionPoint.getType());
+            assertTrue(injectionPoint.getMember() instanceof Constructor<?>);
+            assertEquals(1, ((AnnotatedParameter<?>) injectionPoint.getAnnotated()).getPosition());
+            constructorTargets.destroy(target);
+        }
+    }
+
+    @Test
+    public void testNestedInjectionPointMetadata() {
+        FieldTarget target = fieldTargets.get();
+        // the nested dependent instance sees its own injection point, the outer one is restored afterwards
+        InjectionPoint nested = target.getReporter().getNested().getInjectionPoint();
+        assertEquals(Reporter.class, nested.getBean().getBeanClass());
+        assertEquals(NestedReporter.class, nested.getType());
+        assertEquals(FieldTarget.class, target.getReporter().getInjectionPoint().getBean().getBeanClass());
+        fieldTargets.destroy(target);
+    }
+
+    @Test
+    public void testClientProxyShared() {
+        FieldTarget fieldTarget = fieldTargets.get();
+        ConstructorTarget constructorTarget = constructorTargets.get();
+        FieldTarget otherFieldTarget = fieldTargets.get();
+        assertTrue(ProxyFactory.isProxy(fieldTarget.getService()));
+        assertSame(fieldTarget.getService(), otherFieldTarget.getService());
+        assertSame(fieldTarget.getService(), constructorTarget.getService());
+        assertEquals("pong", fieldTarget.getService().ping());
+        assertNotSame(fieldTarget.getReporter(), otherFieldTarget.getReporter());
+        fieldTargets.destroy(fieldTarget);
+        fieldTargets.destroy(otherFieldTarget);
+        constructorTargets.destroy(constructorTarget);
+    }
+
+    @Test
+    public void testDependentInstancesDestroyed() {
+        Reporter.DESTROYED.set(0);
+        NestedReporter.DESTROYED.set(0);
+        FieldTarget fieldTarget = fieldTargets.get();
+        ConstructorTarget constructorTarget = constructorTargets.get();
+        fieldTargets.destroy(fieldTarget);
+        assertEquals(1, Reporter.DESTROYED.get());
+        assertEquals(1, NestedReporter.DESTROYED.get());
+        constructorTargets.destroy(constructorTarget);
+        assertEquals(2, Reporter.DESTROYED.get());
+        assertEquals(2, NestedReporter.DESTROYED.get());
+    }
+}
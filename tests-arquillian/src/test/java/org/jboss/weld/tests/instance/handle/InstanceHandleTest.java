@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.handle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.WeldInstance;
+import org.jboss.weld.bean.builtin.WeldInstance.Handle;
+import org.jboss.weld.literal.DefaultLiteral;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests memoized {@link Instance} lookups and {@link WeldInstance} handles.
+ */
+@RunWith(Arquillian.class)
+public class InstanceHandleTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InstanceHandleTest.class.getPackage());
+    }
+
+    @Inject
+    @Any
+    private Instance<Processor> processors;
+
+    @Test
+    public void testRepeatedLookup() {
+        Instance<Processor> reverse = processors.select(new AnnotationLiteral<Reverse>() {
+        });
+        for (int i = 0; i < 3; i++) {
+            assertFalse(reverse.isUnsatisfied());
+            assertFalse(reverse.isAmbiguous());
+            assertEquals("cba", reverse.get().process("abc"));
+        }
+        assertTrue(processors.isAmbiguous());
+        assertTrue(processors.select(DefaultLiteral.INSTANCE).get() instanceof UpperCaseProcessor);
+    }
+
+    @Test
+    public void testHandleObtainsReferenceLazily() {
+        WeldInstance<Processor> instance = ((WeldInstance<Processor>) processors).select(DefaultLiteral.INSTANCE);
+        int created = UpperCaseProcessor.created;
+        int destroyed = UpperCaseProcessor.destroyed;
+        Handle<Processor> handle = instance.getHandle();
+        assertEquals(UpperCaseProcessor.class, handle.getBean().getBeanClass());
+        assertEquals(created, UpperCaseProcessor.created);
+        Processor processor = handle.get();
+        assertEquals("ABC", processor.process("abc"));
+        assertSame(processor, handle.get());
+        assertEquals(created + 1, UpperCaseProcessor.created);
+        handle.destroy();
+        assertEquals(destroyed + 1, UpperCaseProcessor.destroyed);
+        // subsequent invocation is a noop
+        handle.destroy();
+        assertEquals(destroyed + 1, UpperCaseProcessor.destroyed);
+    }
+
+    @Test
+    public void testHandles() {
+        int created = UpperCaseProcessor.created;
+        Set<Class<?>> beanClasses = new HashSet<Class<?>>();
+        for (Handle<Processor> handle : ((WeldInstance<Processor>) processors).handles()) {
+            beanClasses.add(handle.getBean().getBeanClass());
+            if (ApplicationScoped.class.equals(handle.getBean().getScope())) {
+                assertEquals("cba", handle.get().process("abc"));
+            }
+        }
+        assertEquals(2, beanClasses.size());
+        assertTrue(beanClasses.contains(ReverseProcessor.class));
+        assertTrue(beanClasses.contains(UpperCaseProcessor.class));
+        // the dependent instance was never created
+        assertEquals(created, UpperCaseProcessor.created);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.tests.interceptors.context;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
+
+@Interceptor
+@Counted
+public class CountingInterceptor {
+
+    static final List<String> INVOCATIONS = new CopyOnWriteArrayList<String>();
+
+    @AroundInvoke
+    public Object count(InvocationContext ctx) throws Exception {
+        if (InterceptionDecorationContext.empty()) {
+            throw new IllegalStateException("No interception context in progress");
+        }
+        INVOCATIONS.add(ctx.getMethod().getName());
+        return ctx.proceed();
+    }
+}
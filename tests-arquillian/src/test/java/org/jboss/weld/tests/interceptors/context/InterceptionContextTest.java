@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.tests.interceptors.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that self-invocations are not intercepted, that calls through client proxies start a new interception context
+ * and that no interception context is left behind once the outermost invocation completes.
+ */
+@RunWith(Arquillian.class)
+public class InterceptionContextTest {
+
+    private static final int DEPTH = 10;
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class).intercept(CountingInterceptor.class).decorate(ServiceDecorator.class)
+                .addPackage(InterceptionContextTest.class.getPackage());
+    }
+
+    @Inject
+    Service service;
+
+    @Before
+    public void reset() {
+        CountingInterceptor.INVOCATIONS.clear();
+        ServiceDecorator.INVOCATIONS.clear();
+    }
+
+    @Test
+    public void testInvocation() {
+        assertTrue(InterceptionDecorationContext.empty());
+        service.ping();
+        assertEquals(Collections.singletonList("ping"), CountingInterceptor.INVOCATIONS);
+        assertEquals(Collections.singletonList("ping"), ServiceDecorator.INVOCATIONS);
+        assertTrue(InterceptionDecorationContext.empty());
+    }
+
+    @Test
+    public void testSelfInvocation() {
+        service.pingSelf();
+        assertEquals(Collections.singletonList("pingSelf"), CountingInterceptor.INVOCATIONS);
+        assertTrue(ServiceDecorator.INVOCATIONS.isEmpty());
+        assertTrue(InterceptionDecorationContext.empty());
+    }
+
+    @Test
+    public void testInvocationThroughClientProxy() {
+        service.pingThroughProxy();
+        assertEquals(Arrays.asList("pingThroughProxy", "ping", "ping"), CountingInterceptor.INVOCATIONS);
+        assertEquals(Collections.singletonList("ping"), ServiceDecorator.INVOCATIONS);
+        assertTrue(InterceptionDecorationContext.empty());
+    }
+
+    @Test
+    public void testNestedInvocationsThroughClientProxies() {
+        // every level starts a new interception context so that the stack grows past its initial capacity
+        assertEquals(DEPTH, service.countdown(DEPTH));
+        assertEquals(2 * DEPTH + 1, CountingInterceptor.INVOCATIONS.size());
+        assertEquals(DEPTH + 1, ServiceDecorator.INVOCATIONS.size());
+        assertTrue(InterceptionDecorationContext.empty());
+        // the thread is left in a clean state and the next invocation is intercepted again
+        reset();
+        service.ping();
+        assertEquals(Collections.singletonList("ping"), CountingInterceptor.INVOCATIONS);
+        assertTrue(InterceptionDecorationContext.empty());
+    }
+
+    @Test
+    public void testContextEndedOnException() {
+        try {
+            service.fail();
+            fail();
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+        assertEquals(Collections.singletonList("fail"), CountingInterceptor.INVOCATIONS);
+        assertTrue(InterceptionDecorationContext.empty());
+    }
+}
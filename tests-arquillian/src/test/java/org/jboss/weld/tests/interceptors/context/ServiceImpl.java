@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.tests.interceptors.context;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+@Counted
+@ApplicationScoped
+public class ServiceImpl implements Service {
+
+    @Inject
+    Relay relay;
+
+    public void ping() {
+    }
+
+    public void pingSelf() {
+        ping();
+    }
+
+    public void pingThroughProxy() {
+        relay.ping();
+    }
+
+    public int countdown(int depth) {
+        if (depth == 0) {
+            return 0;
+        }
+        return relay.countdown(depth - 1) + 1;
+    }
+
+    public void fail() {
+        throw new IllegalArgumentException();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.direct;
+
+import java.io.IOException;
+
+import javax.enterprise.context.Dependent;
+
+@Doubling
+@Dependent
+public class Calculator {
+
+    private long total;
+
+    public int add(int a, int b) {
+        return a + b;
+    }
+
+    public String join(int count, String[] values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(values[i]);
+        }
+        return builder.toString();
+    }
+
+    public void accumulate(int value, long factor) {
+        total += value * factor;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void fail() throws IOException {
+        throw new IOException();
+    }
+}
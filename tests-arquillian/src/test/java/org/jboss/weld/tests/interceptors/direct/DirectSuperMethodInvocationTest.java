@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.direct;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.ProxyObject;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodHandler;
+import org.jboss.weld.interceptor.proxy.MethodInterceptionPlan;
+import org.jboss.weld.interceptor.proxy.SuperMethodInvoker;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that the intercepted method is invoked correctly when an intercepted subclass dispatches the end of an interceptor
+ * chain directly.
+ */
+@RunWith(Arquillian.class)
+public class DirectSuperMethodInvocationTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(DirectSuperMethodInvocationTest.class.getPackage());
+    }
+
+    @Inject
+    private Calculator calculator;
+
+    @Inject
+    private Calculator anotherCalculator;
+
+    @Test
+    public void testSubclassIsSuperMethodInvoker() {
+        assertTrue(calculator instanceof SuperMethodInvoker);
+    }
+
+    @Test
+    public void testModifiedParameters() {
+        assertEquals(5, calculator.add(2, 1));
+        assertEquals("ab", calculator.join(1, new String[] { "a", "b", "c", "d" }));
+        calculator.accumulate(3, 2L);
+        assertEquals(12L, calculator.getTotal());
+    }
+
+    @Test
+    public void testInterceptionPlanSharedByInstances() throws NoSuchMethodException {
+        assertEquals(2, calculator.add(1, 0));
+        assertEquals(2, anotherCalculator.add(1, 0));
+        Method add = Calculator.class.getMethod("add", int.class, int.class);
+        CombinedInterceptorAndDecoratorStackMethodHandler handler = (CombinedInterceptorAndDecoratorStackMethodHandler) ((ProxyObject) calculator).getHandler();
+        MethodInterceptionPlan plan = ((InterceptorMethodHandler) handler.getInterceptorMethodHandler()).getMethodInterceptionPlan(add);
+        assertNotNull(plan);
+        assertTrue(plan.isExecutable());
+        assertEquals(plan.getSuperMethodIndex(calculator), plan.getSuperMethodIndex(anotherCalculator));
+    }
+
+    @Test(expected = IOException.class)
+    public void testCheckedExceptionNotWrapped() throws IOException {
+        calculator.fail();
+    }
+}
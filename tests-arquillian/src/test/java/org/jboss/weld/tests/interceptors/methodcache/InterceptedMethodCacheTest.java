@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.methodcache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that an intercepted subclass looks up the {@link java.lang.reflect.Method} objects only once.
+ */
+@RunWith(Arquillian.class)
+public class InterceptedMethodCacheTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InterceptedMethodCacheTest.class.getPackage());
+    }
+
+    @Inject
+    private Calculator calculator;
+
+    @Test
+    public void testMethodObjectReused() throws Exception {
+        RecordingInterceptor.METHODS.clear();
+        assertEquals(3, calculator.add(1, 2));
+        assertEquals(5, calculator.add(2, 3));
+        assertEquals(6L, calculator.multiply(2L, 3L));
+        assertEquals(12L, calculator.multiply(3L, 4L));
+        assertEquals(4, RecordingInterceptor.METHODS.size());
+        assertEquals(Calculator.class.getMethod("add", int.class, int.class), RecordingInterceptor.METHODS.get(0));
+        assertSame(RecordingInterceptor.METHODS.get(0), RecordingInterceptor.METHODS.get(1));
+        assertEquals(Calculator.class.getMethod("multiply", long.class, long.class), RecordingInterceptor.METHODS.get(2));
+        assertSame(RecordingInterceptor.METHODS.get(2), RecordingInterceptor.METHODS.get(3));
+    }
+
+    @Test
+    public void testMethodFieldsVolatile() {
+        int fields = 0;
+        for (Field field : calculator.getClass().getDeclaredFields()) {
+            if (field.getType().equals(Method.class) && field.getName().startsWith("weld$$$method")) {
+                // the lazily resolved method is safely published to other threads
+                assertTrue(field.toString(), Modifier.isStatic(field.getModifiers()));
+                assertTrue(field.toString(), Modifier.isVolatile(field.getModifiers()));
+                fields++;
+            }
+        }
+        assertTrue(fields > 0);
+    }
+}
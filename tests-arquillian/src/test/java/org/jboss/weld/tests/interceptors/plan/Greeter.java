@@ -0,0 +1,38 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.plan;
+
+import java.io.Serializable;
+
+import javax.enterprise.context.Dependent;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.InvocationContext;
+
+@Decorated
+@Dependent
+@SuppressWarnings("serial")
+public class Greeter implements Serializable {
+
+    public String greet(String name) {
+        return "hello " + name;
+    }
+
+    @AroundInvoke
+    Object upperCase(InvocationContext ctx) throws Exception {
+        return ctx.proceed().toString().toUpperCase();
+    }
+}
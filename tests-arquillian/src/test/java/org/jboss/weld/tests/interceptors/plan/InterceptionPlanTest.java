@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.plan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.ProxyObject;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodHandler;
+import org.jboss.weld.interceptor.proxy.MethodInterceptionPlan;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that around-invoke interception plans are built once per intercepted class and method, shared by the instances and
+ * executed in the right order.
+ */
+@RunWith(Arquillian.class)
+public class InterceptionPlanTest {
+
+    private static final String EXPECTED = "[(HELLO WELD)]";
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).intercept(BracketInterceptor.class, ParenthesisInterceptor.class)
+                .addPackage(InterceptionPlanTest.class.getPackage()).addClass(Utils.class);
+    }
+
+    @Inject
+    private Instance<Greeter> greeters;
+
+    @Test
+    public void testInterceptorOrder() {
+        // the first invocation builds the plan, the second one executes the cached plan
+        Greeter greeter = greeters.get();
+        assertEquals(EXPECTED, greeter.greet("weld"));
+        assertEquals(EXPECTED, greeter.greet("weld"));
+    }
+
+    @Test
+    public void testPlanSharedByInstances() throws NoSuchMethodException {
+        Greeter greeter = greeters.get();
+        Greeter anotherGreeter = greeters.get();
+        assertEquals(EXPECTED, greeter.greet("weld"));
+        assertEquals(EXPECTED, anotherGreeter.greet("weld"));
+        Method greet = Greeter.class.getMethod("greet", String.class);
+        MethodInterceptionPlan plan = getHandler(greeter).getMethodInterceptionPlan(greet);
+        assertNotNull(plan);
+        assertTrue(plan.isExecutable());
+        assertFalse(plan.isInterceptorMethod());
+        assertSame(plan, getHandler(anotherGreeter).getMethodInterceptionPlan(greet));
+    }
+
+    @Test
+    public void testDeserializedInstanceIntercepted() throws Exception {
+        Greeter greeter = greeters.get();
+        assertEquals(EXPECTED, greeter.greet("weld"));
+        Greeter deserialized = Utils.deserialize(Utils.serialize(greeter));
+        assertEquals(EXPECTED, deserialized.greet("weld"));
+    }
+
+    private InterceptorMethodHandler getHandler(Object instance) {
+        CombinedInterceptorAndDecoratorStackMethodHandler handler = (CombinedInterceptorAndDecoratorStackMethodHandler) ((ProxyObject) instance).getHandler();
+        return (InterceptorMethodHandler) handler.getInterceptorMethodHandler();
+    }
+}
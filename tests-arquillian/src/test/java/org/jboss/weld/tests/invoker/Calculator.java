@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.invoker;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+@Dependent
+public class Calculator {
+
+    private long sum;
+    private String characters;
+
+    @Inject
+    void init(long value, double half) {
+        this.sum = value + (long) half;
+    }
+
+    @Inject
+    public void initCharacters(char[] characters) {
+        this.characters = new String(characters);
+    }
+
+    @Multiplied
+    public int multiply(int a, int b) {
+        return a * b;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public String getCharacters() {
+        return characters;
+    }
+}
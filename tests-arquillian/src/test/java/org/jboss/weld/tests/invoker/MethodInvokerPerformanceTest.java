@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.invoker;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+
+import javax.inject.Inject;
+
+import org.databene.contiperf.PerfTest;
+import org.databene.contiperf.junit.ContiPerfRule;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.injection.invoker.MethodInvoker;
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.tests.category.Performance;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+/**
+ * Compares the throughput of the reflective and the generated {@link MethodInvoker}. Both tests perform the same invocations
+ * so that the timings reported by ContiPerf can be compared directly.
+ */
+@Category(Performance.class)
+@RunWith(Arquillian.class)
+public class MethodInvokerPerformanceTest {
+
+    private static final int LOOPS = 1000000;
+
+    @Rule
+    public ContiPerfRule rule = new ContiPerfRule();
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).intercept(MultiplyingInterceptor.class).addPackage(MethodInvokerPerformanceTest.class.getPackage());
+    }
+
+    @Inject
+    private BeanManagerImpl manager;
+
+    @Test
+    @PerfTest(invocations = 50)
+    public void testReflectiveInvoker() throws Exception {
+        Method method = getMethod();
+        invoke(manager.getServices().get(MethodInvokerFactory.class).getReflectiveInvoker(method));
+    }
+
+    @Test
+    @PerfTest(invocations = 50)
+    public void testGeneratedInvoker() throws Exception {
+        Method method = getMethod();
+        invoke(manager.getServices().get(MethodInvokerFactory.class).getInvoker(method));
+    }
+
+    private void invoke(MethodInvoker invoker) throws Exception {
+        Calculator calculator = new Calculator();
+        long result = 0;
+        for (int i = 0; i < LOOPS; i++) {
+            result += (Integer) invoker.invoke(calculator, new Object[] { i, 2 });
+        }
+        assertEquals((long) LOOPS * (LOOPS - 1), result);
+    }
+
+    private static Method getMethod() throws NoSuchMethodException {
+        return Calculator.class.getDeclaredMethod("multiply", int.class, int.class);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.invoker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObserverException;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.injection.invoker.MethodInvoker;
+import org.jboss.weld.injection.invoker.MethodInvokerFactory;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that initializer, producer, observer and interceptor methods are invoked correctly by {@link MethodInvoker}s.
+ */
+@RunWith(Arquillian.class)
+public class MethodInvokerTest {
+
+    private static final String GENERATED_INVOKER = "$$WeldMethodInvoker";
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).intercept(MultiplyingInterceptor.class).addPackage(MethodInvokerTest.class.getPackage());
+    }
+
+    @Inject
+    private BeanManagerImpl manager;
+
+    @Inject
+    private Event<Object> event;
+
+    @Inject
+    private Calculator calculator;
+
+    @Test
+    public void testObserverMethods() {
+        PingObserver.reset();
+        event.select(Ping.class).fire(new Ping(1));
+        assertEquals(5, PingObserver.getObserved().size());
+        assertTrue(PingObserver.getObserved().containsAll(Arrays.asList("public1", "protected1", "package-private1", "private1", "static1")));
+    }
+
+    @Test
+    public void testObserverExceptions() {
+        IllegalStateException runtimeException = new IllegalStateException();
+        try {
+            event.select(Failure.class).fire(new Failure(runtimeException));
+            fail();
+        } catch (IllegalStateException expected) {
+            assertSame(runtimeException, expected);
+        }
+        IOException checkedException = new IOException();
+        try {
+            event.select(Failure.class).fire(new Failure(checkedException));
+            fail();
+        } catch (ObserverException expected) {
+            assertSame(checkedException, expected.getCause());
+        }
+    }
+
+    @Test
+    public void testProducerAndInitializerMethods() {
+        assertEquals(63, calculator.getSum());
+        assertEquals("42/21.0", calculator.getCharacters());
+    }
+
+    @Test
+    public void testInterceptorMethod() {
+        assertEquals(60, calculator.multiply(2, 3));
+    }
+
+    @Test
+    public void testGeneratedInvokers() throws Exception {
+        assertGenerated(PingObserver.class.getDeclaredMethod("observePublic", Ping.class));
+        assertGenerated(PingObserver.class.getDeclaredMethod("observeProtected", Ping.class));
+        assertGenerated(PingObserver.class.getDeclaredMethod("observePackagePrivate", Ping.class));
+        assertGenerated(PingObserver.class.getDeclaredMethod("observeStatic", Ping.class));
+        assertGenerated(NumberProducer.class.getDeclaredMethod("produceLong"));
+        assertGenerated(MultiplyingInterceptor.class.getDeclaredMethod("intercept", javax.interceptor.InvocationContext.class));
+        // private methods are invoked using reflection
+        assertFalse(getInvoker(PingObserver.class.getDeclaredMethod("observePrivate", Ping.class)).getClass().getName().contains(GENERATED_INVOKER));
+    }
+
+    @Test
+    public void testGeneratedInvokerConversions() throws Exception {
+        Calculator calculator = new Calculator();
+        MethodInvoker invoker = getInvoker(Calculator.class.getDeclaredMethod("multiply", int.class, int.class));
+        assertEquals(6, invoker.invoke(calculator, new Object[] { 2, 3 }));
+        assertNull(getInvoker(Calculator.class.getDeclaredMethod("init", long.class, double.class)).invoke(calculator, new Object[] { 1L, 2.0 }));
+        assertEquals(3L, calculator.getSum());
+        assertEquals(42L, getInvoker(NumberProducer.class.getDeclaredMethod("produceLong")).invoke(null, new Object[0]));
+        Exception exception = new Exception();
+        try {
+            getInvoker(PingObserver.class.getDeclaredMethod("observeFailure", Failure.class)).invoke(new PingObserver(), new Object[] { new Failure(exception) });
+            fail();
+        } catch (InvocationTargetException expected) {
+            assertSame(exception, expected.getCause());
+        }
+        // parameter conversion problems are reported the same way reflection reports them
+        assertIllegalArgument(invoker, calculator, new Object[] { "foo", 3 });
+        assertIllegalArgument(invoker, calculator, new Object[] { null, 3 });
+        assertIllegalArgument(invoker, calculator, new Object[] { 2 });
+        assertIllegalArgument(invoker, calculator, null);
+        assertIllegalArgument(invoker, new Object(), new Object[] { 2, 3 });
+        try {
+            invoker.invoke(null, new Object[] { 2, 3 });
+            fail();
+        } catch (NullPointerException expected) {
+        }
+    }
+
+    private void assertIllegalArgument(MethodInvoker invoker, Object instance, Object[] parameters) throws Exception {
+        try {
+            invoker.invoke(instance, parameters);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private MethodInvoker getInvoker(Method method) {
+        return manager.getServices().get(MethodInvokerFactory.class).getInvoker(method);
+    }
+
+    private void assertGenerated(Method method) {
+        String invokerClassName = getInvoker(method).getClass().getName();
+        assertTrue(invokerClassName, invokerClassName.startsWith(method.getDeclaringClass().getName() + GENERATED_INVOKER));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.invoker;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+@ApplicationScoped
+public class PingObserver {
+
+    private static final List<String> OBSERVED = new CopyOnWriteArrayList<String>();
+
+    public static void reset() {
+        OBSERVED.clear();
+    }
+
+    public static List<String> getObserved() {
+        return OBSERVED;
+    }
+
+    public void observePublic(@Observes Ping ping) {
+        OBSERVED.add("public" + ping.getValue());
+    }
+
+    protected void observeProtected(@Observes Ping ping) {
+        OBSERVED.add("protected" + ping.getValue());
+    }
+
+    void observePackagePrivate(@Observes Ping ping) {
+        OBSERVED.add("package-private" + ping.getValue());
+    }
+
+    @SuppressWarnings("unused")
+    private void observePrivate(@Observes Ping ping) {
+        OBSERVED.add("private" + ping.getValue());
+    }
+
+    static void observeStatic(@Observes Ping ping) {
+        OBSERVED.add("static" + ping.getValue());
+    }
+
+    void observeFailure(@Observes Failure failure) throws Exception {
+        throw failure.getException();
+    }
+}
@@ -23,6 +23,7 @@ import org.jboss.weld.Container;
 import org.jboss.weld.bootstrap.api.Singleton;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
 import org.jboss.weld.serialization.spi.ProxyServices;
 import org.jboss.weld.util.reflection.Reflections;
 import org.testng.annotations.AfterClass;
@@ -60,11 +61,18 @@ public class AbstractClusterTest {
     }
 
     protected TestContainer bootstrapContainer(int id, Collection<Class<?>> classes) {
+        return bootstrapContainer(id, classes, false);
+    }
+
+    protected TestContainer bootstrapContainer(int id, Collection<Class<?>> classes, boolean beanIdentifierIndex) {
         // Bootstrap container
         SwitchableSingletonProvider.use(id);
 
         TestContainer container = new TestContainer(new FlatDeployment(new BeanDeploymentArchiveImpl(classes)));
         container.getDeployment().getServices().add(ProxyServices.class, new SwitchableCLProxyServices());
+        if (beanIdentifierIndex) {
+            container.getDeployment().getServices().add(BeanIdentifierIndex.class, new BeanIdentifierIndex());
+        }
         container.startContainer();
         container.ensureRequestActive();
 
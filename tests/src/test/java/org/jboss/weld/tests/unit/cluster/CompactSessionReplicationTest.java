@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.cluster;
+
+import java.io.InvalidObjectException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.mock.cluster.AbstractClusterTest;
+import org.jboss.weld.test.util.Utils;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies session replication with the compact, dictionary-encoded serialized form of contextual instances.
+ */
+public class CompactSessionReplicationTest extends AbstractClusterTest {
+
+    private static final Collection<Class<?>> CLASSES = Arrays.<Class<?>>asList(Stable.class, Horse.class, Fodder.class, Foo.class);
+
+    @Test
+    public void testSessionReplication() throws Exception {
+        TestContainer container1 = bootstrapContainer(1, CLASSES, true);
+        BeanManagerImpl beanManager1 = getBeanManager(container1);
+        TestContainer container2 = bootstrapContainer(2, CLASSES, true);
+        BeanManagerImpl beanManager2 = getBeanManager(container2);
+
+        use(1);
+        Stable stable1 = Utils.getReference(beanManager1, Stable.class);
+        stable1.getFodder().setAmount(10);
+        Utils.getReference(beanManager1, Foo.class).setName("container 1");
+
+        replicateSession(1, container1, 2, container2);
+
+        use(2);
+        Stable stable2 = Utils.getReference(beanManager2, Stable.class);
+        assert stable2.getFodder().getAmount() == 10;
+        assert Utils.getReference(beanManager2, Foo.class).getName().equals("container 1");
+        stable2.getFodder().setAmount(11);
+
+        // replicate the deserialized (and not yet resolved) instances back
+        replicateSession(2, container2, 1, container1);
+
+        use(1);
+        assert stable1.getFodder().getAmount() == 11;
+
+        use(2);
+        container2.stopContainer();
+        use(1);
+        container1.stopContainer();
+    }
+
+    @Test
+    public void testDeserializationFailsWithoutIndex() throws Exception {
+        TestContainer container1 = bootstrapContainer(1, CLASSES, true);
+        BeanManagerImpl beanManager1 = getBeanManager(container1);
+        TestContainer container2 = bootstrapContainer(2, CLASSES, false);
+
+        use(1);
+        Utils.getReference(beanManager1, Foo.class).setName("foo");
+        byte[] bytes = serialize(container1.getSessionStore());
+
+        use(2);
+        try {
+            deserialize(bytes);
+            assert false : "Expected InvalidObjectException";
+        } catch (InvalidObjectException expected) {
+        }
+
+        container2.stopContainer();
+        use(1);
+        container1.stopContainer();
+    }
+
+    @Test
+    public void testSerializedSessionIsSmaller() throws Exception {
+        TestContainer container1 = bootstrapContainer(1, CLASSES, true);
+        BeanManagerImpl beanManager1 = getBeanManager(container1);
+        TestContainer container2 = bootstrapContainer(2, CLASSES, false);
+        BeanManagerImpl beanManager2 = getBeanManager(container2);
+
+        use(1);
+        Utils.getReference(beanManager1, Stable.class).getFodder().setAmount(10);
+        Utils.getReference(beanManager1, Foo.class).setName("foo");
+        int compactSize = serialize(container1.getSessionStore()).length;
+
+        use(2);
+        Utils.getReference(beanManager2, Stable.class).getFodder().setAmount(10);
+        Utils.getReference(beanManager2, Foo.class).setName("foo");
+        int size = serialize(container2.getSessionStore()).length;
+
+        assert compactSize < size : "Compact form: " + compactSize + " bytes, full form: " + size + " bytes";
+
+        use(2);
+        container2.stopContainer();
+        use(1);
+        container1.stopContainer();
+    }
+}
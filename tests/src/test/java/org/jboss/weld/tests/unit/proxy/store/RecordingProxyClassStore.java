@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.proxy.store;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.weld.bean.proxy.store.FileSystemProxyClassStore;
+import org.jboss.weld.bean.proxy.store.ProxyClassStore;
+
+/**
+ * {@link FileSystemProxyClassStore} which records the proxy classes loaded from and written to the store.
+ */
+public class RecordingProxyClassStore implements ProxyClassStore {
+
+    private final ProxyClassStore delegate;
+    private final List<String> loaded = new ArrayList<String>();
+    private final List<String> stored = new ArrayList<String>();
+
+    public RecordingProxyClassStore(File directory) {
+        this.delegate = new FileSystemProxyClassStore(directory, true);
+    }
+
+    public byte[] load(String className, String fingerprint) {
+        byte[] bytecode = delegate.load(className, fingerprint);
+        if (bytecode != null) {
+            loaded.add(className);
+        }
+        return bytecode;
+    }
+
+    public void store(String className, String fingerprint, byte[] bytecode) {
+        stored.add(className);
+        delegate.store(className, fingerprint, bytecode);
+    }
+
+    public List<String> getLoaded() {
+        return loaded;
+    }
+
+    public List<String> getStored() {
+        return stored;
+    }
+
+    public void cleanup() {
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2013, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.proxy.store;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.BeanDeploymentArchiveImpl;
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.FlatDeployment;
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.bean.proxy.store.ProxyClassStore;
+import org.jboss.weld.mock.cluster.AbstractClusterTest;
+import org.jboss.weld.mock.cluster.SwitchableCLProxyServices;
+import org.jboss.weld.serialization.spi.ProxyServices;
+import org.jboss.weld.test.util.Utils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that a proxy class is loaded from the {@link ProxyClassStore} and that a stale proxy class is generated again.
+ * Every container uses a new class loader for proxies so that the proxy class is not already defined.
+ */
+public class StoredProxyClassTest extends AbstractClusterTest {
+
+    private static final String FINGERPRINT_SUFFIX = ".fingerprint";
+
+    private File directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = File.createTempFile("weld-proxies", "");
+        directory.delete();
+        directory.mkdir();
+    }
+
+    @AfterMethod
+    public void deleteDirectory() {
+        delete(directory);
+    }
+
+    @Test
+    public void testProxyClassLoadedFromStore() {
+        RecordingProxyClassStore store1 = new RecordingProxyClassStore(directory);
+        String proxyClassName = invokeCounter(1, store1);
+        assert store1.getStored().contains(proxyClassName);
+        assert !store1.getLoaded().contains(proxyClassName);
+
+        RecordingProxyClassStore store2 = new RecordingProxyClassStore(directory);
+        assert proxyClassName.equals(invokeCounter(2, store2));
+        assert store2.getLoaded().contains(proxyClassName);
+        assert !store2.getStored().contains(proxyClassName);
+    }
+
+    @Test
+    public void testStaleProxyClassGeneratedAgain() throws IOException {
+        RecordingProxyClassStore store1 = new RecordingProxyClassStore(directory);
+        String proxyClassName = invokeCounter(1, store1);
+        assert store1.getStored().contains(proxyClassName);
+
+        // mimic a proxy class stored by a different version
+        File fingerprint = new File(directory, proxyClassName.replace('.', File.separatorChar) + FINGERPRINT_SUFFIX);
+        assert fingerprint.isFile();
+        FileOutputStream out = new FileOutputStream(fingerprint);
+        try {
+            out.write("stale".getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+
+        RecordingProxyClassStore store2 = new RecordingProxyClassStore(directory);
+        assert proxyClassName.equals(invokeCounter(2, store2));
+        assert !store2.getLoaded().contains(proxyClassName);
+        assert store2.getStored().contains(proxyClassName);
+    }
+
+    /**
+     * Starts a container with the given store, invokes the client proxy of {@link Counter} and returns the name of the
+     * proxy class.
+     */
+    private String invokeCounter(int id, ProxyClassStore store) {
+        use(id);
+        TestContainer container = new TestContainer(new FlatDeployment(new BeanDeploymentArchiveImpl(Collections.<Class<?>>singleton(Counter.class))));
+        container.getDeployment().getServices().add(ProxyServices.class, new SwitchableCLProxyServices());
+        container.getDeployment().getServices().add(ProxyClassStore.class, store);
+        container.startContainer();
+        container.ensureRequestActive();
+        try {
+            Counter counter = Utils.getReference(getBeanManager(container), Counter.class);
+            assert counter.increment() == 1;
+            assert counter.getClass() != Counter.class;
+            return counter.getClass().getName();
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+}